@@ -0,0 +1,24 @@
+package com.example.demo.application.dto.lobby;
+
+import com.example.demo.domain.model.lobby.LobbyStatus;
+
+/**
+ * 대기실 순번 상태 응답 DTO
+ */
+public record LobbyStatusResponse(
+        Long popupId,
+        long sequence,
+        long position,
+        boolean released,
+        long estimatedWaitSeconds
+) {
+    public static LobbyStatusResponse from(LobbyStatus status) {
+        return new LobbyStatusResponse(
+                status.popupId(),
+                status.sequence(),
+                status.position(),
+                status.released(),
+                status.estimatedWaitSeconds()
+        );
+    }
+}
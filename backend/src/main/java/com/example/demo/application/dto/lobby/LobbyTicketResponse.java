@@ -0,0 +1,13 @@
+package com.example.demo.application.dto.lobby;
+
+/**
+ * 대기실 입장 응답 DTO
+ */
+public record LobbyTicketResponse(
+        Long popupId,
+        long sequence,
+        long position,
+        long estimatedWaitSeconds,
+        String lobbyToken
+) {
+}
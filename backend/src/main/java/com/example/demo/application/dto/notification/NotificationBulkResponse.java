@@ -0,0 +1,6 @@
+package com.example.demo.application.dto.notification;
+
+public record NotificationBulkResponse(
+        int affectedCount
+) {
+}
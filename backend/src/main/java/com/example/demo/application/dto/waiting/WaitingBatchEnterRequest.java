@@ -0,0 +1,13 @@
+package com.example.demo.application.dto.waiting;
+
+import java.util.List;
+
+/**
+ * 대기열 일괄 입장 처리 요청 DTO.
+ * waitingIds가 있으면 해당 대기들을, 없으면 앞에서부터 count팀을 입장 처리한다.
+ */
+public record WaitingBatchEnterRequest(
+        Integer count,
+        List<Long> waitingIds
+) {
+}
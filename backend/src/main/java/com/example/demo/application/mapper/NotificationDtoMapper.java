@@ -3,35 +3,17 @@ package com.example.demo.application.mapper;
 import com.example.demo.application.dto.notification.NotificationListResponse;
 import com.example.demo.application.dto.notification.NotificationResponse;
 import com.example.demo.application.dto.notification.RelatedResourceResponse;
-import com.example.demo.common.exception.BusinessException;
-import com.example.demo.common.exception.ErrorType;
 import com.example.demo.domain.model.CursorResult;
-import com.example.demo.domain.model.notification.DomainEvent;
 import com.example.demo.domain.model.notification.Notification;
-import com.example.demo.domain.model.popup.Popup;
-import com.example.demo.domain.model.waiting.Waiting;
+import com.example.demo.domain.model.notification.RelatedResource;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
-import java.util.Map;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Component
 public class NotificationDtoMapper {
 
-    // 대기 도메인 이벤트 타입별 리소스 변환 전략
-    private static final Map<String, Function<Waiting, List<RelatedResourceResponse>>> WAITING_EVENT_STRATEGIES = Map.of(
-            "WAITING_CONFIRMED", NotificationDtoMapper::createWaitingConfirmedResources,
-            "ENTER_3TEAMS_BEFORE", NotificationDtoMapper::createEnterNotificationResources,
-            "ENTER_NOW", NotificationDtoMapper::createEnterNotificationResources,
-            "ENTER_TIME_OVER", NotificationDtoMapper::createEnterNotificationResources,
-            "NOSHOW_FIRST", NotificationDtoMapper::createNoShowFirstResources,
-            "NOSHOW_SECOND", NotificationDtoMapper::createNoShowSecondResources
-    );
-
     public NotificationListResponse toCursorResponse(CursorResult<Notification> cursorResult) {
         List<NotificationResponse> content = cursorResult.content().stream()
                 .map(this::toNotificationResponse)
@@ -53,94 +35,14 @@ public class NotificationDtoMapper {
                 notification.getContent(),
                 notification.getCreatedAt(),
                 notification.isRead(),
-                toRelatedResourceResponses(notification.getEvent())
+                toRelatedResourceResponses(notification.getRelatedResources())
         );
     }
 
-    private List<RelatedResourceResponse> toRelatedResourceResponses(DomainEvent<?> event) {
-        Object source = event.getSource();
-        String eventType = event.getEventType();
-
-        return switch (source) { // Java 17의 Pattern Matching Switch 문법
-            case Waiting waiting -> processWaitingEvent(waiting, eventType);
-            default ->
-                    throw new BusinessException(ErrorType.UNSUPPORTED_NOTIFICATION_TYPE, source.getClass().getSimpleName());
-        };
-    }
-
-    private List<RelatedResourceResponse> processWaitingEvent(Waiting waiting, String eventType) {
-        return WAITING_EVENT_STRATEGIES.getOrDefault(eventType, w -> List.of())
-                .apply(waiting);
-    }
-
-    // 대기 확정 알림: Waiting과 Popup 정보 모두 필요
-    private static List<RelatedResourceResponse> createWaitingConfirmedResources(Waiting waiting) {
-        List<RelatedResourceResponse> resources = new ArrayList<>();
-
-        // Popup 리소스 추가 (스토어명)
-        Popup popup = waiting.popup();
-        if (popup != null) {
-            resources.add(new RelatedResourceResponse("POPUP", Map.of(
-                    "id", popup.getId(),
-                    "storeName", popup.getName()
-            )));
-        }
-
-        // Waiting 리소스 추가 (대기 번호, 등록 시간 등)
-        resources.add(new RelatedResourceResponse("WAITING", Map.of(
-                "id", waiting.id(),
-                "waitingNumber", waiting.waitingNumber(),
-                "registeredAt", waiting.registeredAt()
-        )));
-
-        return resources;
-    }
-
-    // 입장 관련 알림: Waiting과 Popup 정보 필요
-    private static List<RelatedResourceResponse> createEnterNotificationResources(Waiting waiting) {
-        List<RelatedResourceResponse> resources = new ArrayList<>();
-
-        // Popup 리소스 추가
-        Popup popup = waiting.popup();
-        if (popup != null) {
-            resources.add(new RelatedResourceResponse("POPUP", Map.of(
-                    "id", popup.getId(),
-                    "storeName", popup.getName(),
-                    "address", popup.getLocation().addressName()
-            )));
-        }
-
-        // Waiting 리소스 추가
-        resources.add(new RelatedResourceResponse("WAITING", Map.of(
-                "id", waiting.id(),
-                "waitingNumber", waiting.waitingNumber()
-        )));
-
-        return resources;
-    }
-
-    private static List<RelatedResourceResponse> createNoShowFirstResources(Waiting waiting) {
-        List<RelatedResourceResponse> resources = new ArrayList<>();
-        // Popup 리소스 추가
-        Popup popup = waiting.popup();
-        if (popup != null) {
-            resources.add(new RelatedResourceResponse("POPUP", Map.of(
-                    "id", popup.getId(),
-                    "storeName", popup.getName(),
-                    "address", popup.getLocation().addressName()
-            )));
-        }
-
-        // Waiting 리소스 추가
-        resources.add(new RelatedResourceResponse("WAITING", Map.of(
-                "id", waiting.id(),
-                "waitingNumber", waiting.waitingNumber()
-        )));
-
-        return resources;
-    }
-
-    private static List<RelatedResourceResponse> createNoShowSecondResources(Waiting waiting) {
-        return Collections.emptyList();
+    // 알림 생성 시 저장된 스냅샷으로 응답을 구성하므로 원본 대기/팝업을 다시 조회하지 않는다
+    private List<RelatedResourceResponse> toRelatedResourceResponses(List<RelatedResource> resources) {
+        return resources.stream()
+                .map(resource -> new RelatedResourceResponse(resource.type(), resource.data()))
+                .toList();
     }
 }
@@ -3,12 +3,12 @@ package com.example.demo.application.service;
 import com.example.demo.application.dto.image.ImageUploadResponse;
 import com.example.demo.application.dto.popup.PopupCreateRequest;
 import com.example.demo.application.dto.popup.PopupCreateResponse;
+import com.example.demo.application.dto.waiting.WaitingBatchEnterRequest;
 import com.example.demo.common.exception.BusinessException;
 import com.example.demo.common.exception.ErrorType;
 import com.example.demo.config.AppProperties;
 import com.example.demo.domain.model.popup.Popup;
 import com.example.demo.domain.model.popup.PopupQuery;
-import com.example.demo.domain.model.waiting.Waiting;
 import com.example.demo.domain.model.waiting.WaitingQuery;
 import com.example.demo.domain.model.waiting.WaitingStatus;
 import com.example.demo.domain.port.PopupPort;
@@ -33,6 +33,7 @@ public class AdminService {
     private final PopupService popupService;
     private final ImageService imageService;
     private final WaitingService waitingService;
+    private final LobbyService lobbyService;
 
     /**
      * 관리자 비밀번호 검증 및 세션 토큰 발급
@@ -130,26 +131,17 @@ public class AdminService {
         popupPort.findById(popupId)
                 .orElseThrow(() -> new BusinessException(ErrorType.POPUP_NOT_FOUND, String.valueOf(popupId)));
 
+        // 페이지 범위만 DB에서 조회
         WaitingQuery query = WaitingQuery.forPopup(popupId, WaitingStatus.WAITING);
 
-        List<Waiting> allWaitings = waitingPort.findByQuery(query);
-
-        // 수동 페이지네이션
-        int start = page * size;
-        int end = Math.min(start + size, allWaitings.size());
-
-        if (start >= allWaitings.size()) {
-            return List.of();
-        }
-
-        return allWaitings.subList(start, end).stream()
-                .map(waiting -> new AdminWaitingSummary(
-                        waiting.id(),
-                        waiting.waitingNumber(),
-                        waiting.waitingPersonName(),
-                        waiting.peopleCount(),
-                        waiting.contactEmail(),
-                        waiting.registeredAt()
+        return waitingPort.findListItems(query, (long) page * size, size).stream()
+                .map(item -> new AdminWaitingSummary(
+                        item.id(),
+                        item.waitingNumber(),
+                        item.waitingPersonName(),
+                        item.peopleCount(),
+                        item.contactEmail(),
+                        item.registeredAt()
                 ))
                 .toList();
     }
@@ -166,6 +158,18 @@ public class AdminService {
         log.info("[Admin] 대기 입장 처리 완료: waitingId={}", waitingId);
     }
 
+    /**
+     * 대기 일괄 입장 처리 (관리자용)
+     * 실제 입장 처리 로직은 WaitingService에 위임
+     */
+    @Transactional
+    public List<Long> enterWaitings(Long popupId, WaitingBatchEnterRequest request) {
+        List<Long> enteredIds = waitingService.enterWaitings(popupId, request.count(), request.waitingIds());
+
+        log.info("[Admin] 대기 일괄 입장 처리 완료: popupId={}, waitingIds={}", popupId, enteredIds);
+        return enteredIds;
+    }
+
     /**
      * 특정 팝업의 전체 대기 수 조회
      */
@@ -173,7 +177,21 @@ public class AdminService {
     public int getTotalWaitingCount(Long popupId) {
         WaitingQuery query = WaitingQuery.forPopup(popupId, WaitingStatus.WAITING);
 
-        return waitingPort.findByQuery(query).size();
+        return (int) waitingPort.countByQuery(query);
+    }
+
+    /**
+     * 팝업 대기실 열기
+     */
+    public void openLobby(Long popupId, int releasePerSecond) {
+        lobbyService.open(popupId, releasePerSecond);
+    }
+
+    /**
+     * 팝업 대기실 닫기
+     */
+    public void closeLobby(Long popupId) {
+        lobbyService.close(popupId);
     }
 
     /**
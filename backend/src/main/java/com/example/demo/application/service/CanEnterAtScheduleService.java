@@ -1,41 +1,41 @@
 package com.example.demo.application.service;
 
-import com.example.demo.domain.model.waiting.Waiting;
-import com.example.demo.domain.model.waiting.WaitingQuery;
-import com.example.demo.domain.port.WaitingPort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.List;
 
 import static java.util.concurrent.TimeUnit.SECONDS;
 
+/**
+ * 입장 가능 시간 누락 보정 스케줄러.
+ * 입장 가능 시간은 대기가 맨 앞(0번)이 되는 작업(대기 생성, 입장/노쇼 후 순번 당김)에서 함께 설정되므로,
+ * 이 스케줄러는 그 과정에서 누락된 대기만 낮은 빈도로 보정한다.
+ * 임대는 보정 트랜잭션 밖에서 먼저 얻는다. 임대 획득 실패(키 중복)가 보정 트랜잭션을 중단시키거나,
+ * 임대 행 잠금이 보정이 끝날 때까지 유지되지 않게 하기 위함이다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class CanEnterAtScheduleService {
 
-    private final WaitingPort waitingPort;
+    private static final String JOB_NAME = "can-enter-at-safety-net";
 
-    private void logEach(Waiting waiting) {
-        log.info("입장 가능 시간 설정 처리 시작 - 대기 ID: {}, 회원 ID: {}, 팝업 ID: {}",
-                waiting.id(), waiting.member().id(), waiting.popup().getId());
-    }
+    private final SchedulerLeaseService schedulerLeaseService;
+    private final WaitingService waitingService;
 
-    @Scheduled(fixedRate = 5, timeUnit = SECONDS)
-    @Transactional
+    @Scheduled(fixedDelayString = "${app.waiting.can-enter-at.safety-net-interval:60}", timeUnit = SECONDS)
     public void processCanEnterAt() {
-        log.info("입장 가능 시간 설정 스케줄러 시작: {}", LocalDateTime.now());
-        List<Waiting> canEnterWaiting = waitingPort.findByQuery(WaitingQuery.forCanEnterWaiting());
-        log.info("입장 가능 시간 설정 처리 대상: {}명", canEnterWaiting.size());
-        List<Waiting> afterProcess = waitingPort.saveAll(
-                canEnterWaiting.stream().peek(this::logEach).map(Waiting::markAsCanEnter).toList()
-        );
-        log.info("입장 가능 시간 설정 처리 완료: {}명", afterProcess.size());
-        log.info("입장 가능 시간 설정 스케줄러 종료: {}", LocalDateTime.now());
+        if (!schedulerLeaseService.tryAcquire(JOB_NAME)) {
+            return; // 다른 노드가 실행 중
+        }
+        log.debug("입장 가능 시간 보정 스케줄러 시작: {}", LocalDateTime.now());
+        int affected = waitingService.markMissingCanEnterAt();
+        if (affected > 0) {
+            log.info("입장 가능 시간 설정 처리 완료: {}명", affected);
+        }
+        log.debug("입장 가능 시간 보정 스케줄러 종료: {}", LocalDateTime.now());
     }
 }
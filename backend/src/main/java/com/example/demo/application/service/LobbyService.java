@@ -0,0 +1,217 @@
+package com.example.demo.application.service;
+
+import com.example.demo.application.dto.lobby.LobbyStatusResponse;
+import com.example.demo.application.dto.lobby.LobbyTicketResponse;
+import com.example.demo.common.exception.BusinessException;
+import com.example.demo.common.exception.ErrorType;
+import com.example.demo.common.exception.RetryableBusinessException;
+import com.example.demo.common.jwt.LobbyTokenProvider;
+import com.example.demo.common.jwt.LobbyTokenProvider.LobbyClaims;
+import com.example.demo.domain.model.lobby.LobbyRoom;
+import com.example.demo.domain.model.lobby.LobbyStatus;
+import com.example.demo.domain.model.lobby.LobbyWatermark;
+import com.example.demo.domain.port.LobbyPort;
+import com.example.demo.domain.port.NotificationEventPort;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * 팝업 오픈 대기실 서비스.
+ * 대기실이 열린 팝업은 순번 토큰으로 허용된 회원만 대기 신청할 수 있고,
+ * 주기마다 정해진 수만큼 순번을 허용하며 허용 순번 경계가 바뀌었을 때만 SSE로 전송한다.
+ * 대기실 상태는 노드 메모리에 있으므로, 여러 노드로 운영할 때는 persistence를 켜서 열고 닫은 상태를 DB로 공유한다.
+ * 순번 발급과 허용은 노드별로 이루어지므로 한 팝업의 대기실 요청은 같은 노드로 라우팅되어야 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LobbyService {
+
+    private final LobbyTokenProvider lobbyTokenProvider;
+    private final LobbyPort lobbyPort;
+    private final NotificationEventPort notificationEventPort;
+
+    private final Map<Long, LobbyRoom> rooms = new ConcurrentHashMap<>();
+    // 대기실별 대기 중인 회원 전체에게 마지막으로 경계를 전송한 시각(ms)
+    private final Map<Long, Long> lastBroadcastMillis = new ConcurrentHashMap<>();
+
+    @Value("${app.lobby.persistence.enabled:false}")
+    private boolean persistenceEnabled;
+
+    @Value("${app.lobby.release-interval:1000}")
+    private long releaseIntervalMillis;
+
+    @Value("${app.lobby.broadcast-interval:5000}")
+    private long broadcastIntervalMillis;
+
+    @PostConstruct
+    public void restore() {
+        if (!persistenceEnabled) {
+            return;
+        }
+        lobbyPort.findAllOpened().forEach(room -> rooms.put(room.getPopupId(), room));
+        log.info("대기실 상태 복원 완료 - {}개", rooms.size());
+    }
+
+    /**
+     * 팝업의 대기실을 연다. (관리자용)
+     */
+    public void open(Long popupId, int releasePerSecond) {
+        if (releasePerSecond <= 0) {
+            throw new BusinessException(ErrorType.INVALID_LOBBY_RELEASE_RATE, String.valueOf(releasePerSecond));
+        }
+        LobbyRoom room = LobbyRoom.open(popupId, releasePerSecond);
+        rooms.put(popupId, room);
+        if (persistenceEnabled) {
+            lobbyPort.save(room);
+        }
+        log.info("대기실 오픈 - 팝업 ID: {}, 초당 허용 인원: {}", popupId, releasePerSecond);
+    }
+
+    /**
+     * 팝업의 대기실을 닫는다. 이후 대기 신청은 대기실 검증 없이 처리된다. (관리자용)
+     */
+    public void close(Long popupId) {
+        rooms.remove(popupId);
+        lastBroadcastMillis.remove(popupId);
+        if (persistenceEnabled) {
+            lobbyPort.close(popupId);
+        }
+        log.info("대기실 종료 - 팝업 ID: {}", popupId);
+    }
+
+    /**
+     * 대기실에 입장하여 순번 토큰을 발급받는다.
+     */
+    public LobbyTicketResponse enter(Long popupId, Long memberId) {
+        LobbyRoom room = getRoom(popupId);
+        long sequence = room.join(memberId);
+        LobbyStatus status = room.statusOf(sequence);
+        return new LobbyTicketResponse(
+                popupId,
+                sequence,
+                status.position(),
+                status.estimatedWaitSeconds(),
+                lobbyTokenProvider.createToken(popupId, memberId, sequence)
+        );
+    }
+
+    /**
+     * 순번 토큰으로 현재 대기실 상태를 조회한다.
+     */
+    public LobbyStatusResponse getStatus(Long popupId, String lobbyToken) {
+        LobbyClaims claims = parseToken(popupId, lobbyToken);
+        return LobbyStatusResponse.from(getRoom(popupId).statusOf(claims.sequence()));
+    }
+
+    /**
+     * 대기실이 열린 팝업이면 순번이 허용된 회원인지 검증한다.
+     * 대기실이 없는 팝업은 그대로 통과한다.
+     */
+    public void verifyReleased(Long popupId, Long memberId, String lobbyToken) {
+        LobbyRoom room = rooms.get(popupId);
+        if (room == null) {
+            return;
+        }
+
+        LobbyClaims claims = parseToken(popupId, lobbyToken);
+        if (!Objects.equals(claims.memberId(), memberId)) {
+            throw new BusinessException(ErrorType.LOBBY_TOKEN_INVALID, String.valueOf(popupId));
+        }
+        if (!room.isReleased(claims.sequence())) {
+            LobbyStatus status = room.statusOf(claims.sequence());
+            throw new RetryableBusinessException(ErrorType.LOBBY_NOT_RELEASED,
+                    "남은 인원: " + status.position(), Math.max(1, status.estimatedWaitSeconds()));
+        }
+    }
+
+    /**
+     * 주기마다 대기실별로 다음 순번 묶음을 허용하고, 허용 순번 경계가 바뀐 경우에만 전송한다.
+     * 이번에 허용된 회원에게는 바로 보내고, 아직 기다리는 회원에게는 전송 주기마다 한 번만 보낸다.
+     * 회원은 경계와 자신의 순번으로 남은 인원을 계산하므로 그 사이에도 화면을 갱신할 수 있다.
+     */
+    @Scheduled(fixedRateString = "${app.lobby.release-interval:1000}")
+    public void releaseAndBroadcast() {
+        long now = System.currentTimeMillis();
+        rooms.values().forEach(room -> {
+            long previouslyReleased = room.release(releaseIntervalMillis);
+            long released = room.getReleasedSequence();
+            if (released == previouslyReleased) {
+                return;
+            }
+
+            LobbyWatermark watermark = room.watermark();
+            room.forEachMemberBetween(previouslyReleased, released, (memberId, sequence) -> sendWatermark(memberId, watermark));
+            Long lastBroadcast = lastBroadcastMillis.get(room.getPopupId());
+            if (lastBroadcast == null || now - lastBroadcast >= broadcastIntervalMillis) {
+                lastBroadcastMillis.put(room.getPopupId(), now);
+                room.forEachMemberAfter(released, (memberId, sequence) -> sendWatermark(memberId, watermark));
+            }
+
+            if (persistenceEnabled) {
+                try {
+                    lobbyPort.saveProgress(room);
+                } catch (Exception e) {
+                    log.warn("대기실 상태 저장 실패 - 팝업 ID: {}, 에러: {}", room.getPopupId(), e.getMessage());
+                }
+            }
+        });
+    }
+
+    /**
+     * 다른 노드에서 열거나 닫은 대기실을 반영한다.
+     */
+    @Scheduled(fixedDelayString = "${app.lobby.sync-interval:5}", timeUnit = SECONDS)
+    public void syncRooms() {
+        if (!persistenceEnabled) {
+            return;
+        }
+        try {
+            Map<Long, LobbyRoom> opened = lobbyPort.findAllOpened().stream()
+                    .collect(Collectors.toMap(LobbyRoom::getPopupId, Function.identity()));
+            rooms.keySet().removeIf(popupId -> !opened.containsKey(popupId));
+            lastBroadcastMillis.keySet().retainAll(rooms.keySet());
+            opened.forEach(rooms::putIfAbsent);
+        } catch (Exception e) {
+            log.warn("대기실 상태 동기화 실패 - 에러: {}", e.getMessage());
+        }
+    }
+
+    private void sendWatermark(Long memberId, LobbyWatermark watermark) {
+        if (notificationEventPort.isConnected(memberId)) {
+            notificationEventPort.sendLobbyWatermark(memberId, watermark);
+        }
+    }
+
+    private LobbyRoom getRoom(Long popupId) {
+        LobbyRoom room = rooms.get(popupId);
+        if (room == null) {
+            throw new BusinessException(ErrorType.LOBBY_NOT_OPENED, String.valueOf(popupId));
+        }
+        return room;
+    }
+
+    private LobbyClaims parseToken(Long popupId, String lobbyToken) {
+        if (lobbyToken == null || lobbyToken.isBlank()) {
+            throw new BusinessException(ErrorType.LOBBY_TOKEN_REQUIRED, String.valueOf(popupId));
+        }
+        LobbyClaims claims = lobbyTokenProvider.parse(lobbyToken)
+                .orElseThrow(() -> new BusinessException(ErrorType.LOBBY_TOKEN_INVALID, String.valueOf(popupId)));
+        if (!Objects.equals(claims.popupId(), popupId)) {
+            throw new BusinessException(ErrorType.LOBBY_TOKEN_INVALID, String.valueOf(popupId));
+        }
+        return claims;
+    }
+}
@@ -0,0 +1,360 @@
+package com.example.demo.application.service;
+
+import com.example.demo.application.dto.notification.WaitingEntryNotificationRequest;
+import com.example.demo.common.exception.BusinessException;
+import com.example.demo.common.exception.ErrorType;
+import com.example.demo.domain.model.notification.Notification;
+import com.example.demo.domain.model.notification.NotificationOutboxMessage;
+import com.example.demo.domain.model.notification.OutboxChannel;
+import com.example.demo.domain.port.NotificationEventPort;
+import com.example.demo.domain.port.NotificationOutboxPort;
+import com.example.demo.domain.port.NotificationPort;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * 알림 발송(SSE, 이메일)을 아웃박스로 처리하는 서비스.
+ * 알림 저장 트랜잭션 안에서는 아웃박스 행만 기록하고, 실제 발송은 커밋 후 전용 스레드에서 일괄 처리한다.
+ * 롤백된 트랜잭션의 알림은 발송되지 않으며, 발송 시간이 요청 트랜잭션과 커넥션 점유 시간에 포함되지 않는다.
+ * 실패한 메시지는 지수 백오프로 재시도하고, 커밋 직후 발송되지 못한 메시지는 주기적인 폴링으로 처리한다.
+ * SSE 연결은 노드마다 다르므로, 다른 노드에서 기록된 SSE 메시지는 각 노드가 폴링으로 읽어 자기 연결에 전송한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationOutboxService {
+
+    private static final String METRIC_NAME = "notification.outbox";
+    // 재시도 간격이 지나치게 길어지지 않도록 지수 백오프의 최대 배수를 제한한다
+    private static final int MAX_BACKOFF_SHIFT = 10;
+
+    private final NotificationOutboxPort notificationOutboxPort;
+    private final NotificationPort notificationPort;
+    private final NotificationEventPort notificationEventPort;
+    private final EmailNotificationService emailNotificationService;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicBoolean dispatchRequested = new AtomicBoolean();
+    // 이 노드에서 처리한 SSE 메시지 ID와 처리 시각
+    private final Map<Long, LocalDateTime> handledRealtimeIds = new ConcurrentHashMap<>();
+    private final ExecutorService dispatcher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "notification-outbox-dispatcher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Value("${app.notification.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${app.notification.outbox.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${app.notification.outbox.retry-delay:5}")
+    private long retryDelaySeconds;
+
+    @Value("${app.notification.outbox.lock-timeout:60}")
+    private long lockTimeoutSeconds;
+
+    @Value("${app.notification.outbox.send-timeout:10}")
+    private long sendTimeoutSeconds;
+
+    @Value("${app.notification.outbox.realtime-lookback:30}")
+    private long realtimeLookbackSeconds;
+
+    /**
+     * 알림의 실시간(SSE) 발송을 호출 측 트랜잭션에 기록하고, 커밋 후 발송을 요청한다.
+     */
+    public void publishRealtime(Notification notification) {
+        notificationOutboxPort.save(NotificationOutboxMessage.realtime(notification.getMember().id(), notification.getId()));
+        afterCommit(this::requestDispatch);
+    }
+
+    /**
+     * 입장 알림 이메일 발송을 호출 측 트랜잭션에 기록하고, 커밋 후 발송을 요청한다.
+     */
+    public void publishEntryEmail(Long memberId, WaitingEntryNotificationRequest request) {
+        notificationOutboxPort.save(NotificationOutboxMessage.email(memberId, writePayload(request)));
+        afterCommit(this::requestDispatch);
+    }
+
+    /**
+     * 발송 스레드에 처리를 요청한다. 이미 대기 중인 요청이 있으면 하나로 합친다.
+     */
+    public void requestDispatch() {
+        if (!dispatchRequested.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            dispatcher.execute(() -> {
+                dispatchRequested.set(false);
+                try {
+                    dispatchDue();
+                } catch (Exception e) {
+                    log.error("알림 아웃박스 발송 중 오류", e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            dispatchRequested.set(false); // 종료 중
+        }
+    }
+
+    /**
+     * 다른 노드에서 기록된 SSE 메시지와, 커밋 직후 발송되지 못했거나 재시도 시각이 된 메시지를 처리한다.
+     */
+    @Scheduled(fixedDelayString = "${app.notification.outbox.poll-interval:1}", timeUnit = SECONDS)
+    public void poll() {
+        requestDispatch();
+    }
+
+    @PreDestroy
+    public void stop() {
+        dispatcher.shutdownNow();
+    }
+
+    /**
+     * 최근 SSE 메시지를 이 노드의 연결로 전송하고, 발송 시각이 된 이메일을 배치 단위로 선점하여 발송한다.
+     *
+     * @return 처리한 메시지 수
+     */
+    public int dispatchDue() {
+        return dispatchRealtime() + dispatchEmails();
+    }
+
+    /**
+     * 모든 노드가 읽은 뒤인 오래된 SSE 메시지를 삭제한다.
+     * 보관 시간이 지나 전송되지 못한 알림은 재연결 시 Last-Event-ID 이후 알림 재전송으로 복구된다.
+     */
+    @Scheduled(fixedDelayString = "${app.notification.outbox.realtime-lookback:30}", timeUnit = SECONDS)
+    public void purgeRealtime() {
+        int deleted = notificationOutboxPort.deleteRealtimeCreatedBefore(
+                LocalDateTime.now().minusSeconds(realtimeLookbackSeconds * 2));
+        if (deleted > 0) {
+            log.debug("보관 시간이 지난 실시간 알림 아웃박스 삭제 - {}건", deleted);
+        }
+    }
+
+    /**
+     * 조회 구간(realtime-lookback) 안의 SSE 메시지를 모두 읽어, 이 노드에 연결된 회원의 메시지만 전송한다.
+     * SSE 연결은 노드마다 다르므로 메시지를 선점하지 않으며, 이미 처리한 메시지는 노드별로 기억해 다시 보내지 않는다.
+     */
+    private int dispatchRealtime() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime since = now.minusSeconds(realtimeLookbackSeconds);
+        // 처리 시각이 조회 구간을 벗어났다면 메시지의 기록 시각도 구간 밖이므로 다시 조회되지 않는다
+        handledRealtimeIds.values().removeIf(handledAt -> handledAt.isBefore(since));
+
+        int total = 0;
+        long afterId = 0;
+        while (true) {
+            List<NotificationOutboxMessage> batch = notificationOutboxPort.findRealtimeAfter(since, afterId, batchSize);
+            if (batch.isEmpty()) {
+                return total;
+            }
+            List<NotificationOutboxMessage> pending = batch.stream()
+                    .filter(message -> !handledRealtimeIds.containsKey(message.id()))
+                    .toList();
+            deliverRealtime(pending, now);
+            total += pending.size();
+            afterId = batch.getLast().id();
+
+            if (batch.size() < batchSize) {
+                return total;
+            }
+        }
+    }
+
+    private int dispatchEmails() {
+        int total = 0;
+        while (true) {
+            LocalDateTime now = LocalDateTime.now();
+            List<NotificationOutboxMessage> batch = notificationOutboxPort.claimDue(
+                    OutboxChannel.EMAIL, now, now.plusSeconds(lockTimeoutSeconds), batchSize);
+            if (batch.isEmpty()) {
+                return total;
+            }
+
+            List<Long> deliveredIds = new ArrayList<>(batch.size());
+            List<NotificationOutboxMessage> failed = new ArrayList<>();
+            deliverEmails(batch, deliveredIds, failed);
+
+            notificationOutboxPort.deleteAll(deliveredIds);
+            failed.forEach(message -> retryOrFail(message, now));
+            total += batch.size();
+
+            if (batch.size() < batchSize) {
+                return total;
+            }
+        }
+    }
+
+    /**
+     * 이 노드에 연결된 회원의 알림만 한 번에 조회하여 전송한다.
+     * 연결이 없는 회원의 메시지는 연결을 가진 다른 노드가 전송하므로 처리한 것으로만 기록하고,
+     * 조회나 전송에 실패한 메시지는 기록하지 않아 조회 구간 안에서 다음 발송 때 다시 시도한다.
+     */
+    private void deliverRealtime(List<NotificationOutboxMessage> messages, LocalDateTime now) {
+        List<NotificationOutboxMessage> connected = new ArrayList<>();
+        for (NotificationOutboxMessage message : messages) {
+            if (notificationEventPort.isStreaming(message.memberId())) {
+                connected.add(message);
+            } else {
+                handledRealtimeIds.put(message.id(), now);
+            }
+        }
+        if (connected.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Notification> notifications;
+        try {
+            notifications = notificationPort.findAllByIds(connected.stream().map(NotificationOutboxMessage::notificationId).toList())
+                    .stream()
+                    .collect(Collectors.toMap(Notification::getId, Function.identity()));
+        } catch (Exception e) {
+            log.warn("실시간 알림 조회 실패 - {}건: {}", connected.size(), e.getMessage());
+            return;
+        }
+
+        for (NotificationOutboxMessage message : connected) {
+            Notification notification = notifications.get(message.notificationId());
+            try {
+                if (notification != null) {
+                    notificationEventPort.sendRealTimeNotification(message.memberId(), notification);
+                }
+                handledRealtimeIds.put(message.id(), now);
+                count(OutboxChannel.SSE, notification != null ? "sent" : "skipped");
+            } catch (Exception e) {
+                log.warn("실시간 알림 발송 실패 - 메시지 ID: {}, 회원 ID: {}: {}", message.id(), message.memberId(), e.getMessage());
+                count(OutboxChannel.SSE, "retried");
+            }
+        }
+    }
+
+    /**
+     * 이메일은 배치의 발송을 모두 시작한 뒤 결과를 기다린다.
+     * 대기 시간 안에 끝나지 않은 발송은 이미 전송되었을 수 있으므로 재시도하지 않고,
+     * 선점을 유지한 채 발송이 끝났을 때 결과를 기록한다.
+     */
+    private void deliverEmails(List<NotificationOutboxMessage> messages,
+                               List<Long> deliveredIds, List<NotificationOutboxMessage> failed) {
+        Map<NotificationOutboxMessage, CompletableFuture<Void>> futures = new LinkedHashMap<>();
+        for (NotificationOutboxMessage message : messages) {
+            WaitingEntryNotificationRequest request;
+            try {
+                request = objectMapper.readValue(message.payload(), WaitingEntryNotificationRequest.class);
+            } catch (JsonProcessingException e) {
+                // 다시 시도해도 읽을 수 없으므로 바로 실패로 남긴다
+                log.error("이메일 아웃박스 메시지를 읽을 수 없습니다 - 메시지 ID: {}: {}", message.id(), e.getOriginalMessage());
+                notificationOutboxPort.markFailed(message.id());
+                count(OutboxChannel.EMAIL, "failed");
+                continue;
+            }
+            futures.put(message, emailNotificationService.sendWaitingEntryNotificationAsync(request));
+        }
+
+        // 배치 전체가 발송 대기 시간 안에 끝나도록 남은 시간만 기다린다
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(sendTimeoutSeconds);
+        futures.forEach((message, future) -> {
+            try {
+                future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                deliveredIds.add(message.id());
+                count(OutboxChannel.EMAIL, "sent");
+            } catch (TimeoutException e) {
+                log.warn("입장 이메일 발송 결과 대기 시간 초과 - 메시지 ID: {}", message.id());
+                count(OutboxChannel.EMAIL, "timed_out");
+                future.whenComplete((ignored, error) -> completeLate(message, error));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                future.whenComplete((ignored, error) -> completeLate(message, error));
+            } catch (ExecutionException e) {
+                log.warn("입장 이메일 발송 실패 - 메시지 ID: {}: {}", message.id(), e.getCause().getMessage());
+                failed.add(message);
+            }
+        });
+    }
+
+    /**
+     * 대기 시간이 지난 뒤 끝난 이메일 발송의 결과를 기록한다.
+     */
+    private void completeLate(NotificationOutboxMessage message, Throwable error) {
+        try {
+            if (error == null) {
+                notificationOutboxPort.deleteAll(List.of(message.id()));
+                count(OutboxChannel.EMAIL, "sent");
+            } else {
+                log.warn("입장 이메일 발송 실패 - 메시지 ID: {}: {}", message.id(), error.getMessage());
+                retryOrFail(message, LocalDateTime.now());
+            }
+        } catch (Exception e) {
+            // 기록하지 못하면 선점 시간이 지난 뒤 다시 선점된다
+            log.error("입장 이메일 발송 결과 기록 실패 - 메시지 ID: {}", message.id(), e);
+        }
+    }
+
+    private void retryOrFail(NotificationOutboxMessage message, LocalDateTime now) {
+        int attempts = message.attempts() + 1;
+        if (attempts >= maxAttempts) {
+            log.error("알림 발송 재시도 횟수 초과 - 메시지 ID: {}, 채널: {}, 회원 ID: {}", message.id(), message.channel(), message.memberId());
+            notificationOutboxPort.markFailed(message.id());
+            count(message.channel(), "failed");
+            return;
+        }
+        long delaySeconds = retryDelaySeconds << Math.min(message.attempts(), MAX_BACKOFF_SHIFT);
+        notificationOutboxPort.reschedule(message.id(), now.plusSeconds(delaySeconds));
+        count(message.channel(), "retried");
+    }
+
+    private String writePayload(WaitingEntryNotificationRequest request) {
+        try {
+            return objectMapper.writeValueAsString(request);
+        } catch (JsonProcessingException e) {
+            throw new BusinessException(ErrorType.INVALID_NOTIFICATION_OUTBOX_PAYLOAD, e.getOriginalMessage());
+        }
+    }
+
+    private void count(OutboxChannel channel, String outcome) {
+        meterRegistry.counter(METRIC_NAME, "channel", channel.name(), "outcome", outcome).increment();
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.demo.application.service;
+
+import com.example.demo.domain.port.NotificationPartitionPort;
+import com.example.demo.domain.port.NotificationPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * 보관 기간이 지난 알림을 삭제하는 서비스.
+ * 긴 잠금을 피하기 위해 작은 청크 단위로 나누어 각각 별도 트랜잭션으로 삭제한다.
+ * 월별 파티션을 사용하는 경우 다음 달 파티션을 미리 만들고, 보관 기간을 완전히 벗어난 월의 파티션은 통째로 삭제한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationRetentionService {
+
+    private static final String JOB_NAME = "notification-retention";
+    // 월이 바뀌기 전에 미리 만들어 둘 파티션 개월 수 (이번 달 포함)
+    private static final int PARTITIONS_AHEAD = 2;
+
+    private final NotificationPort notificationPort;
+    private final NotificationPartitionPort notificationPartitionPort;
+    private final SchedulerLeaseService schedulerLeaseService;
+
+    @Value("${app.notification.retention.days:90}")
+    private int retentionDays;
+
+    @Value("${app.notification.retention.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${app.notification.retention.max-chunks-per-run:200}")
+    private int maxChunksPerRun;
+
+    @Value("${app.notification.retention.partitioning.enabled:false}")
+    private boolean partitioningEnabled;
+
+    @Scheduled(fixedDelayString = "${app.notification.retention.purge-interval:3600}", timeUnit = SECONDS)
+    public void purgeExpiredNotifications() {
+        if (!schedulerLeaseService.tryAcquire(JOB_NAME)) {
+            return; // 다른 노드가 실행 중
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+
+        if (partitioningEnabled) {
+            maintainPartitions(cutoff);
+        }
+
+        int total = 0;
+        for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+            // 실행이 임대 시간보다 길어질 수 있으므로 청크마다 임대를 연장하고, 잃으면 중단한다
+            if (chunk > 0 && !schedulerLeaseService.tryAcquire(JOB_NAME)) {
+                log.warn("알림 삭제 작업 임대를 잃어 중단 - 삭제: {}건", total);
+                break;
+            }
+            int deleted = notificationPort.deleteCreatedBefore(cutoff, chunkSize);
+            total += deleted;
+            if (deleted < chunkSize) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.info("보관 기간이 지난 알림 삭제 완료 - 기준: {}, 삭제: {}건", cutoff, total);
+        }
+    }
+
+    private void maintainPartitions(LocalDateTime cutoff) {
+        notificationPartitionPort.createMonthlyPartitions(YearMonth.now(), PARTITIONS_AHEAD);
+        // 기준 시각이 속한 월은 일부 행이 아직 보관 대상이므로 청크 삭제로 처리한다
+        List<String> dropped = notificationPartitionPort.dropMonthlyPartitionsBefore(YearMonth.from(cutoff));
+        if (!dropped.isEmpty()) {
+            log.info("보관 기간이 지난 알림 파티션 삭제 - {}", dropped);
+        }
+    }
+}
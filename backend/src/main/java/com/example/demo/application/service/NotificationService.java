@@ -5,6 +5,8 @@ import com.example.demo.application.dto.notification.NotificationListResponse;
 import com.example.demo.application.dto.notification.NotificationReadRequest;
 import com.example.demo.application.dto.notification.NotificationResponse;
 import com.example.demo.application.dto.notification.NotificationDeleteRequest;
+import com.example.demo.application.dto.notification.NotificationBulkResponse;
+import com.example.demo.application.dto.notification.UnreadCountResponse;
 import com.example.demo.application.mapper.NotificationDtoMapper;
 import com.example.demo.common.exception.BusinessException;
 import com.example.demo.common.exception.ErrorType;
@@ -16,8 +18,12 @@ import com.example.demo.domain.model.notification.ReadStatus;
 import com.example.demo.domain.port.NotificationPort;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -25,6 +31,7 @@ public class NotificationService {
 
     private final NotificationPort notificationPort;
     private final NotificationDtoMapper notificationDtoMapper;
+    private final NotificationUnreadCountService notificationUnreadCountService;
 
     private static final int DEFAULT_SIZE = 20;
     private static final int MAX_SIZE = 100;
@@ -50,6 +57,15 @@ public class NotificationService {
         return notificationDtoMapper.toCursorResponse(result);
     }
 
+    /**
+     * 읽지 않은 알림 수를 조회한다. 메모리에 보관된 값이 있으면 DB를 조회하지 않는다.
+     * 보관된 값으로 응답할 때 커넥션을 잡지 않도록 트랜잭션 없이 실행하며, 보관된 값이 없으면 저장소 조회만 자체 트랜잭션으로 실행된다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public UnreadCountResponse getUnreadCount(Long memberId) {
+        return new UnreadCountResponse(notificationUnreadCountService.getUnreadCount(memberId));
+    }
+
     private int validateAndSetPageSize(Integer size) {
         if (size == null) {
             return DEFAULT_SIZE;
@@ -97,8 +113,11 @@ public class NotificationService {
             throw new BusinessException(ErrorType.ACCESS_DENIED_NOTIFICATION, String.valueOf(request.notificationId()));
         }
 
-        notification.read();
-        notificationPort.save(notification);
+        if (!notification.isRead()) {
+            notification.read();
+            notificationPort.save(notification);
+            notificationUnreadCountService.recordRemoved(memberId);
+        }
         return notificationDtoMapper.toNotificationResponse(notification);
     }
 
@@ -113,5 +132,40 @@ public class NotificationService {
         }
 
         notificationPort.delete(notification);
+        if (!notification.isRead()) {
+            notificationUnreadCountService.recordRemoved(memberId);
+        }
+    }
+
+    /**
+     * 회원의 읽지 않은 알림을 한 번의 UPDATE로 모두 읽음 처리한다.
+     */
+    public NotificationBulkResponse markAllNotificationsAsRead(Long memberId) {
+        int updated = notificationPort.markAllAsRead(memberId, LocalDateTime.now());
+        if (updated > 0) {
+            notificationUnreadCountService.recordAllRead(memberId);
+        }
+        return new NotificationBulkResponse(updated);
+    }
+
+    /**
+     * 알림을 ID 목록으로 한 번에 삭제한다. 본인 소유가 아닌 알림은 삭제 조건에서 제외된다.
+     */
+    public NotificationBulkResponse deleteNotifications(Long memberId, List<Long> notificationIds) {
+        if (notificationIds == null || notificationIds.isEmpty() || notificationIds.size() > MAX_SIZE) {
+            throw new BusinessException(ErrorType.INVALID_NOTIFICATION_IDS, "알림 ID는 1개 이상 " + MAX_SIZE + "개 이하로 지정해야 합니다");
+        }
+        int deleted = notificationPort.deleteAllByIds(memberId, notificationIds);
+        if (deleted > 0) {
+            notificationUnreadCountService.recordBulkRemoved(memberId);
+        }
+        return new NotificationBulkResponse(deleted);
+    }
+
+    /**
+     * 회원의 읽은 알림을 한 번의 DELETE로 모두 삭제한다.
+     */
+    public NotificationBulkResponse deleteReadNotifications(Long memberId) {
+        return new NotificationBulkResponse(notificationPort.deleteAllRead(memberId));
     }
 } 
\ No newline at end of file
@@ -21,13 +21,14 @@ public class NotificationSseService {
     /**
      * 회원의 SSE 연결을 생성한다.
      *
-     * @param memberId 연결할 회원 ID
+     * @param memberId    연결할 회원 ID
+     * @param lastEventId 재연결 시 클라이언트가 보낸 Last-Event-ID (최초 연결이면 null)
      * @return SSE Emitter (컨트롤러에서 반환)
      */
-    public SseEmitter createSseConnection(Long memberId) {
-        log.info("회원 ID {}의 SSE 연결을 생성합니다.", memberId);
+    public SseEmitter createSseConnection(Long memberId, String lastEventId) {
+        log.info("회원 ID {}의 SSE 연결을 생성합니다. Last-Event-ID: {}", memberId, lastEventId);
         
-        Object emitter = notificationEventPort.createSseConnection(memberId);
+        Object emitter = notificationEventPort.createSseConnection(memberId, lastEventId);
         
         log.info("회원 ID {}의 SSE 연결이 성공적으로 생성되었습니다.", memberId);
         
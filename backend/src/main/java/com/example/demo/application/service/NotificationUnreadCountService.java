@@ -0,0 +1,129 @@
+package com.example.demo.application.service;
+
+import com.example.demo.domain.port.NotificationEventPort;
+import com.example.demo.domain.port.NotificationPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * 회원별 읽지 않은 알림 수를 메모리에 보관하는 서비스.
+ * 알림 저장/읽음/삭제 시점에 커밋 후 갱신하고 변경된 값을 SSE로 전송한다.
+ * 보관되지 않은 회원은 최초 조회 시 DB에서 채우며, 다른 노드의 변경으로 어긋난 값은 주기적으로 DB와 맞춘다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationUnreadCountService {
+
+    private final NotificationPort notificationPort;
+    private final NotificationEventPort notificationEventPort;
+
+    private final Map<Long, Long> unreadCounts = new ConcurrentHashMap<>();
+
+    /**
+     * 읽지 않은 알림 수를 조회한다. 보관된 값이 있으면 DB를 조회하지 않는다.
+     */
+    public long getUnreadCount(Long memberId) {
+        Long cached = unreadCounts.get(memberId);
+        if (cached != null) {
+            return cached;
+        }
+        long count = notificationPort.countUnread(memberId);
+        Long previous = unreadCounts.putIfAbsent(memberId, count);
+        return previous != null ? previous : count;
+    }
+
+    /**
+     * 읽지 않은 알림 저장을 반영한다. 트랜잭션 안이면 커밋 후에 반영한다.
+     */
+    public void recordCreated(Long memberId) {
+        afterCommit(() -> change(memberId, 1));
+    }
+
+    /**
+     * 읽지 않은 알림의 읽음 처리 또는 삭제를 반영한다. 트랜잭션 안이면 커밋 후에 반영한다.
+     */
+    public void recordRemoved(Long memberId) {
+        afterCommit(() -> change(memberId, -1));
+    }
+
+    /**
+     * 일괄 읽음 처리를 반영한다. 트랜잭션 안이면 커밋 후에 반영한다.
+     */
+    public void recordAllRead(Long memberId) {
+        afterCommit(() -> {
+            unreadCounts.put(memberId, 0L);
+            notificationEventPort.sendUnreadCount(memberId, 0L);
+        });
+    }
+
+    /**
+     * 읽지 않은 알림이 몇 건 포함되었는지 모르는 일괄 삭제를 반영한다.
+     * 보관된 회원만 커밋 후 DB에서 다시 세어 갱신한다.
+     */
+    public void recordBulkRemoved(Long memberId) {
+        afterCommit(() -> {
+            if (!unreadCounts.containsKey(memberId)) {
+                return;
+            }
+            long count = notificationPort.countUnread(memberId);
+            unreadCounts.put(memberId, count);
+            notificationEventPort.sendUnreadCount(memberId, count);
+        });
+    }
+
+    /**
+     * 보관된 값을 DB와 맞춘다.
+     * SSE 연결이 끊긴 회원은 보관하지 않고, 연결된 회원의 값이 바뀌었으면 SSE로 전송한다.
+     */
+    @Scheduled(fixedDelayString = "${app.notification.unread-count.reconcile-interval:60}", timeUnit = SECONDS)
+    public void reconcile() {
+        unreadCounts.keySet().removeIf(memberId -> !notificationEventPort.isConnected(memberId));
+        Set<Long> memberIds = new HashSet<>(unreadCounts.keySet());
+        if (memberIds.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Long> actualCounts = notificationPort.countUnreadByMemberIds(memberIds);
+        for (Long memberId : memberIds) {
+            long actual = actualCounts.getOrDefault(memberId, 0L);
+            Long previous = unreadCounts.replace(memberId, actual);
+            if (previous != null && previous != actual) {
+                log.debug("읽지 않은 알림 수 보정 - 회원 ID: {}, {} -> {}", memberId, previous, actual);
+                notificationEventPort.sendUnreadCount(memberId, actual);
+            }
+        }
+    }
+
+    // 보관된 값만 갱신하고, 없으면 다음 조회 시 DB에서 채운다
+    private void change(Long memberId, long delta) {
+        Long updated = unreadCounts.computeIfPresent(memberId, (id, count) -> Math.max(0, count + delta));
+        if (updated != null) {
+            notificationEventPort.sendUnreadCount(memberId, updated);
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
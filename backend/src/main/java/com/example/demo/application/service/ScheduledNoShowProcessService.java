@@ -5,25 +5,28 @@ import com.example.demo.domain.model.ban.BanQuery;
 import com.example.demo.domain.model.ban.BanType;
 import com.example.demo.domain.model.waiting.PopupWaitingStatistics;
 import com.example.demo.domain.model.waiting.Waiting;
+import com.example.demo.domain.model.waiting.WaitingDeadline;
 import com.example.demo.domain.model.waiting.WaitingQuery;
 import com.example.demo.domain.model.waiting.WaitingStatus;
+import com.example.demo.domain.model.waiting.WaitingTimeForecast;
 import com.example.demo.domain.port.BanPort;
 import com.example.demo.domain.port.WaitingPort;
 import com.example.demo.domain.port.WaitingStatisticsPort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 
 /**
- * 노쇼 처리를 위한 스케줄러 서비스.
- * 30초마다 노쇼 대상을 찾아서 처리한다.
+ * 노쇼 처리 서비스.
+ * 입장 가능 시간으로부터 10분이 지난 맨 앞 대기자를 {@link WaitingDeadlineScheduler}의 기한 이벤트로 노쇼 처리한다.
  */
 @Slf4j
 @Service
@@ -34,53 +37,37 @@ public class ScheduledNoShowProcessService {
     private final WaitingNotificationService waitingNotificationService;
     private final BanPort banPort;
     private final WaitingStatisticsPort waitingStatisticsPort;
+    private final WaitingPositionStreamService waitingPositionStreamService;
+    private final WaitingTimeForecastService waitingTimeForecastService;
+    private final WaitingEligibilityService waitingEligibilityService;
+    private final WaitingDeadlineScheduler waitingDeadlineScheduler;
 
     /**
-     * 30초마다 노쇼 대상을 찾아서 처리
+     * 노쇼 기한이 되면 아직 입장하지 않은 대기자를 노쇼 처리
      */
-    @Scheduled(fixedDelay = 30_000)
+    @EventListener
     @Transactional
-    public void processNoShows() {
-        log.info("노쇼 처리 스케줄러 시작: {}", LocalDateTime.now());
-
-        // 1. 10분 초과된 대기자들 조회
-        List<Waiting> noShowTargets = findNoShowTargets();
-
-        if (noShowTargets.isEmpty()) {
-            log.info("노쇼 대상자가 없습니다.");
+    public void onNoShowDeadline(WaitingDeadline deadline) {
+        if (deadline.type() != WaitingDeadline.Type.NO_SHOW) {
             return;
         }
 
-        log.info("노쇼 처리 대상: {}명", noShowTargets.size());
-
-        // 2. 각 대상자에 대해 노쇼 처리
-        noShowTargets.forEach(waiting -> {
-            try {
-                processNoShow(waiting);
-            } catch (Exception e) {
-                log.error("노쇼 처리 실패 - 대기 ID: {}", waiting.id(), e);
-                throw e; // 트랜잭션 롤백을 위해 예외 재발생
-            }
-        });
-
-        log.info("노쇼 처리 스케줄러 완료: {}", LocalDateTime.now());
-    }
-
-    /**
-     * 10분 초과된 대기자들을 조회한다.
-     */
-    private List<Waiting> findNoShowTargets() {
-        // canEnterAt이 현재 시간보다 10분 이상 이전이고, WAITING 상태인 대기자들
-        LocalDateTime tenMinutesAgo = LocalDateTime.now().minusMinutes(10);
-
-        // 모든 WAITING 상태 대기자 조회 후 필터링
-        WaitingQuery query = WaitingQuery.forStatus(WaitingStatus.WAITING);
-        List<Waiting> allWaiting = waitingPort.findByQuery(query);
+        // 다른 노드가 같은 대기를 처리 중이면 건너뛰고, 처리가 끝난 대기는 상태 검증에서 걸러진다
+        if (!waitingPort.lockIfWaiting(deadline.waitingId())) {
+            return;
+        }
 
-        return allWaiting.stream()
-                .filter(waiting -> waiting.canEnterAt() != null)
-                .filter(waiting -> waiting.canEnterAt().isBefore(tenMinutesAgo))
-                .toList();
+        waitingPort.findByQuery(WaitingQuery.forWaitingId(deadline.waitingId())).stream()
+                .findFirst()
+                .filter(waiting -> deadline.isReachedBy(waiting, LocalDateTime.now()))
+                .ifPresent(waiting -> {
+                    try {
+                        processNoShow(waiting);
+                    } catch (Exception e) {
+                        log.error("노쇼 처리 실패 - 대기 ID: {}", waiting.id(), e);
+                        throw e; // 트랜잭션 롤백을 위해 예외 재발생
+                    }
+                });
     }
 
     /**
@@ -93,6 +80,8 @@ public class ScheduledNoShowProcessService {
         // 1. 노쇼 상태로 변경
         Waiting noShowWaiting = waiting.markAsNoShow();
         waitingPort.save(noShowWaiting);
+        waitingTimeForecastService.recordDeparture(waiting.popup().getId(), LocalDateTime.now());
+        waitingEligibilityService.recordNoShow(waiting.member().id(), waiting.popup().getId(), waiting.registeredAt().toLocalDate());
 
         // 2. 순번 재정렬
         reorderWaitingNumbers(waiting.popup().getId());
@@ -110,7 +99,7 @@ public class ScheduledNoShowProcessService {
 
     private void storeBanIfNeed(Waiting waiting, long noShowCount) {
         if (noShowCount >= 2) {
-            banPort.save(
+            Ban ban = banPort.save(
                     Ban.builder()
                             .bannedAt(LocalDateTime.now())
                             .durationDays(1)
@@ -119,6 +108,7 @@ public class ScheduledNoShowProcessService {
                             .type(BanType.STORE)
                             .build()
             );
+            waitingEligibilityService.recordBan(ban);
             log.info(
                     "스토어 밴 적용 - 회원 ID: {}, 팝업 ID: {}, 노쇼 횟수: {}",
                     waiting.member().id(),
@@ -147,7 +137,7 @@ public class ScheduledNoShowProcessService {
                 lastGlobalBannedAt
         )).size();
         if (banCount >= 10) {
-            banPort.save(
+            Ban ban = banPort.save(
                     Ban.builder()
                             .bannedAt(LocalDateTime.now())
                             .durationDays(3)
@@ -155,6 +145,7 @@ public class ScheduledNoShowProcessService {
                             .type(BanType.GLOBAL)
                             .build()
             );
+            waitingEligibilityService.recordBan(ban);
             log.info(
                     "글로벌 밴 적용 - 회원 ID: {}, 밴 기간: {} ~ {}",
                     waiting.member().id(), LocalDate.now(), LocalDate.now().plusDays(3)
@@ -187,26 +178,34 @@ public class ScheduledNoShowProcessService {
                 popupId, avgTimePerPerson, sortedWaitings.size());
 
         // 순번 재정렬 (0번부터 순차적으로)
-        for (int i = 0; i < sortedWaitings.size(); i++) {
-            Waiting waiting = sortedWaitings.get(i);
-
+        List<Waiting> updatedWaitings = new ArrayList<>(sortedWaitings.size());
+        for (Waiting waiting : sortedWaitings) {
             // 대기 번호와 canEnterAt을 업데이트한 새로운 Waiting 객체 생성
-            Waiting updatedWaiting = waiting.minusWaitingNumber(popupWaitingStatistics);
+            Waiting updatedWaiting = waiting.minusWaitingNumber(waitingNumber -> waitingTimeForecastService.forecast(popupId, waitingNumber)
+                    .map(WaitingTimeForecast::expectedMinutes)
+                    .orElseGet(() -> popupWaitingStatistics.calculateExpectedWaitingTime(waitingNumber)));
 
             log.debug("[노쇼 처리] 예상 대기 시간 업데이트 - waitingId: {}, 대기번호: {}번->{}번, 예상시간: {}분", 
                     waiting.id(), waiting.waitingNumber(), updatedWaiting.waitingNumber(), 
                     updatedWaiting.expectedWaitingTimeMinutes());
 
-            waitingPort.save(updatedWaiting);
+            updatedWaitings.add(updatedWaiting);
+        }
+
+        // 배치로 한 번에 저장
+        int affected = waitingPort.saveAll(updatedWaitings);
+        waitingPositionStreamService.publishQueueShift(updatedWaitings);
+        waitingDeadlineScheduler.trackHeads(updatedWaitings);
 
-            // 새로운 순번에 따른 알림 발송
+        // 새로운 순번에 따른 알림 발송
+        for (int i = 0; i < updatedWaitings.size(); i++) {
             switch (i) {
-                case 0 -> sendEnterNowNotification(updatedWaiting);
-                case 3 -> sendEnter3TeamsBeforeNotification(updatedWaiting);
+                case 0 -> sendEnterNowNotification(updatedWaitings.get(i));
+                case 3 -> sendEnter3TeamsBeforeNotification(updatedWaitings.get(i));
             }
         }
         
-        log.info("[노쇼 처리] 예상 대기 시간 업데이트 완료 - {} 건 저장", sortedWaitings.size());
+        log.info("[노쇼 처리] 예상 대기 시간 업데이트 완료 - {} 건 저장", affected);
     }
 
     /**
@@ -215,12 +214,10 @@ public class ScheduledNoShowProcessService {
     private long getNoShowCountForToday(Long memberId, Long popupId) {
         LocalDate today = LocalDate.now();
 
-        WaitingQuery query = WaitingQuery.forMemberAndPopupWithStatus(memberId, popupId, WaitingStatus.NO_SHOW);
-
-        List<Waiting> noShows = waitingPort.findByQuery(query);
+        WaitingQuery query = WaitingQuery.forMemberAndPopupOnDate(memberId, popupId, today);
 
-        return noShows.stream()
-                .filter(waiting -> waiting.registeredAt().toLocalDate().equals(today))
+        return waitingPort.findSummaries(query).stream()
+                .filter(waiting -> waiting.status() == WaitingStatus.NO_SHOW)
                 .count();
     }
 
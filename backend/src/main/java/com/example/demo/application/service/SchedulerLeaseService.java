@@ -0,0 +1,65 @@
+package com.example.demo.application.service;
+
+import com.example.demo.domain.port.SchedulerLeasePort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 여러 노드에서 하나의 노드만 주기 작업을 실행하도록 작업별 임대를 획득하는 서비스.
+ * 작업 주기가 임대 시간보다 짧으면 리더 노드가 매 실행마다 연장하고, 중단되면 만료 후 다른 노드가 이어받는다.
+ * 주기가 임대 시간보다 긴 작업은 실행마다 먼저 획득한 노드가 실행하며, 한 번의 실행이 임대 시간을 넘길 수 있으면
+ * 실행 중에 {@link #tryAcquire}를 다시 호출해 연장하고 실패하면 중단해야 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SchedulerLeaseService {
+
+    private final SchedulerLeasePort schedulerLeasePort;
+
+    private final String nodeId = resolveNodeId();
+
+    @Value("${app.scheduler.lease-ttl:90}") // 기본 90초
+    private long leaseTtlSeconds;
+
+    /**
+     * 작업 임대를 획득하거나 연장한다. 획득하지 못하면 이번 실행은 건너뛴다.
+     *
+     * @param jobName 작업 이름
+     * @return 이 노드가 작업을 실행해야 하면 true
+     */
+    public boolean tryAcquire(String jobName) {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            boolean acquired = schedulerLeasePort.tryAcquire(jobName, nodeId, now, now.plusSeconds(leaseTtlSeconds));
+            if (!acquired) {
+                log.debug("작업 임대 미획득 - 작업: {}, 노드: {}", jobName, nodeId);
+            }
+            return acquired;
+        } catch (Exception e) {
+            log.warn("작업 임대 획득 실패 - 작업: {}, 에러: {}", jobName, e.getMessage());
+            return false;
+        }
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    private static String resolveNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "unknown";
+        }
+        return host + ":" + UUID.randomUUID();
+    }
+}
@@ -0,0 +1,186 @@
+package com.example.demo.application.service;
+
+import com.example.demo.common.exception.ErrorType;
+import com.example.demo.common.exception.RetryableBusinessException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * 대기 신청 유입 제어 서비스.
+ * 팝업별 동시 처리 수를 넘는 요청은 제한된 길이의 대기열에서 짧게 기다리게 하고, 팝업별 토큰 버킷(초당 신청 수)을 넘는 요청은 바로 거절한다.
+ * 처리할 수 없는 요청은 DB 작업을 시작하기 전에 Retry-After와 함께 거절하여, 인기 팝업 하나가 커넥션이나 요청 스레드를 독점하지 않도록 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WaitingAdmissionService {
+
+    private static final String METRIC_NAME = "waiting.admission";
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Long, PopupGate> gates = new ConcurrentHashMap<>();
+
+    @Value("${app.waiting.admission.rate-per-second:10}")
+    private double ratePerSecond;
+
+    @Value("${app.waiting.admission.burst:20}")
+    private int burst;
+
+    @Value("${app.waiting.admission.max-concurrent:1}")
+    private int maxConcurrent;
+
+    @Value("${app.waiting.admission.max-queued:20}")
+    private int maxQueued;
+
+    @Value("${app.waiting.admission.queue-timeout:1000}")
+    private long queueTimeoutMillis;
+
+    @Value("${app.waiting.admission.idle-ttl:600}")
+    private long idleTtlSeconds;
+
+    /**
+     * 유입 제어를 통과한 경우에만 작업을 실행한다.
+     * 동시 처리 자리를 먼저 확보한 뒤 토큰을 소비하므로, 거절된 요청은 토큰을 쓰지 않는다.
+     *
+     * @param popupId 팝업 ID
+     * @param task    실행할 대기 신청 작업
+     * @return 작업 결과
+     * @throws RetryableBusinessException 처리 한도를 넘어 거절된 경우
+     */
+    public <T> T admit(Long popupId, Supplier<T> task) {
+        PopupGate gate = acquireGate(popupId);
+        try {
+            long retryAfterMillis = gate.bucket.tryConsume();
+            if (retryAfterMillis > 0) {
+                throw shed(popupId, "rate_limited", retryAfterMillis);
+            }
+
+            meterRegistry.counter(METRIC_NAME, "outcome", "admitted").increment();
+            return task.get();
+        } finally {
+            gate.release();
+        }
+    }
+
+    /**
+     * 오래 쓰이지 않은 팝업의 유입 제어 상태를 정리한다.
+     * 처리 중이거나 기다리는 요청이 없는 게이트만 모든 자리를 회수한 뒤 제거하므로, 제거된 게이트로는 더 이상 요청이 통과하지 않는다.
+     */
+    @Scheduled(fixedDelayString = "${app.waiting.admission.idle-ttl:600}", timeUnit = SECONDS)
+    public void evictIdleGates() {
+        long threshold = System.nanoTime() - TimeUnit.SECONDS.toNanos(idleTtlSeconds);
+        for (Long popupId : gates.keySet()) {
+            gates.computeIfPresent(popupId, (id, gate) -> gate.retireIfIdle(threshold, maxConcurrent) ? null : gate);
+        }
+    }
+
+    private PopupGate acquireGate(Long popupId) {
+        while (true) {
+            PopupGate gate = gates.computeIfAbsent(popupId, id -> new PopupGate(burst, ratePerSecond, maxConcurrent));
+            if (gate.permits.tryAcquire() || awaitPermit(popupId, gate)) {
+                return gate;
+            }
+            // 정리된 게이트를 잡은 경우 새 게이트로 다시 시도한다
+        }
+    }
+
+    /**
+     * 동시 처리 자리가 날 때까지 queue-timeout 동안 기다린다.
+     *
+     * @return 자리를 확보하면 true, 기다리는 동안 게이트가 정리되었으면 false
+     */
+    private boolean awaitPermit(Long popupId, PopupGate gate) {
+        if (gate.queued.incrementAndGet() > maxQueued) {
+            gate.queued.decrementAndGet();
+            throw shed(popupId, "queue_full", queueTimeoutMillis);
+        }
+
+        meterRegistry.counter(METRIC_NAME, "outcome", "queued").increment();
+        try {
+            if (gate.permits.tryAcquire(queueTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+            if (gates.get(popupId) != gate) {
+                return false;
+            }
+            throw shed(popupId, "queue_timeout", queueTimeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw shed(popupId, "interrupted", queueTimeoutMillis);
+        } finally {
+            gate.queued.decrementAndGet();
+        }
+    }
+
+    private RetryableBusinessException shed(Long popupId, String reason, long retryAfterMillis) {
+        meterRegistry.counter(METRIC_NAME, "outcome", "shed", "reason", reason).increment();
+        long retryAfterSeconds = Math.max(1, (long) Math.ceil(retryAfterMillis / 1000.0));
+        log.debug("대기 신청 거절 - 팝업 ID: {}, 사유: {}, 재시도: {}초 후", popupId, reason, retryAfterSeconds);
+        return new RetryableBusinessException(ErrorType.WAITING_ADMISSION_REJECTED, String.valueOf(popupId), retryAfterSeconds);
+    }
+
+    private static final class PopupGate {
+        private final TokenBucket bucket;
+        private final Semaphore permits;
+        private final AtomicInteger queued = new AtomicInteger();
+        private volatile long lastUsedNanos = System.nanoTime();
+
+        private PopupGate(int burst, double ratePerSecond, int maxConcurrent) {
+            this.bucket = new TokenBucket(burst, ratePerSecond);
+            this.permits = new Semaphore(maxConcurrent, true);
+        }
+
+        private void release() {
+            lastUsedNanos = System.nanoTime();
+            permits.release();
+        }
+
+        private boolean retireIfIdle(long thresholdNanos, int maxConcurrent) {
+            return lastUsedNanos - thresholdNanos <= 0 && queued.get() == 0 && permits.tryAcquire(maxConcurrent);
+        }
+    }
+
+    private static final class TokenBucket {
+        private final double capacity;
+        private final double refillPerMillis;
+        private double tokens;
+        private long lastRefillNanos;
+
+        private TokenBucket(int capacity, double ratePerSecond) {
+            this.capacity = capacity;
+            this.refillPerMillis = ratePerSecond / 1000.0;
+            this.tokens = capacity;
+            this.lastRefillNanos = System.nanoTime();
+        }
+
+        /**
+         * 토큰을 하나 소비한다.
+         *
+         * @return 소비에 성공하면 0, 실패하면 다음 토큰까지 남은 시간(ms)
+         */
+        private synchronized long tryConsume() {
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - lastRefillNanos) / 1_000_000.0 * refillPerMillis);
+            lastRefillNanos = now;
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            return Math.max(1, (long) Math.ceil((1 - tokens) / refillPerMillis));
+        }
+    }
+}
@@ -0,0 +1,310 @@
+package com.example.demo.application.service;
+
+import com.example.demo.domain.model.waiting.Waiting;
+import com.example.demo.domain.model.waiting.WaitingDeadline;
+import com.example.demo.domain.model.waiting.WaitingQuery;
+import com.example.demo.domain.model.waiting.WaitingStatus;
+import com.example.demo.domain.model.waiting.WaitingSummary;
+import com.example.demo.domain.port.WaitingPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * 맨 앞 대기의 입장 기한(입장 시간 초과, 노쇼)을 메모리 지연 큐로 관리하는 스케줄러.
+ * 입장 가능 시간이 설정될 때 기한을 등록하고, 기한이 되면 {@link WaitingDeadline} 이벤트를 발행한다.
+ * 전체 대기를 주기적으로 조회하지 않으며, 재시작 시에는 맨 앞 대기만 한 번 조회하여 복원한다.
+ * 같은 시점에 도래한 기한은 팝업별로 묶어 가상 스레드에서 병렬 처리하되, 동시 처리 그룹 수는 제한하고
+ * 한 팝업의 그룹은 한 번에 하나만 처리한다. 각 기한은 이벤트 리스너의 개별 트랜잭션에서 처리되어 실패가 다른 기한에 번지지 않는다.
+ * 처리에 실패한 기한은 추적을 유지한 채 지수 백오프로 다시 시도하고, 드물게 맨 앞 대기를 조회하여 등록이 누락된 기한을 보완한다.
+ * 기한은 커밋한 노드에만 등록되므로, 그 노드가 중단되어 남은 기한은 임대를 가진 한 노드가 보완 조회로 이어받는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WaitingDeadlineScheduler {
+
+    // 재시작 후 복원 시 이보다 오래 지난 입장 시간 초과 알림은 발송하지 않는다
+    private static final Duration STALE_NOTIFICATION_LIMIT = Duration.ofSeconds(30);
+    // 같은 팝업의 그룹이 처리 중이면 이 시간 뒤에 다시 시도한다
+    private static final Duration BUSY_POPUP_RETRY_DELAY = Duration.ofSeconds(1);
+    // 처리에 실패한 기한의 재시도 간격 (시도마다 두 배, 최대값까지)
+    private static final Duration FAILURE_RETRY_DELAY = Duration.ofSeconds(5);
+    private static final Duration MAX_FAILURE_RETRY_DELAY = Duration.ofMinutes(5);
+    private static final String METRIC_NAME = "waiting.deadline";
+    private static final String SWEEP_JOB_NAME = "waiting-deadline-sweep";
+
+    private final WaitingPort waitingPort;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+    private final SchedulerLeaseService schedulerLeaseService;
+
+    private final DelayQueue<ScheduledDeadline> deadlines = new DelayQueue<>();
+    private final Set<Long> trackedWaitingIds = ConcurrentHashMap.newKeySet();
+    private final Set<Long> runningPopupIds = ConcurrentHashMap.newKeySet();
+    private final ExecutorService groupExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Value("${app.waiting.deadline.max-concurrency:2}")
+    private int maxConcurrency;
+
+    private volatile Semaphore groupPermits;
+    private volatile Thread worker;
+
+    /**
+     * 애플리케이션 시작 시 입장 가능 시간이 설정된 맨 앞 대기의 기한을 복원하고 발화 스레드를 시작한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        List<WaitingSummary> heads = waitingPort.findSummaries(WaitingQuery.forEnterDeadline());
+        heads.forEach(head -> register(head.id(), head.popupId(), head.canEnterAt()));
+        log.info("입장 기한 복원 완료 - {}건", heads.size());
+
+        groupPermits = new Semaphore(Math.max(1, maxConcurrency));
+        Thread thread = new Thread(this::runLoop, "waiting-deadline-scheduler");
+        thread.setDaemon(true);
+        thread.start();
+        worker = thread;
+    }
+
+    @PreDestroy
+    public void stop() {
+        Thread thread = worker;
+        if (thread != null) {
+            thread.interrupt();
+        }
+        groupExecutor.shutdownNow();
+    }
+
+    /**
+     * 맨 앞(0번)이 되어 입장 가능 시간이 설정된 대기들의 기한을 등록한다.
+     * 트랜잭션 안이면 커밋 후에 등록한다.
+     */
+    public void trackHeads(Collection<Waiting> waitings) {
+        List<Waiting> heads = waitings.stream()
+                .filter(waiting -> waiting.status() == WaitingStatus.WAITING)
+                .filter(waiting -> waiting.waitingNumber() == 0)
+                .filter(waiting -> waiting.canEnterAt() != null)
+                .toList();
+        if (heads.isEmpty()) {
+            return;
+        }
+        afterCommit(() -> heads.forEach(head -> register(head.id(), head.popup().getId(), head.canEnterAt())));
+    }
+
+    /**
+     * 입장/노쇼 처리된 대기의 기한 추적을 해제한다.
+     * 큐에 남은 기한은 발화 시점에 추적 여부를 확인하여 무시한다.
+     */
+    public void cancel(Long waitingId) {
+        afterCommit(() -> trackedWaitingIds.remove(waitingId));
+    }
+
+    /**
+     * 노쇼 기한이 지났는데 추적 중이 아닌 맨 앞 대기를 다시 등록한다.
+     * 커밋 직후 등록이 누락되었거나 등록한 노드가 중단된 경우를 위한 보완 작업이며, 등록된 기한은 곧바로 발화된다.
+     * 여러 노드가 같은 기한을 중복 발화하지 않도록 임대를 가진 노드만 실행한다.
+     */
+    @Scheduled(fixedDelayString = "${app.waiting.deadline.sweep-interval:60}", initialDelayString = "${app.waiting.deadline.sweep-interval:60}", timeUnit = SECONDS)
+    public void sweepMissedDeadlines() {
+        if (!schedulerLeaseService.tryAcquire(SWEEP_JOB_NAME)) {
+            return; // 다른 노드가 보완 중
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<WaitingSummary> missed = waitingPort.findSummaries(WaitingQuery.forEnterDeadline()).stream()
+                .filter(head -> !trackedWaitingIds.contains(head.id()))
+                .filter(head -> new WaitingDeadline(head.id(), head.popupId(), head.canEnterAt(), WaitingDeadline.Type.NO_SHOW)
+                        .dueAt().isBefore(now))
+                .toList();
+        missed.forEach(head -> register(head.id(), head.popupId(), head.canEnterAt()));
+        if (!missed.isEmpty()) {
+            meterRegistry.counter(METRIC_NAME + ".swept").increment(missed.size());
+            log.warn("누락된 입장 기한 보완 등록 - {}건", missed.size());
+        }
+    }
+
+    private void register(Long waitingId, Long popupId, LocalDateTime canEnterAt) {
+        if (!trackedWaitingIds.add(waitingId)) {
+            return; // 입장 가능 시간은 한 번만 설정되므로 이미 등록된 기한과 같다
+        }
+        LocalDateTime now = LocalDateTime.now();
+        for (WaitingDeadline.Type type : WaitingDeadline.Type.values()) {
+            WaitingDeadline deadline = new WaitingDeadline(waitingId, popupId, canEnterAt, type);
+            if (type == WaitingDeadline.Type.ENTER_TIME_OVER && deadline.dueAt().isBefore(now.minus(STALE_NOTIFICATION_LIMIT))) {
+                continue;
+            }
+            deadlines.add(new ScheduledDeadline(deadline, toEpochMillis(deadline.dueAt()), 0));
+        }
+    }
+
+    private void runLoop() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                List<ScheduledDeadline> due = new ArrayList<>();
+                due.add(deadlines.take());
+                deadlines.drainTo(due);
+                dispatch(groupByPopup(due));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private Map<Long, List<ScheduledDeadline>> groupByPopup(List<ScheduledDeadline> due) {
+        Map<Long, List<ScheduledDeadline>> groups = new LinkedHashMap<>();
+        for (ScheduledDeadline scheduled : due) {
+            groups.computeIfAbsent(scheduled.deadline().popupId(), id -> new ArrayList<>()).add(scheduled);
+        }
+        return groups;
+    }
+
+    private void dispatch(Map<Long, List<ScheduledDeadline>> groups) throws InterruptedException {
+        for (Map.Entry<Long, List<ScheduledDeadline>> group : groups.entrySet()) {
+            Long popupId = group.getKey();
+            List<ScheduledDeadline> scheduled = group.getValue();
+            if (!runningPopupIds.add(popupId)) {
+                requeue(scheduled);
+                continue;
+            }
+            try {
+                groupPermits.acquire();
+            } catch (InterruptedException e) {
+                runningPopupIds.remove(popupId);
+                requeue(scheduled);
+                throw e;
+            }
+            try {
+                groupExecutor.execute(() -> {
+                    try {
+                        processGroup(popupId, scheduled);
+                    } finally {
+                        runningPopupIds.remove(popupId);
+                        groupPermits.release();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                runningPopupIds.remove(popupId);
+                groupPermits.release();
+                requeue(scheduled);
+            }
+        }
+    }
+
+    private void requeue(List<ScheduledDeadline> scheduled) {
+        long retryAt = System.currentTimeMillis() + BUSY_POPUP_RETRY_DELAY.toMillis();
+        scheduled.forEach(item -> deadlines.add(new ScheduledDeadline(item.deadline(), retryAt, item.attempt())));
+    }
+
+    private void retryLater(ScheduledDeadline failed) {
+        int attempt = failed.attempt() + 1;
+        long delayMillis = Math.min(MAX_FAILURE_RETRY_DELAY.toMillis(), FAILURE_RETRY_DELAY.toMillis() << Math.min(attempt - 1, 16));
+        deadlines.add(new ScheduledDeadline(failed.deadline(), System.currentTimeMillis() + delayMillis, attempt));
+        log.warn("입장 기한 재시도 예약 - 대기 ID: {}, 종류: {}, 시도: {}회, {}ms 후",
+                failed.deadline().waitingId(), failed.deadline().type(), attempt, delayMillis);
+    }
+
+    /**
+     * 한 팝업에 도래한 기한을 기한 순서대로 처리한다.
+     * 입장 시간 초과 알림이 같은 대기의 노쇼 처리보다 먼저 처리되도록 정렬한다.
+     */
+    private void processGroup(Long popupId, List<ScheduledDeadline> scheduled) {
+        long startedAt = System.nanoTime();
+        int failed = 0;
+        List<ScheduledDeadline> ordered = scheduled.stream()
+                .sorted(Comparator.comparing(item -> item.deadline().dueAt()))
+                .toList();
+        for (ScheduledDeadline item : ordered) {
+            if (!fire(item.deadline())) {
+                failed++;
+                retryLater(item);
+            }
+        }
+        String outcome = failed == 0 ? "success" : "failed";
+        meterRegistry.timer(METRIC_NAME + ".group", "outcome", outcome)
+                .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        if (failed > 0) {
+            log.warn("입장 기한 그룹 처리 중 실패 - 팝업 ID: {}, 전체: {}건, 실패: {}건", popupId, ordered.size(), failed);
+        }
+    }
+
+    /**
+     * 기한 이벤트를 발행한다. 노쇼 기한은 처리에 성공한 뒤에만 추적을 해제하여, 실패하면 재시도할 수 있게 한다.
+     */
+    private boolean fire(WaitingDeadline deadline) {
+        if (!trackedWaitingIds.contains(deadline.waitingId())) {
+            return true;
+        }
+        String type = deadline.type().name().toLowerCase();
+        try {
+            eventPublisher.publishEvent(deadline);
+            if (deadline.type() == WaitingDeadline.Type.NO_SHOW) {
+                trackedWaitingIds.remove(deadline.waitingId());
+            }
+            meterRegistry.counter(METRIC_NAME, "type", type, "outcome", "processed").increment();
+            return true;
+        } catch (Exception e) {
+            meterRegistry.counter(METRIC_NAME, "type", type, "outcome", "failed").increment();
+            log.error("입장 기한 처리 실패 - 대기 ID: {}, 종류: {}", deadline.waitingId(), deadline.type(), e);
+            return false;
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static long toEpochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private record ScheduledDeadline(WaitingDeadline deadline, long dueAtMillis, int attempt) implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(dueAtMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getDelay(TimeUnit.MILLISECONDS), other.getDelay(TimeUnit.MILLISECONDS));
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.demo.application.service;
+
+import com.example.demo.domain.model.ban.Ban;
+import com.example.demo.domain.model.ban.BanType;
+import com.example.demo.domain.model.waiting.WaitingEligibility;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * 회원/팝업별 당일 대기 신청 자격을 메모리에 보관하는 서비스.
+ * 대기 생성, 노쇼 처리, 제재 저장 시점에 갱신되며 날짜가 바뀌면 전체를 비운다.
+ * 보관된 자격은 노드별이라 다른 노드의 변경을 놓칠 수 있으므로, 되돌려지지 않는 거절 사유로 조회 없이 거절하는 데에만 쓰고
+ * 신청 허용 여부는 호출 측에서 항상 DB로 확인한 뒤 {@link #put}으로 갱신한다.
+ */
+@Slf4j
+@Service
+public class WaitingEligibilityService {
+
+    private final Map<EligibilityKey, WaitingEligibility> eligibilities = new ConcurrentHashMap<>();
+    private volatile LocalDate currentDate = LocalDate.now();
+
+    /**
+     * 보관된 당일 신청 자격을 조회한다.
+     *
+     * @return 보관된 자격, 없거나 오늘이 아닌 날짜면 empty
+     */
+    public Optional<WaitingEligibility> find(Long memberId, Long popupId, LocalDate date) {
+        if (!isCurrent(date)) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(eligibilities.get(new EligibilityKey(memberId, popupId)));
+    }
+
+    public void put(Long memberId, Long popupId, LocalDate date, WaitingEligibility eligibility) {
+        if (isCurrent(date)) {
+            eligibilities.put(new EligibilityKey(memberId, popupId), eligibility);
+        }
+    }
+
+    /**
+     * 대기 생성을 반영한다. 트랜잭션 안이면 커밋 후에 반영한다.
+     */
+    public void recordWaitingCreated(Long memberId, Long popupId, LocalDate date) {
+        afterCommit(() -> update(memberId, popupId, date, WaitingEligibility::withWaitingCreated));
+    }
+
+    /**
+     * 노쇼 처리를 반영한다. 트랜잭션 안이면 커밋 후에 반영한다.
+     */
+    public void recordNoShow(Long memberId, Long popupId, LocalDate date) {
+        afterCommit(() -> update(memberId, popupId, date, WaitingEligibility::withNoShow));
+    }
+
+    /**
+     * 제재 저장을 반영한다. 글로벌 제재는 해당 회원의 모든 팝업 자격에 적용한다.
+     */
+    public void recordBan(Ban ban) {
+        Long memberId = ban.getMember().id();
+        afterCommit(() -> {
+            if (ban.getType() == BanType.GLOBAL) {
+                eligibilities.replaceAll((key, eligibility) -> key.memberId().equals(memberId)
+                        ? eligibility.withBanUntil(ban.getExpiresAt())
+                        : eligibility);
+                return;
+            }
+            eligibilities.computeIfPresent(new EligibilityKey(memberId, ban.getPopup().getId()),
+                    (key, eligibility) -> eligibility.withBanUntil(ban.getExpiresAt()));
+        });
+    }
+
+    // 보관된 자격만 갱신하고, 없으면 다음 신청 시 조회로 채운다
+    private void update(Long memberId, Long popupId, LocalDate date, UnaryOperator<WaitingEligibility> change) {
+        if (isCurrent(date)) {
+            eligibilities.computeIfPresent(new EligibilityKey(memberId, popupId), (key, eligibility) -> change.apply(eligibility));
+        }
+    }
+
+    private boolean isCurrent(LocalDate date) {
+        LocalDate today = LocalDate.now();
+        if (today.isAfter(currentDate)) {
+            rollover(today);
+        }
+        return date.equals(currentDate);
+    }
+
+    private synchronized void rollover(LocalDate today) {
+        if (today.isAfter(currentDate)) {
+            log.info("대기 신청 자격 일자 변경 - {} -> {}, 삭제 {}건", currentDate, today, eligibilities.size());
+            eligibilities.clear();
+            currentDate = today;
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private record EligibilityKey(Long memberId, Long popupId) {
+    }
+}
@@ -7,7 +7,6 @@ import com.example.demo.domain.model.notification.Notification;
 import com.example.demo.domain.model.waiting.Waiting;
 import com.example.demo.domain.model.waiting.WaitingDomainEvent;
 import com.example.demo.domain.model.waiting.WaitingEventType;
-import com.example.demo.domain.port.NotificationEventPort;
 import com.example.demo.domain.port.NotificationPort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -27,8 +26,8 @@ import java.time.format.DateTimeFormatter;
 public class WaitingNotificationService {
 
     private final NotificationPort notificationPort;
-    private final NotificationEventPort notificationEventPort;
-    private final EmailNotificationService emailNotificationService;
+    private final NotificationOutboxService notificationOutboxService;
+    private final NotificationUnreadCountService notificationUnreadCountService;
 
     // === 알림 정책 상수 ===
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("MM.dd");
@@ -53,21 +52,15 @@ public class WaitingNotificationService {
     }
 
     /**
-     * 알림 발송 공통 로직
+     * 알림 발송 공통 로직.
+     * 알림과 실시간 발송 아웃박스 메시지를 같은 트랜잭션에 기록하고, 실제 발송은 커밋 후 처리된다.
      */
     private void sendNotification(Notification notification) {
         try {
-            // 1. 알림 저장
             Notification savedNotification = notificationPort.save(notification);
-
-            // 2. 실시간 알림 발송 (SSE 연결이 있는 경우)
-            if (notificationEventPort.isConnected(notification.getMember().id())) {
-                notificationEventPort.sendRealTimeNotification(notification.getMember().id(), savedNotification);
-                log.debug("알림 발송 완료 - 멤버 ID: {}", notification.getMember().id());
-            } else {
-                log.debug("SSE 연결이 없는 회원입니다. 실시간 알림을 스킵합니다. - 멤버 ID: {}", notification.getMember().id());
-            }
-
+            notificationUnreadCountService.recordCreated(notification.getMember().id());
+            notificationOutboxService.publishRealtime(savedNotification);
+            log.debug("알림 저장 완료 - 멤버 ID: {}", notification.getMember().id());
         } catch (Exception e) {
             log.error("알림 발송 실패 - 멤버 ID: {}", notification.getMember().id(), e);
         }
@@ -230,8 +223,8 @@ public class WaitingNotificationService {
                     storeLocation                       // 매장 위치 링크
             );
 
-            // 비동기로 이메일 발송
-            emailNotificationService.sendWaitingEntryNotificationAsync(request);
+            // 커밋 후 아웃박스를 통해 발송
+            notificationOutboxService.publishEntryEmail(waiting.member().id(), request);
 
         } catch (Exception e) {
             log.error("입장 이메일 알림 발송 실패 - 대기 ID: {}", waiting.id(), e);
@@ -0,0 +1,97 @@
+package com.example.demo.application.service;
+
+import com.example.demo.domain.model.waiting.Waiting;
+import com.example.demo.domain.model.waiting.WaitingPosition;
+import com.example.demo.domain.port.NotificationEventPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 대기 순번 실시간 전송 서비스.
+ * 대기열 이동 시 계산된 새 순번을 대기 ID별로 모아 두었다가, 주기적으로 회원별 한 번의 SSE 이벤트로 전송한다.
+ * 연속된 입장 처리로 같은 대기의 순번이 여러 번 바뀌어도 마지막 순번만 전송된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WaitingPositionStreamService {
+
+    private final NotificationEventPort notificationEventPort;
+    private final WaitingTimeForecastService waitingTimeForecastService;
+
+    // 대기 ID별 전송 대기 중인 최신 순번
+    private final Map<Long, PendingPosition> pendingPositions = new ConcurrentHashMap<>();
+
+    /**
+     * 대기열 이동으로 순번이 바뀐 대기들을 전송 대상으로 등록한다.
+     * 재조회 없이 이동 처리에서 계산된 값을 그대로 사용하며, 트랜잭션 안이면 커밋 후에 등록하여 롤백된 순번은 전송하지 않는다.
+     * 예측기에서 구할 수 있으면 예상 대기 시간의 신뢰 구간을 함께 담는다.
+     *
+     * @param shiftedWaitings 순번이 갱신된 대기 목록
+     */
+    public void publishQueueShift(List<Waiting> shiftedWaitings) {
+        List<Map.Entry<Long, PendingPosition>> positions = shiftedWaitings.stream()
+                .map(waiting -> Map.entry(waiting.id(), new PendingPosition(waiting.member().id(), toPosition(waiting))))
+                .toList();
+        if (positions.isEmpty()) {
+            return;
+        }
+        afterCommit(() -> positions.stream()
+                .filter(entry -> notificationEventPort.isConnected(entry.getValue().memberId()))
+                .forEach(entry -> pendingPositions.put(entry.getKey(), entry.getValue())));
+    }
+
+    @Scheduled(fixedDelayString = "${app.sse.waiting-position.flush-interval:1000}")
+    public void flushPendingPositions() {
+        if (pendingPositions.isEmpty()) {
+            return;
+        }
+
+        Map<Long, List<WaitingPosition>> positionsByMember = new HashMap<>();
+        for (Long waitingId : List.copyOf(pendingPositions.keySet())) {
+            PendingPosition pending = pendingPositions.remove(waitingId);
+            if (pending != null) {
+                positionsByMember.computeIfAbsent(pending.memberId(), k -> new ArrayList<>()).add(pending.position());
+            }
+        }
+
+        log.debug("대기 순번 실시간 전송 - 회원 수: {}", positionsByMember.size());
+        positionsByMember.forEach((memberId, positions) -> {
+            try {
+                notificationEventPort.sendWaitingPositions(memberId, positions);
+            } catch (Exception e) {
+                log.warn("대기 순번 전송 실패 - 회원 ID: {}, 에러: {}", memberId, e.getMessage());
+            }
+        });
+    }
+
+    private WaitingPosition toPosition(Waiting waiting) {
+        return WaitingPosition.from(waiting, waitingTimeForecastService.forecast(waiting.popup().getId(), waiting.waitingNumber()));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private record PendingPosition(Long memberId, WaitingPosition position) {
+    }
+}
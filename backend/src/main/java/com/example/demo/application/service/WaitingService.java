@@ -8,19 +8,31 @@ import com.example.demo.application.mapper.WaitingDtoMapper;
 import com.example.demo.common.exception.BusinessException;
 import com.example.demo.common.exception.ErrorType;
 import com.example.demo.domain.model.Member;
+import com.example.demo.domain.model.ban.Ban;
 import com.example.demo.domain.model.ban.BanQuery;
 import com.example.demo.domain.model.ban.BanType;
 import com.example.demo.domain.model.waiting.Waiting;
+import com.example.demo.domain.model.waiting.WaitingEligibility;
 import com.example.demo.domain.model.waiting.WaitingQuery;
+import com.example.demo.domain.model.waiting.WaitingStatistics;
+import com.example.demo.domain.model.waiting.PopupWaitingStatistics;
 import com.example.demo.domain.model.waiting.WaitingStatus;
+import com.example.demo.domain.model.waiting.WaitingSummary;
+import com.example.demo.domain.model.waiting.WaitingTimeEstimator;
+import com.example.demo.domain.model.waiting.WaitingTimeForecast;
 import com.example.demo.domain.port.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @Slf4j
 @Service
@@ -35,12 +47,27 @@ public class WaitingService {
     private final WaitingNotificationService waitingNotificationService;
     private final BanPort banPort;
     private final WaitingStatisticsPort waitingStatisticsPort;
+    private final WaitingPositionStreamService waitingPositionStreamService;
+    private final WaitingTimeForecastService waitingTimeForecastService;
+    private final WaitingEligibilityService waitingEligibilityService;
+    private final WaitingDeadlineScheduler waitingDeadlineScheduler;
 
     /**
      * 현장 대기 신청
      */
     @Transactional
     public WaitingCreateResponse createWaiting(WaitingCreateRequest request, LocalDateTime requestTime) {
+        // 보관된 신청 자격 중 당일 되돌려지지 않는 사유(제재, 노쇼 한도)만 조회 없이 거절
+        LocalDate requestDate = requestTime.toLocalDate();
+        waitingEligibilityService.find(request.memberId(), request.popupId(), requestDate)
+                .filter(eligibility -> eligibility.hasLastingRejectionAt(requestTime))
+                .ifPresent(eligibility -> verifyEligibility(request, eligibility, requestTime));
+
+        // 제재 여부와 그날 해당 팝업 예약 이력은 항상 DB 기준으로 확인 (노쇼 1개만 있는 경우는 재신청 허용)
+        // 중복 신청이 팝업 하이드레이션 비용을 치르지 않도록 인덱스 조회만으로 먼저 거절한다
+        WaitingEligibility eligibility = loadEligibility(request.memberId(), request.popupId(), requestDate);
+        verifyEligibility(request, eligibility, requestTime);
+
         // 1. 팝업 존재 여부 확인
         var popup = popupPort.findById(request.popupId())
                 .orElseThrow(() -> new BusinessException(ErrorType.POPUP_NOT_FOUND, String.valueOf(request.popupId())));
@@ -50,34 +77,6 @@ public class WaitingService {
             throw new BusinessException(ErrorType.POPUP_NOT_OPENED);
         }
 
-        // 제재 여부 확인
-        boolean notPopupBan = banPort.findByQuery(BanQuery.byMemberAndPopup(request.memberId(), request.popupId())).isEmpty();
-        boolean notGlobalBan = banPort.findByQuery(BanQuery.byBanTypeAndMemberIdAndIsActive(BanType.GLOBAL, request.memberId(), true)).isEmpty();
-
-        if (!notPopupBan || !notGlobalBan) {
-            throw new BusinessException(ErrorType.BANNED_MEMBER, String.valueOf(request.memberId()));
-        }
-
-        // 그날 해당 팝업에 예약한 적 있는지 확인
-        // 노쇼 1개만 있는 경우는 재신청 허용
-        List<Waiting> todayWaitings = waitingPort.findByQuery(
-                WaitingQuery.forMemberAndPopupOnDate(request.memberId(), request.popupId(), requestTime.toLocalDate())
-        );
-
-        // 노쇼가 아닌 예약이 있는지 확인
-        boolean hasActiveWaiting = todayWaitings.stream()
-                .anyMatch(w -> w.status() != WaitingStatus.NO_SHOW);
-
-        // 노쇼 개수 확인
-        long noShowCount = todayWaitings.stream()
-                .filter(w -> w.status() == WaitingStatus.NO_SHOW)
-                .count();
-
-        // 활성 예약이 있거나, 노쇼가 2개 이상이면 중복 신청 불가
-        if (hasActiveWaiting || noShowCount >= 2) {
-            throw new BusinessException(ErrorType.DUPLICATE_WAITING, String.valueOf(request.popupId()));
-        }
-
         // 2. 다음 대기 번호 조회
         Integer nextWaitingNumber = waitingPort.getNextWaitingNumber(request.popupId());
 
@@ -85,8 +84,8 @@ public class WaitingService {
         Member member = memberPort.findById(request.memberId())
                 .orElseThrow(() -> new BusinessException(ErrorType.MEMBER_NOT_FOUND, String.valueOf(request.memberId())));
 
-        Integer expectedWaitingTime = waitingStatisticsPort.findCompletedStatisticsByPopupId(request.popupId())
-                .calculateExpectedWaitingTime(nextWaitingNumber);
+        Integer expectedWaitingTime = estimatorOf(request.popupId(), waitingStatisticsPort.findCompletedStatisticsByPopupId(request.popupId()))
+                .estimateMinutes(nextWaitingNumber);
 
         // 4. 대기 정보 생성
         Waiting waiting = new Waiting(
@@ -100,7 +99,7 @@ public class WaitingService {
                 WaitingStatus.WAITING,
                 requestTime,
                 null,
-                null,
+                nextWaitingNumber == 0 ? requestTime : null, // 바로 맨 앞이면 신청 시점부터 입장 가능
                 expectedWaitingTime,
                 nextWaitingNumber
         );
@@ -108,6 +107,9 @@ public class WaitingService {
 
         // 5. 대기 정보 저장
         Waiting savedWaiting = waitingPort.save(waiting);
+        waitingTimeForecastService.recordArrival(request.popupId(), requestTime);
+        waitingEligibilityService.recordWaitingCreated(request.memberId(), request.popupId(), requestDate);
+        waitingDeadlineScheduler.trackHeads(List.of(savedWaiting));
 
         // 7. 확인 알림 발송
         waitingNotificationService.sendWaitingConfirmedNotification(savedWaiting);
@@ -124,6 +126,31 @@ public class WaitingService {
         return waitingDtoMapper.toCreateResponse(savedWaiting);
     }
 
+    /**
+     * 제재 이력과 당일 대기 요약으로 신청 자격을 구성하고 보관한다.
+     */
+    private WaitingEligibility loadEligibility(Long memberId, Long popupId, LocalDate date) {
+        List<Ban> activeBans = new ArrayList<>(banPort.findByQuery(BanQuery.byMemberAndPopup(memberId, popupId)));
+        activeBans.addAll(banPort.findByQuery(BanQuery.byBanTypeAndMemberIdAndIsActive(BanType.GLOBAL, memberId, true)));
+        List<WaitingSummary> todayWaitings = waitingPort.findSummaries(
+                WaitingQuery.forMemberAndPopupOnDate(memberId, popupId, date)
+        );
+
+        WaitingEligibility eligibility = WaitingEligibility.of(todayWaitings, activeBans);
+        waitingEligibilityService.put(memberId, popupId, date, eligibility);
+        return eligibility;
+    }
+
+    private void verifyEligibility(WaitingCreateRequest request, WaitingEligibility eligibility, LocalDateTime requestTime) {
+        if (eligibility.isBannedAt(requestTime)) {
+            throw new BusinessException(ErrorType.BANNED_MEMBER, String.valueOf(request.memberId()));
+        }
+        // 활성 예약이 있거나, 노쇼가 2개 이상이면 중복 신청 불가
+        if (eligibility.isDuplicate()) {
+            throw new BusinessException(ErrorType.DUPLICATE_WAITING, String.valueOf(request.popupId()));
+        }
+    }
+
     /**
      * 내 방문/예약 내역 조회 (무한 스크롤) 또는 단건 조회
      */
@@ -198,11 +225,105 @@ public class WaitingService {
         // 4. 입장 처리
         Waiting enteredWaiting = waiting.enter();
         waitingPort.save(enteredWaiting);
+        waitingStatisticsPort.recordCompletedWaiting(WaitingStatistics.fromCompletedWaiting(enteredWaiting));
+        waitingTimeForecastService.recordDeparture(waiting.popup().getId(), enteredWaiting.enteredAt());
+        waitingDeadlineScheduler.cancel(waitingId);
 
         // 5. 나머지 대기자들의 번호 감소 및 예상 시간 업데이트
         decrementWaitingNumbers(waiting.popup().getId());
     }
 
+    /**
+     * 대기열 앞에서부터 여러 팀을 한 번에 입장 처리한다. (관리자용)
+     * 입장 팀 수만큼 나머지 대기열을 한 번에 앞당기고, 임계 순번 알림도 한 번만 발송한다.
+     *
+     * @param popupId    팝업 ID
+     * @param count      입장시킬 팀 수 (waitingIds가 없을 때 사용, 대기 팀 수를 넘으면 전체 입장)
+     * @param waitingIds 입장시킬 대기 ID 목록 (대기열 맨 앞 팀들이어야 함)
+     * @return 입장 처리된 대기 ID 목록
+     */
+    @Transactional
+    public List<Long> enterWaitings(Long popupId, Integer count, List<Long> waitingIds) {
+        // 1. 대기열 조회 (순번 순)
+        List<Waiting> queue = waitingPort.findByQuery(WaitingQuery.forPopup(popupId, WaitingStatus.WAITING)).stream()
+                .sorted(Comparator.comparing(Waiting::waitingNumber))
+                .toList();
+
+        // 2. 입장 팀 수 결정 및 검증
+        int admitCount = resolveAdmitCount(queue, count, waitingIds);
+        if (admitCount == 0) {
+            return List.of();
+        }
+
+        // 3. 입장 처리 (일괄 저장 후 통계는 팝업당 한 번만 누적)
+        List<Waiting> enteredWaitings = queue.subList(0, admitCount).stream()
+                .map(waiting -> waiting.enterWithin(admitCount))
+                .toList();
+        waitingPort.saveAll(enteredWaitings);
+        waitingStatisticsPort.recordCompletedWaitings(enteredWaitings.stream()
+                .map(WaitingStatistics::fromCompletedWaiting)
+                .toList());
+
+        List<Long> enteredIds = new ArrayList<>(admitCount);
+        for (Waiting enteredWaiting : enteredWaitings) {
+            waitingTimeForecastService.recordDeparture(popupId, enteredWaiting.enteredAt());
+            waitingDeadlineScheduler.cancel(enteredWaiting.id());
+            enteredIds.add(enteredWaiting.id());
+        }
+
+        // 4. 나머지 대기열을 한 번에 앞당김
+        shiftWaitingNumbers(popupId, queue.subList(admitCount, queue.size()), admitCount);
+
+        log.info("[일괄 입장 처리] popupId: {}, 입장 팀 수: {}, 남은 대기 팀 수: {}",
+                popupId, admitCount, queue.size() - admitCount);
+        return enteredIds;
+    }
+
+    /**
+     * 맨 앞(0번)인데 입장 가능 시간이 누락된 대기를 입장 가능 상태로 보정한다.
+     *
+     * @return 보정된 대기 수
+     */
+    @Transactional
+    public int markMissingCanEnterAt() {
+        List<WaitingSummary> targets = waitingPort.findSummaries(WaitingQuery.forCanEnterWaiting());
+        if (targets.isEmpty()) {
+            return 0;
+        }
+        log.warn("입장 가능 시간 누락 대기 보정 대상: {}명", targets.size());
+        List<Waiting> markedWaitings = waitingPort.findByQuery(
+                        WaitingQuery.forWaitingIds(targets.stream().map(WaitingSummary::id).toList())
+                ).stream()
+                .peek(waiting -> log.info("입장 가능 시간 설정 처리 시작 - 대기 ID: {}, 회원 ID: {}, 팝업 ID: {}",
+                        waiting.id(), waiting.member().id(), waiting.popup().getId()))
+                .map(Waiting::markAsCanEnter)
+                .toList();
+        int affected = waitingPort.saveAll(markedWaitings);
+        waitingDeadlineScheduler.trackHeads(markedWaitings);
+        return affected;
+    }
+
+    private int resolveAdmitCount(List<Waiting> queue, Integer count, List<Long> waitingIds) {
+        if (waitingIds != null && !waitingIds.isEmpty()) {
+            Set<Long> targetIds = new HashSet<>(waitingIds);
+            if (targetIds.size() > queue.size()) {
+                throw new BusinessException(ErrorType.WAITING_NOT_READY, "대기 팀 수보다 많은 팀을 입장시킬 수 없습니다.");
+            }
+            // 지정한 대기들이 대기열 맨 앞 팀들과 일치해야 함
+            boolean frontOfQueue = queue.subList(0, targetIds.size()).stream()
+                    .allMatch(waiting -> targetIds.contains(waiting.id()));
+            if (!frontOfQueue) {
+                throw new BusinessException(ErrorType.WAITING_NOT_READY, "대기열 앞 순번부터 입장할 수 있습니다.");
+            }
+            return targetIds.size();
+        }
+
+        if (count == null || count < 1) {
+            throw new BusinessException(ErrorType.INVALID_BATCH_ENTER_COUNT, String.valueOf(count));
+        }
+        return Math.min(count, queue.size());
+    }
+
     /**
      * 특정 팝업의 대기 순번을 감소시키고 예상 대기시간을 업데이트한다.
      * N+1 문제 방지를 위해 배치 저장 사용
@@ -210,56 +331,76 @@ public class WaitingService {
      * @param popupId 팝업 ID
      */
     private void decrementWaitingNumbers(Long popupId) {
-        // 1. 해당 팝업의 모든 대기중인 대기 조회
+        // 해당 팝업의 모든 대기중인 대기 조회
         WaitingQuery query = WaitingQuery.forPopup(popupId, WaitingStatus.WAITING);
-        List<Waiting> waitings = waitingPort.findByQuery(query);
+        shiftWaitingNumbers(popupId, waitingPort.findByQuery(query), 1);
+    }
 
-        // 2. 팝업 통계 조회
+    /**
+     * 대기자들의 순번을 shift만큼 앞당기고 예상 대기시간을 업데이트한다.
+     * 새로 0번이 된 팀에는 입장 알림을, 새로 3번 이내로 들어온 팀에는 3팀 전 알림을 보낸다.
+     *
+     * @param popupId  팝업 ID
+     * @param waitings 순번을 앞당길 대기 목록
+     * @param shift    앞당길 순번 수
+     */
+    private void shiftWaitingNumbers(Long popupId, List<Waiting> waitings, int shift) {
+        // 1. 팝업 통계 조회
         var statistics = waitingStatisticsPort.findCompletedStatisticsByPopupId(popupId);
         Double avgTimePerPerson = statistics.calculateAverageTimePerPerson();
+        WaitingTimeEstimator estimator = estimatorOf(popupId, statistics);
 
         log.info("[입장 처리] 예상 대기 시간 업데이트 시작 - popupId: {}, 평균 대기시간: {}분/팀, 대기자 수: {}",
                 popupId, avgTimePerPerson, waitings.size());
 
         Waiting newFirstWaiting = null;
-        Waiting new3rdWaiting = null;
-        List<Waiting> decrementedWaitings = new java.util.ArrayList<>();
+        List<Waiting> newNearWaitings = new ArrayList<>();
+        List<Waiting> decrementedWaitings = new ArrayList<>();
 
-        // 3. 대기 중인 모든 대기자의 번호를 1씩 감소
+        // 2. 대기 중인 모든 대기자의 번호를 shift만큼 감소
         for (Waiting waiting : waitings) {
-            if (waiting.waitingNumber() > 0) {
-                Waiting decremented = waiting.minusWaitingNumber(statistics);
+            if (waiting.waitingNumber() >= shift) {
+                Waiting decremented = waiting.minusWaitingNumber(shift, estimator);
                 decrementedWaitings.add(decremented);
 
                 log.debug("[입장 처리] 예상 대기 시간 업데이트 - waitingId: {}, 대기번호: {}번->{}번, 예상시간: {}분",
                         waiting.id(), waiting.waitingNumber(), decremented.waitingNumber(),
                         decremented.expectedWaitingTimeMinutes());
 
-                // 새로 0번이 된 사람 (기존 1번)
+                // 새로 0번이 된 사람
                 if (decremented.waitingNumber() == 0) {
                     newFirstWaiting = decremented;
                 }
-                // 새로 3번이 된 사람 (기존 4번)
-                else if (decremented.waitingNumber() == 3) {
-                    new3rdWaiting = decremented;
+                // 새로 3번 이내로 들어온 사람 (한 칸씩 앞당길 때는 기존 4번)
+                else if (waiting.waitingNumber() > 3 && decremented.waitingNumber() <= 3) {
+                    newNearWaitings.add(decremented);
                 }
             }
         }
 
-        // 4. 배치로 한 번에 저장 (N+1 문제 해결)
+        // 3. 배치로 한 번에 저장 (N+1 문제 해결)
         if (!decrementedWaitings.isEmpty()) {
-            waitingPort.saveAll(decrementedWaitings);
-            log.info("[입장 처리] 예상 대기 시간 업데이트 완료 - {} 건 일괄 저장", decrementedWaitings.size());
+            int affected = waitingPort.saveAll(decrementedWaitings);
+            log.info("[입장 처리] 예상 대기 시간 업데이트 완료 - {} 건 일괄 저장", affected);
+            waitingPositionStreamService.publishQueueShift(decrementedWaitings);
+            waitingDeadlineScheduler.trackHeads(decrementedWaitings);
         }
 
-        // 5. 새로 0번이 된 사람에게 입장 알림 발송 (SSE + 이메일)
+        // 4. 새로 0번이 된 사람에게 입장 알림 발송 (SSE + 이메일)
         if (newFirstWaiting != null) {
             waitingNotificationService.sendEnterNowNotification(newFirstWaiting);
         }
 
-        // 6. 새로 3번이 된 사람에게 3팀 전 알림 발송 (SSE)
-        if (new3rdWaiting != null) {
-            waitingNotificationService.sendEnter3TeamsBeforeNotification(new3rdWaiting);
-        }
+        // 5. 새로 3번 이내로 들어온 사람에게 3팀 전 알림 발송 (SSE)
+        newNearWaitings.forEach(waitingNotificationService::sendEnter3TeamsBeforeNotification);
+    }
+
+    /**
+     * 실시간 처리율 기반 예측을 우선 사용하고, 예측할 수 없으면 누적 통계 평균으로 계산하는 산정 전략.
+     */
+    private WaitingTimeEstimator estimatorOf(Long popupId, PopupWaitingStatistics statistics) {
+        return waitingNumber -> waitingTimeForecastService.forecast(popupId, waitingNumber)
+                .map(WaitingTimeForecast::expectedMinutes)
+                .orElseGet(() -> statistics.calculateExpectedWaitingTime(waitingNumber));
     }
-} 
+}
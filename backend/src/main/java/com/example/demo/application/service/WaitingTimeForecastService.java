@@ -0,0 +1,65 @@
+package com.example.demo.application.service;
+
+import com.example.demo.domain.model.waiting.PopupQueueForecaster;
+import com.example.demo.domain.model.waiting.WaitingTimeForecast;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * 팝업별 대기열 예측기를 메모리에 보관하고, 대기 등록/이탈 이벤트를 반영하는 서비스.
+ * 예측에 필요한 처리율이 아직 없으면 호출 측에서 누적 통계 기반 계산으로 대체한다.
+ * 오랫동안 등록/이탈이 없는 팝업(종료된 팝업 등)의 예측기는 주기적으로 제거한다.
+ */
+@Slf4j
+@Service
+public class WaitingTimeForecastService {
+
+    private final Map<Long, PopupQueueForecaster> forecasters = new ConcurrentHashMap<>();
+
+    @Value("${app.waiting.forecast.idle-ttl:86400}")
+    private long idleTtlSeconds;
+
+    public void recordArrival(Long popupId, LocalDateTime at) {
+        forecasterOf(popupId).recordArrival(at);
+    }
+
+    public void recordDeparture(Long popupId, LocalDateTime at) {
+        forecasterOf(popupId).recordDeparture(at);
+    }
+
+    /**
+     * 대기 순번의 예상 대기시간과 신뢰 구간을 예측한다.
+     *
+     * @param popupId       팝업 ID
+     * @param waitingNumber 대기 순번
+     * @return 예측 결과, 처리율 표본이 없으면 empty
+     */
+    public Optional<WaitingTimeForecast> forecast(Long popupId, int waitingNumber) {
+        PopupQueueForecaster forecaster = forecasters.get(popupId);
+        if (forecaster == null) {
+            return Optional.empty();
+        }
+        return forecaster.forecast(waitingNumber, LocalDateTime.now());
+    }
+
+    @Scheduled(fixedDelayString = "${app.waiting.forecast.eviction-interval:3600}", timeUnit = SECONDS)
+    public void evictIdleForecasters() {
+        LocalDateTime threshold = LocalDateTime.now().minusSeconds(idleTtlSeconds);
+        int before = forecasters.size();
+        forecasters.values().removeIf(forecaster -> forecaster.isIdleSince(threshold));
+        log.debug("유휴 대기열 예측기 정리 - 제거: {}, 남은 팝업 수: {}", before - forecasters.size(), forecasters.size());
+    }
+
+    private PopupQueueForecaster forecasterOf(Long popupId) {
+        return forecasters.computeIfAbsent(popupId, id -> new PopupQueueForecaster());
+    }
+}
@@ -12,6 +12,7 @@ public enum ErrorType {
 
     // 페이지네이션 관련 - NotificationService.java:56, 59
     INVALID_PAGE_SIZE(HttpStatus.BAD_REQUEST, "INVALID_PAGE_SIZE", "페이지 크기가 유효하지 않습니다"),
+    INVALID_NOTIFICATION_IDS(HttpStatus.BAD_REQUEST, "INVALID_NOTIFICATION_IDS", "삭제할 알림 ID 목록이 유효하지 않습니다"), // NotificationService.java
 
     // 정렬/필터 관련 - NotificationService.java:72, 84
     INVALID_READ_STATUS(HttpStatus.BAD_REQUEST, "INVALID_READ_STATUS", "유효하지 않은 읽음 상태입니다"),
@@ -34,14 +35,25 @@ public enum ErrorType {
     INVALID_OPENING_HOURS(HttpStatus.BAD_REQUEST, "INVALID_OPENING_HOURS", "운영 시간이 유효하지 않습니다"), // OpeningHours.java:20, WeeklyOpeningHours.java:25
     INVALID_POPUP_TYPE(HttpStatus.BAD_REQUEST, "INVALID_POPUP_TYPE", "지원하지 않는 팝업 타입입니다"), // PopupType.java:37
     WAITING_NOT_READY(HttpStatus.BAD_REQUEST, "WAITING_NOT_READY", "아직 입장할 수 없습니다."),
+    INVALID_BATCH_ENTER_COUNT(HttpStatus.BAD_REQUEST, "INVALID_BATCH_ENTER_COUNT", "입장시킬 팀 수 또는 대기 ID 목록이 필요합니다"), // WaitingService.java
     INVALID_WAITING_NUMBER(HttpStatus.INTERNAL_SERVER_ERROR, "INVALID_WAITING_NUMBER", "대기 번호가 유효하지 않습니다"),
     DUPLICATE_WAITING(HttpStatus.BAD_REQUEST, "DUPLICATE_WAITING", "이미 대기 했던 팝업입니다"), // WaitingService.java:66
     POPUP_NOT_OPENED(HttpStatus.BAD_REQUEST, "POPUP_NOT_OPENED", "팝업이 운영 중이지 않습니다"), // WaitingService.java:48
     BANNED_MEMBER(HttpStatus.FORBIDDEN, "BANNED_MEMBER", "제재된 회원입니다"), // WaitingService.java:55
+    WAITING_ADMISSION_REJECTED(HttpStatus.TOO_MANY_REQUESTS, "WAITING_ADMISSION_REJECTED", "대기 신청이 몰리고 있습니다. 잠시 후 다시 시도해주세요"), // WaitingAdmissionService.java
+
+    // 대기실 관련
+    LOBBY_NOT_OPENED(HttpStatus.NOT_FOUND, "LOBBY_NOT_OPENED", "대기실이 열려 있지 않은 팝업입니다"), // LobbyService.java
+    LOBBY_TOKEN_REQUIRED(HttpStatus.BAD_REQUEST, "LOBBY_TOKEN_REQUIRED", "대기실 순번 토큰이 필요합니다"), // LobbyService.java
+    LOBBY_TOKEN_INVALID(HttpStatus.FORBIDDEN, "LOBBY_TOKEN_INVALID", "유효하지 않은 대기실 순번 토큰입니다"), // LobbyService.java
+    LOBBY_NOT_RELEASED(HttpStatus.TOO_MANY_REQUESTS, "LOBBY_NOT_RELEASED", "아직 입장 순서가 되지 않았습니다"), // LobbyService.java
+    INVALID_LOBBY_RELEASE_RATE(HttpStatus.BAD_REQUEST, "INVALID_LOBBY_RELEASE_RATE", "초당 허용 인원은 1 이상이어야 합니다"), // LobbyService.java
 
     // 데이터 무결성 관련
     NULL_NOTIFICATION_ID(HttpStatus.BAD_REQUEST, "NULL_NOTIFICATION_ID", "알림 ID가 null입니다"), // NotificationPortAdapter.java:50
     INVALID_SOURCE_DOMAIN(HttpStatus.BAD_REQUEST, "INVALID_SOURCE_DOMAIN", "유효하지 않은 소스 도메인입니다"), // NotificationPortAdapter.java:176, ScheduledNotificationPortAdapter.java:118
+    INVALID_NOTIFICATION_SNAPSHOT(HttpStatus.INTERNAL_SERVER_ERROR, "INVALID_NOTIFICATION_SNAPSHOT", "알림 스냅샷을 처리할 수 없습니다"), // NotificationEntityMapper.java
+    INVALID_NOTIFICATION_OUTBOX_PAYLOAD(HttpStatus.INTERNAL_SERVER_ERROR, "INVALID_NOTIFICATION_OUTBOX_PAYLOAD", "알림 아웃박스 메시지를 처리할 수 없습니다"), // NotificationOutboxService.java
     UNSUPPORTED_NOTIFICATION_TYPE(HttpStatus.INTERNAL_SERVER_ERROR, "UNSUPPORTED_NOTIFICATION_TYPE", "지원하지 않는 알림 타입입니다"), // NotificationDtoMapper.java:62, NotificationPortAdapter.java:142, ScheduledNotificationPortAdapter.java:77, NotificationEntityMapper.java:123
 
     // 인증 관련
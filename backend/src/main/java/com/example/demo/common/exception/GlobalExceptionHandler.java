@@ -1,6 +1,7 @@
 package com.example.demo.common.exception;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindException;
 import org.springframework.validation.FieldError;
@@ -33,6 +34,22 @@ public class GlobalExceptionHandler {
                 .body(errorResponse);
     }
     
+    @ExceptionHandler(RetryableBusinessException.class)
+    public ResponseEntity<ErrorResponse> handleRetryableBusinessException(
+            RetryableBusinessException exception,
+            HttpServletRequest request) {
+
+        log.info("Retryable Business Exception occurred: {}, path: {}",
+                exception.getMessage(), request.getRequestURI());
+
+        ErrorResponse errorResponse = ErrorResponse.of(exception, request.getRequestURI());
+
+        return ResponseEntity
+                .status(exception.getErrorType().getHttpStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(exception.getRetryAfterSeconds()))
+                .body(errorResponse);
+    }
+
     @ExceptionHandler(ParameterValidationException.class)
     public ResponseEntity<ErrorResponse> handleParameterValidationException(
             ParameterValidationException exception,
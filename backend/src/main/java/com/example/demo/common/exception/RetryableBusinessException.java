@@ -0,0 +1,18 @@
+package com.example.demo.common.exception;
+
+import lombok.Getter;
+
+/**
+ * 일정 시간 후 재시도하면 처리될 수 있는 요청에 대한 예외.
+ * 응답에 Retry-After 헤더(초)를 함께 내려준다.
+ */
+@Getter
+public class RetryableBusinessException extends BusinessException {
+
+    private final long retryAfterSeconds;
+
+    public RetryableBusinessException(ErrorType errorType, String additionalInfo, long retryAfterSeconds) {
+        super(errorType, additionalInfo);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -26,6 +26,9 @@ import static com.example.demo.common.jwt.TokenValidationResult.*;
 @RequiredArgsConstructor
 public class JwtTokenProvider {
 
+    // 로그인 토큰이 아닌 용도의 토큰(대기실 순번 토큰 등)에만 붙는 type 클레임
+    private static final String TOKEN_TYPE_CLAIM = "type";
+
     private final JwtProperties jwtProperties;
     private SecretKey key;
 
@@ -64,7 +67,10 @@ public class JwtTokenProvider {
 
     public TokenValidationResult validateTokenWithResult(String token) {
         try {
-            Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
+            Claims claims = Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
+            if (claims.get(TOKEN_TYPE_CLAIM) != null) {
+                return INVALID;
+            }
             return VALID;
         } catch (ExpiredJwtException e) {
             return EXPIRED;
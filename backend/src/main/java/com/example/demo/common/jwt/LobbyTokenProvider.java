@@ -0,0 +1,93 @@
+package com.example.demo.common.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Date;
+import java.util.Optional;
+
+/**
+ * 대기실 순번 토큰 발급/검증기.
+ * 팝업 ID, 회원 ID, 순번을 서명하여 서버 상태 없이도 순번을 위조할 수 없게 한다.
+ * 액세스 토큰 비밀키에서 파생한 별도 키로 서명하고 audience를 지정하여, 대기실 토큰이 로그인 토큰으로 쓰이지 않게 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LobbyTokenProvider {
+
+    private static final String TOKEN_TYPE = "lobby";
+    private static final String AUDIENCE = "lobby";
+    private static final String KEY_DERIVATION_LABEL = "lobby-token-signing-key";
+
+    private final JwtProperties jwtProperties;
+    private SecretKey key;
+
+    @Value("${app.lobby.token-ttl:7200}") // 기본 2시간
+    private long tokenTtlSeconds;
+
+    @PostConstruct
+    public void init() {
+        this.key = Keys.hmacShaKeyFor(deriveKey(jwtProperties.secret().getBytes()));
+    }
+
+    public String createToken(Long popupId, Long memberId, long sequence) {
+        Date now = new Date();
+        return Jwts.builder()
+                .subject(memberId.toString())
+                .audience().add(AUDIENCE).and()
+                .claim("type", TOKEN_TYPE)
+                .claim("popupId", popupId)
+                .claim("sequence", sequence)
+                .issuedAt(now)
+                .expiration(new Date(now.getTime() + tokenTtlSeconds * 1000))
+                .signWith(key)
+                .compact();
+    }
+
+    /**
+     * 토큰을 검증하고 순번 정보를 꺼낸다.
+     *
+     * @return 유효한 대기실 토큰이면 순번 정보, 아니면 empty
+     */
+    public Optional<LobbyClaims> parse(String token) {
+        try {
+            Claims claims = Jwts.parser().verifyWith(key).requireAudience(AUDIENCE).build().parseSignedClaims(token).getPayload();
+            if (!TOKEN_TYPE.equals(claims.get("type", String.class))) {
+                return Optional.empty();
+            }
+            return Optional.of(new LobbyClaims(
+                    claims.get("popupId", Long.class),
+                    Long.parseLong(claims.getSubject()),
+                    claims.get("sequence", Long.class)
+            ));
+        } catch (Exception e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 액세스 토큰 비밀키로 HMAC-SHA256을 계산하여 대기실 토큰 전용 키를 만든다.
+     */
+    private static byte[] deriveKey(byte[] secret) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret, "HmacSHA256"));
+            return mac.doFinal(KEY_DERIVATION_LABEL.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("대기실 토큰 키를 만들 수 없습니다", e);
+        }
+    }
+
+    public record LobbyClaims(Long popupId, Long memberId, Long sequence) {
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.demo.domain.model.lobby;
+
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+/**
+ * 팝업 오픈 대기실.
+ * 입장 순서대로 순번(sequence)을 발급하고, 초당 정해진 수만큼 앞 순번부터 대기 신청을 허용한다.
+ * 상태는 발급된 마지막 순번과 허용된 마지막 순번 두 값으로 표현되어, 사용자 수와 무관하게 순번 계산이 O(1)이다.
+ */
+public class LobbyRoom {
+
+    private final Long popupId;
+    private final int releasePerSecond;
+    private final AtomicLong issuedSequence;
+    private final AtomicLong releasedSequence;
+
+    // 회원별 발급 순번 (재입장 시 같은 순번 유지)
+    private final Map<Long, Long> memberSequences = new ConcurrentHashMap<>();
+    // 순번별 회원 (허용 범위 밖의 회원만 순회하기 위한 정렬 색인)
+    private final NavigableMap<Long, Long> sequenceMembers = new ConcurrentSkipListMap<>();
+
+    public LobbyRoom(Long popupId, int releasePerSecond, long issuedSequence, long releasedSequence) {
+        if (releasePerSecond <= 0) {
+            throw new IllegalArgumentException("허용 속도는 1 이상이어야 합니다: " + releasePerSecond);
+        }
+        this.popupId = popupId;
+        this.releasePerSecond = releasePerSecond;
+        this.issuedSequence = new AtomicLong(issuedSequence);
+        this.releasedSequence = new AtomicLong(releasedSequence);
+    }
+
+    public static LobbyRoom open(Long popupId, int releasePerSecond) {
+        return new LobbyRoom(popupId, releasePerSecond, 0, 0);
+    }
+
+    /**
+     * 회원에게 순번을 발급한다. 이미 발급받은 회원은 기존 순번을 그대로 받는다.
+     */
+    public long join(Long memberId) {
+        return memberSequences.computeIfAbsent(memberId, id -> {
+            long sequence = issuedSequence.incrementAndGet();
+            sequenceMembers.put(sequence, id);
+            return sequence;
+        });
+    }
+
+    /**
+     * 1초 분량의 다음 묶음을 허용하고, 이번에 허용 범위가 바뀌기 전의 마지막 허용 순번을 반환한다.
+     */
+    public long release() {
+        return release(1000);
+    }
+
+    /**
+     * 경과 시간(ms)만큼의 다음 묶음을 허용하고, 이번에 허용 범위가 바뀌기 전의 마지막 허용 순번을 반환한다.
+     */
+    public long release(long elapsedMillis) {
+        long count = Math.max(1, releasePerSecond * elapsedMillis / 1000);
+        return releasedSequence.getAndUpdate(released -> Math.min(issuedSequence.get(), released + count));
+    }
+
+    public LobbyWatermark watermark() {
+        return new LobbyWatermark(popupId, releasedSequence.get(), releasePerSecond);
+    }
+
+    public boolean isReleased(long sequence) {
+        return sequence <= releasedSequence.get();
+    }
+
+    public LobbyStatus statusOf(long sequence) {
+        long position = Math.max(0, sequence - releasedSequence.get());
+        long estimatedWaitSeconds = (position + releasePerSecond - 1) / releasePerSecond;
+        return new LobbyStatus(popupId, sequence, position, position == 0, estimatedWaitSeconds);
+    }
+
+    /**
+     * 아직 허용되지 않았던(afterSequence 이후) 회원들을 순회한다.
+     */
+    public void forEachMemberAfter(long afterSequence, BiConsumer<Long, Long> action) {
+        sequenceMembers.tailMap(afterSequence, false).forEach((sequence, memberId) -> action.accept(memberId, sequence));
+    }
+
+    /**
+     * afterSequence 이후부터 upToSequence까지의 회원들을 순회한다.
+     */
+    public void forEachMemberBetween(long afterSequence, long upToSequence, BiConsumer<Long, Long> action) {
+        sequenceMembers.subMap(afterSequence, false, upToSequence, true).forEach((sequence, memberId) -> action.accept(memberId, sequence));
+    }
+
+    public Long getPopupId() {
+        return popupId;
+    }
+
+    public int getReleasePerSecond() {
+        return releasePerSecond;
+    }
+
+    public long getIssuedSequence() {
+        return issuedSequence.get();
+    }
+
+    public long getReleasedSequence() {
+        return releasedSequence.get();
+    }
+}
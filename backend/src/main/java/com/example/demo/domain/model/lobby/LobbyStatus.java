@@ -0,0 +1,16 @@
+package com.example.demo.domain.model.lobby;
+
+/**
+ * 대기실 순번 상태.
+ *
+ * @param position             앞에 남은 인원 수 (0이면 대기 신청 가능)
+ * @param estimatedWaitSeconds 대기 신청이 허용되기까지 예상 시간(초)
+ */
+public record LobbyStatus(
+        Long popupId,
+        long sequence,
+        long position,
+        boolean released,
+        long estimatedWaitSeconds
+) {
+}
@@ -0,0 +1,16 @@
+package com.example.demo.domain.model.lobby;
+
+/**
+ * 대기실의 허용 순번 경계.
+ * 모든 대기 회원에게 같은 값을 보내고, 클라이언트가 자신의 순번으로 남은 인원(sequence - releasedSequence)과
+ * 예상 대기 시간(남은 인원 / releasePerSecond)을 직접 계산한다.
+ *
+ * @param releasedSequence 대기 신청이 허용된 마지막 순번
+ * @param releasePerSecond 초당 허용 인원
+ */
+public record LobbyWatermark(
+        Long popupId,
+        long releasedSequence,
+        int releasePerSecond
+) {
+}
@@ -3,6 +3,7 @@ package com.example.demo.domain.model.notification;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Getter
 public abstract class DomainEvent<T> {
@@ -15,4 +16,11 @@ public abstract class DomainEvent<T> {
     }
 
     public abstract String getEventType();
+
+    /**
+     * 알림에 함께 저장할 연관 리소스를 생성한다. 소스가 없으면 빈 목록을 반환한다.
+     */
+    public List<RelatedResource> relatedResources() {
+        return List.of();
+    }
 } 
\ No newline at end of file
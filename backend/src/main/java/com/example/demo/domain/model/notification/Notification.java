@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Getter
 public class Notification {
@@ -15,15 +16,21 @@ public class Notification {
     private final String content;
     private NotificationStatus status;
     private final LocalDateTime createdAt;
+    private final List<RelatedResource> relatedResources;
 
+    /**
+     * @param relatedResources 저장된 연관 리소스 스냅샷 (null이면 이벤트 소스로부터 생성)
+     */
     @Builder
-    public Notification(Long id, Member member, DomainEvent<?> event, String content, NotificationStatus status, LocalDateTime createdAt) {
+    public Notification(Long id, Member member, DomainEvent<?> event, String content, NotificationStatus status, LocalDateTime createdAt,
+                        List<RelatedResource> relatedResources) {
         this.id = id;
         this.member = member;
         this.event = event;
         this.content = content;
         this.status = (status == null) ? NotificationStatus.unread() : status;
         this.createdAt = (createdAt == null) ? LocalDateTime.now() : createdAt;
+        this.relatedResources = (relatedResources == null) ? event.relatedResources() : List.copyOf(relatedResources);
     }
 
     public void read() {
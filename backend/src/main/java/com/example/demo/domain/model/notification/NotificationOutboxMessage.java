@@ -0,0 +1,30 @@
+package com.example.demo.domain.model.notification;
+
+/**
+ * 커밋 후 발송할 알림 아웃박스 메시지.
+ * 알림과 같은 트랜잭션에 기록되므로, 롤백된 알림은 발송되지 않는다.
+ *
+ * @param id             메시지 ID (저장 전 null)
+ * @param channel        발송 채널
+ * @param memberId       수신 회원 ID
+ * @param notificationId SSE로 보낼 알림 ID (이메일은 null)
+ * @param payload        이메일 발송 요청 JSON (SSE는 null)
+ * @param attempts       실패한 발송 시도 횟수
+ */
+public record NotificationOutboxMessage(
+        Long id,
+        OutboxChannel channel,
+        Long memberId,
+        Long notificationId,
+        String payload,
+        int attempts
+) {
+
+    public static NotificationOutboxMessage realtime(Long memberId, Long notificationId) {
+        return new NotificationOutboxMessage(null, OutboxChannel.SSE, memberId, notificationId, null, 0);
+    }
+
+    public static NotificationOutboxMessage email(Long memberId, String payload) {
+        return new NotificationOutboxMessage(null, OutboxChannel.EMAIL, memberId, null, payload, 0);
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.demo.domain.model.notification;
+
+/**
+ * 알림 아웃박스 메시지의 발송 채널.
+ */
+public enum OutboxChannel {
+    SSE,
+    EMAIL
+}
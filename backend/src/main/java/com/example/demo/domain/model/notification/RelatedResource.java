@@ -0,0 +1,16 @@
+package com.example.demo.domain.model.notification;
+
+import java.util.Map;
+
+/**
+ * 알림과 함께 보여줄 연관 리소스 스냅샷.
+ * 알림 생성 시점의 값으로 고정되며, 이후 원본(대기, 팝업)이 변경되거나 삭제되어도 그대로 유지된다.
+ *
+ * @param type 리소스 종류 (POPUP, WAITING)
+ * @param data 화면에 표시할 필드
+ */
+public record RelatedResource(
+        String type,
+        Map<String, Object> data
+) {
+}
@@ -0,0 +1,189 @@
+package com.example.demo.domain.model.waiting;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Optional;
+
+/**
+ * 팝업 대기열의 도착률/처리율을 온라인으로 추적하여 예상 대기시간을 예측하는 도메인 서비스.
+ * 최근 구간(슬라이딩 윈도우)의 처리율을 우선 사용하고, 표본이나 관측 시간이 부족하면 시간대별 처리율로 보완한다.
+ * 그 시간대의 처리 이력도 없으면, 안정된 대기열의 장기 처리량은 도착률과 같으므로 시간대별 도착률을 처리율로 쓴다.
+ * 처리를 포아송 과정으로 보고, k번째 순번의 대기시간을 감마(k, μ) 분포의 평균과 90% 구간으로 산정한다.
+ */
+public class PopupQueueForecaster {
+
+    private static final Duration WINDOW = Duration.ofMinutes(60);
+    private static final int MIN_WINDOW_EVENTS = 3;
+    // 일괄 입장처럼 같은 시각에 몰린 이탈로 처리율이 부풀지 않도록 요구하는 최소 관측 시간
+    private static final Duration MIN_WINDOW_SPAN = Duration.ofMinutes(10);
+    private static final double Z_90 = 1.645;
+
+    private final SlidingWindowRate arrivals = new SlidingWindowRate(WINDOW);
+    private final SlidingWindowRate departures = new SlidingWindowRate(WINDOW);
+    private final HourlyRateProfile arrivalProfile = new HourlyRateProfile();
+    private final HourlyRateProfile departureProfile = new HourlyRateProfile();
+    // 시간대별 관측 시간의 시작 (처음 기록된 도착 또는 이탈 시각)
+    private LocalDateTime firstRecordedAt;
+    private LocalDateTime lastRecordedAt;
+
+    /**
+     * 대기 등록(도착)을 기록한다.
+     */
+    public synchronized void recordArrival(LocalDateTime at) {
+        arrivals.record(at);
+        arrivalProfile.record(at);
+        touch(at);
+    }
+
+    /**
+     * 대기열 이탈(입장 또는 노쇼)을 기록한다.
+     */
+    public synchronized void recordDeparture(LocalDateTime at) {
+        departures.record(at);
+        departureProfile.record(at);
+        touch(at);
+    }
+
+    /**
+     * 분당 도착률. 최근 구간 표본이나 관측 시간이 부족하면 같은 시간대의 과거 도착률을 사용한다.
+     */
+    public synchronized Double arrivalRatePerMinute(LocalDateTime now) {
+        Double live = arrivals.ratePerMinute(now, MIN_WINDOW_EVENTS, MIN_WINDOW_SPAN);
+        return live != null ? live : hourlyRate(arrivalProfile, now);
+    }
+
+    /**
+     * 분당 처리율. 최근 구간 표본이나 관측 시간이 부족하면 같은 시간대의 과거 처리율을, 그것도 없으면 같은 시간대의 과거 도착률을 사용한다.
+     * 개점 직후처럼 도착이 몰리는 구간의 도착률은 처리 능력을 크게 웃돌 수 있으므로 최근 도착률은 처리율로 쓰지 않는다.
+     */
+    public synchronized Double serviceRatePerMinute(LocalDateTime now) {
+        Double live = departures.ratePerMinute(now, MIN_WINDOW_EVENTS, MIN_WINDOW_SPAN);
+        if (live != null) {
+            return live;
+        }
+        Double hourly = hourlyRate(departureProfile, now);
+        return hourly != null ? hourly : hourlyRate(arrivalProfile, now);
+    }
+
+    /**
+     * 기준 시각 이후로 기록된 도착/이탈이 없는지 확인한다.
+     */
+    public synchronized boolean isIdleSince(LocalDateTime threshold) {
+        return lastRecordedAt == null || lastRecordedAt.isBefore(threshold);
+    }
+
+    private void touch(LocalDateTime at) {
+        if (firstRecordedAt == null || at.isBefore(firstRecordedAt)) {
+            firstRecordedAt = at;
+        }
+        if (lastRecordedAt == null || at.isAfter(lastRecordedAt)) {
+            lastRecordedAt = at;
+        }
+    }
+
+    private Double hourlyRate(HourlyRateProfile profile, LocalDateTime now) {
+        return firstRecordedAt == null ? null : profile.ratePerMinute(now.getHour(), firstRecordedAt, now);
+    }
+
+    /**
+     * 대기 순번에 대한 예상 대기시간과 신뢰 구간을 산정한다.
+     *
+     * @param waitingNumber 대기 순번 (앞에 남은 팀 수)
+     * @param now           기준 시각
+     * @return 예측 결과, 처리율을 알 수 없거나 순번이 0 이하이면 empty
+     */
+    public Optional<WaitingTimeForecast> forecast(int waitingNumber, LocalDateTime now) {
+        Double serviceRate = serviceRatePerMinute(now);
+        if (serviceRate == null || serviceRate <= 0 || waitingNumber <= 0) {
+            return Optional.empty();
+        }
+
+        double mean = waitingNumber / serviceRate;
+        double deviation = Math.sqrt(waitingNumber) / serviceRate;
+        return Optional.of(new WaitingTimeForecast(
+                (int) Math.ceil(mean),
+                (int) Math.max(0, Math.floor(mean - Z_90 * deviation)),
+                (int) Math.ceil(mean + Z_90 * deviation)
+        ));
+    }
+
+    /**
+     * 윈도우 안의 이벤트 시각만 보관하는 슬라이딩 윈도우 처리율.
+     */
+    private static final class SlidingWindowRate {
+        private final Duration window;
+        private final Deque<LocalDateTime> events = new ArrayDeque<>();
+
+        private SlidingWindowRate(Duration window) {
+            this.window = window;
+        }
+
+        private void record(LocalDateTime at) {
+            events.addLast(at);
+            evictBefore(at.minus(window));
+        }
+
+        private Double ratePerMinute(LocalDateTime now, int minEvents, Duration minSpan) {
+            evictBefore(now.minus(window));
+            if (events.size() < minEvents) {
+                return null;
+            }
+            // 윈도우가 다 차기 전에는 첫 이벤트부터 현재까지를 관측 구간으로 본다
+            Duration span = Duration.between(events.peekFirst(), now);
+            if (span.compareTo(minSpan) < 0) {
+                return null;
+            }
+            return events.size() / (span.toSeconds() / 60.0);
+        }
+
+        private void evictBefore(LocalDateTime threshold) {
+            while (!events.isEmpty() && events.peekFirst().isBefore(threshold)) {
+                events.pollFirst();
+            }
+        }
+    }
+
+    /**
+     * 시간대(0~23시)별 누적 건수를, 관측한 기간 중 그 시간대에 해당하는 시간(건수가 없던 날 포함)으로 나눈 비율.
+     */
+    private static final class HourlyRateProfile {
+        private final long[] counts = new long[24];
+
+        private void record(LocalDateTime at) {
+            counts[at.getHour()]++;
+        }
+
+        private Double ratePerMinute(int hour, LocalDateTime since, LocalDateTime now) {
+            if (counts[hour] == 0) {
+                return null;
+            }
+            double minutes = observedMinutes(hour, since, now);
+            return minutes > 0 ? counts[hour] / minutes : null;
+        }
+
+        /**
+         * 관측 기간 [since, now] 중 매일의 해당 시간대와 겹치는 시간(분).
+         */
+        private static double observedMinutes(int hour, LocalDateTime since, LocalDateTime now) {
+            LocalDate firstDate = since.toLocalDate();
+            LocalDate lastDate = now.toLocalDate();
+            long daysBetween = Math.max(0, ChronoUnit.DAYS.between(firstDate, lastDate) - 1);
+            double seconds = daysBetween * 3600.0 + overlapSeconds(firstDate.atTime(hour, 0), since, now);
+            if (!lastDate.equals(firstDate)) {
+                seconds += overlapSeconds(lastDate.atTime(hour, 0), since, now);
+            }
+            return seconds / 60.0;
+        }
+
+        private static long overlapSeconds(LocalDateTime hourStart, LocalDateTime since, LocalDateTime now) {
+            LocalDateTime from = hourStart.isAfter(since) ? hourStart : since;
+            LocalDateTime hourEnd = hourStart.plusHours(1);
+            LocalDateTime to = hourEnd.isBefore(now) ? hourEnd : now;
+            return Math.max(0, Duration.between(from, to).toSeconds());
+        }
+    }
+}
@@ -1,68 +1,131 @@
 package com.example.demo.domain.model.waiting;
 
-import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 
 /**
- * 특정 팝업의 대기 통계 컬렉션을 관리하는 일급 컬렉션.
+ * 특정 팝업의 입장 완료 대기 통계.
+ * 개별 통계 목록 대신 누적 건수, 1인당 대기시간 합계, 지수 이동 평균(EWMA)만 보관하여
+ * 입장 1건마다 O(1)로 갱신하고 평균 조회도 O(1)로 처리한다.
  */
 public class PopupWaitingStatistics {
+    private static final double EWMA_ALPHA = 0.2;
+
     private final Long popupId;
-    private final List<WaitingStatistics> statistics;
+    private final long count;
+    private final double sumTimePerPerson;
+    private final Double ewmaTimePerPerson;
 
     public PopupWaitingStatistics(Long popupId, List<WaitingStatistics> statistics) {
+        PopupWaitingStatistics folded = empty(popupId);
+        if (statistics != null) {
+            // EWMA가 입장 순서대로 누적되도록 정렬 (입장 시간이 없는 통계는 record에서 검증 실패)
+            List<WaitingStatistics> ordered = statistics.stream()
+                    .sorted(Comparator.comparing(WaitingStatistics::getEnteredAt, Comparator.nullsFirst(Comparator.naturalOrder())))
+                    .toList();
+            for (WaitingStatistics stat : ordered) {
+                folded = folded.record(stat);
+            }
+        }
+        this.popupId = folded.popupId;
+        this.count = folded.count;
+        this.sumTimePerPerson = folded.sumTimePerPerson;
+        this.ewmaTimePerPerson = folded.ewmaTimePerPerson;
+    }
+
+    private PopupWaitingStatistics(Long popupId, long count, double sumTimePerPerson, Double ewmaTimePerPerson) {
         this.popupId = Objects.requireNonNull(popupId, "popupId는 null일 수 없습니다");
-        this.statistics = validateAndCopy(statistics);
+        this.count = count;
+        this.sumTimePerPerson = sumTimePerPerson;
+        this.ewmaTimePerPerson = ewmaTimePerPerson;
     }
 
-    private List<WaitingStatistics> validateAndCopy(List<WaitingStatistics> statistics) {
-        if (statistics == null) {
-            return Collections.emptyList();
-        }
+    public static PopupWaitingStatistics empty(Long popupId) {
+        return new PopupWaitingStatistics(popupId, 0, 0.0, null);
+    }
 
+    /**
+     * 저장된 누적 값으로 통계를 복원한다.
+     */
+    public static PopupWaitingStatistics of(Long popupId, long count, double sumTimePerPerson, Double ewmaTimePerPerson) {
+        return new PopupWaitingStatistics(popupId, count, sumTimePerPerson, ewmaTimePerPerson);
+    }
+
+    private void validate(WaitingStatistics stat) {
         // 모든 통계가 같은 팝업에 대한 것이고 입장 완료된 것인지 검증
-        for (WaitingStatistics stat : statistics) {
-            if (!Objects.equals(stat.getPopupId(), this.popupId)) {
-                throw new IllegalArgumentException("모든 통계는 같은 팝업 ID를 가져야 합니다: " + this.popupId);
-            }
-            if (stat.getEnteredAt() == null) {
-                throw new IllegalArgumentException("입장 완료된 통계만 허용됩니다");
-            }
+        if (!Objects.equals(stat.getPopupId(), this.popupId)) {
+            throw new IllegalArgumentException("모든 통계는 같은 팝업 ID를 가져야 합니다: " + this.popupId);
         }
+        if (stat.getEnteredAt() == null) {
+            throw new IllegalArgumentException("입장 완료된 통계만 허용됩니다");
+        }
+    }
 
-        return List.copyOf(statistics);
+    /**
+     * 입장 완료 1건을 반영한 새 통계를 반환한다.
+     * 1인당 대기시간을 계산할 수 없는 건(초기 대기번호 0 등)은 반영하지 않는다.
+     */
+    public PopupWaitingStatistics record(WaitingStatistics stat) {
+        validate(stat);
+        Double timePerPerson = stat.getTimePerPerson();
+        if (timePerPerson == null) {
+            return this;
+        }
+
+        Double ewma = ewmaTimePerPerson == null
+                ? timePerPerson
+                : EWMA_ALPHA * timePerPerson + (1 - EWMA_ALPHA) * ewmaTimePerPerson;
+        return new PopupWaitingStatistics(popupId, count + 1, sumTimePerPerson + timePerPerson, ewma);
+    }
+
+    public Long getPopupId() {
+        return popupId;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getSumTimePerPerson() {
+        return sumTimePerPerson;
+    }
+
+    /**
+     * 최근 입장에 가중치를 둔 1인당 대기시간(분/명)의 지수 이동 평균.
+     */
+    public Double getEwmaTimePerPerson() {
+        return ewmaTimePerPerson;
     }
 
     /**
      * 평균 대기시간(분/명)을 계산한다.
      */
     public Double calculateAverageTimePerPerson() {
-        List<Double> timePerPersonList = statistics.stream()
-                .map(WaitingStatistics::getTimePerPerson)
-                .filter(Objects::nonNull)
-                .toList();
-
-        if (timePerPersonList.isEmpty()) {
+        if (count == 0) {
             return null;
         }
+        return sumTimePerPerson / count;
+    }
 
-        return timePerPersonList.stream()
-                .mapToDouble(Double::doubleValue)
-                .average()
-                .orElse(0.0);
+    /**
+     * 예상 대기시간 계산에 쓰는 1인당 대기시간(분/명).
+     * 최근 입장 추세를 반영하도록 EWMA를 우선 사용하고, 없으면 누적 평균을 사용한다.
+     */
+    public Double calculateRecentTimePerPerson() {
+        return ewmaTimePerPerson != null ? ewmaTimePerPerson : calculateAverageTimePerPerson();
     }
 
     /**
      * 현재 대기 순번을 기반으로 예상 대기시간(분)을 계산한다.
      */
     public Integer calculateExpectedWaitingTime(int currentWaitingNumber) {
-        Double averageTimePerPerson = calculateAverageTimePerPerson();
+        Double timePerPerson = calculateRecentTimePerPerson();
 
-        if (averageTimePerPerson == null || currentWaitingNumber <= 0) {
+        if (timePerPerson == null || currentWaitingNumber <= 0) {
             return null;
         }
 
-        return (int) Math.ceil(currentWaitingNumber * averageTimePerPerson);
+        return (int) Math.ceil(currentWaitingNumber * timePerPerson);
     }
-}
\ No newline at end of file
+}
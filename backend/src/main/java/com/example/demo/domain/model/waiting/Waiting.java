@@ -130,6 +130,29 @@ public record Waiting(
             throw new BusinessException(ErrorType.WAITING_NOT_READY, "대기 번호가 0이 아닙니다.");
         }
 
+        return visit();
+    }
+
+    /**
+     * 앞에서부터 여러 팀을 함께 입장 처리한다.
+     *
+     * @param admitCount 함께 입장하는 팀 수 (대기 번호가 이 값보다 작아야 입장 가능)
+     * @return 입장 시간이 설정된 새로운 Waiting 객체
+     * @throws BusinessException 대기중 상태가 아니거나 입장 범위 밖의 순번인 경우
+     */
+    public Waiting enterWithin(int admitCount) {
+        if (status != WaitingStatus.WAITING) {
+            throw new BusinessException(ErrorType.INVALID_WAITING_STATUS, status.toString());
+        }
+
+        if (waitingNumber >= admitCount) {
+            throw new BusinessException(ErrorType.WAITING_NOT_READY, "대기 번호가 입장 범위(" + admitCount + "팀) 밖입니다.");
+        }
+
+        return visit();
+    }
+
+    private Waiting visit() {
         LocalDateTime enteredAt = LocalDateTime.now();
         LocalDateTime canEnterAt = Optional.ofNullable(canEnterAt()).orElse(enteredAt); // canEnterAt이 null인 경우 현재 시간 사용
 
@@ -151,7 +174,22 @@ public record Waiting(
     }
 
     public Waiting minusWaitingNumber(PopupWaitingStatistics waitingStatistics) {
-        if (waitingNumber == 0) {
+        return minusWaitingNumber(waitingStatistics::calculateExpectedWaitingTime);
+    }
+
+    /**
+     * 대기 번호를 1 감소시키고, 주어진 산정 전략으로 예상 대기시간을 다시 계산한다.
+     */
+    public Waiting minusWaitingNumber(WaitingTimeEstimator estimator) {
+        return minusWaitingNumber(1, estimator);
+    }
+
+    /**
+     * 대기 번호를 count만큼 감소시키고, 주어진 산정 전략으로 예상 대기시간을 다시 계산한다.
+     * 대기열 맨 앞(0번)이 되면 그 시점을 입장 가능 시간으로 설정한다.
+     */
+    public Waiting minusWaitingNumber(int count, WaitingTimeEstimator estimator) {
+        if (waitingNumber < count) {
             throw new BusinessException(ErrorType.WAITING_NOT_READY, "대기 번호는 0 이상이어야 합니다.");
         }
 
@@ -166,12 +204,12 @@ public record Waiting(
                 member,
                 contactEmail,
                 peopleCount,
-                waitingNumber - 1, // 대기 번호 감소
+                waitingNumber - count, // 대기 번호 감소
                 WaitingStatus.WAITING,
                 registeredAt,
                 enteredAt,
-                canEnterAt,
-                waitingStatistics.calculateExpectedWaitingTime(waitingNumber - 1),
+                waitingNumber - count == 0 && canEnterAt == null ? LocalDateTime.now() : canEnterAt,
+                estimator.estimateMinutes(waitingNumber - count),
                 initialWaitingNumber
         );
     }
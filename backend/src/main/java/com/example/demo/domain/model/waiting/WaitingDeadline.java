@@ -0,0 +1,53 @@
+package com.example.demo.domain.model.waiting;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 맨 앞 대기의 입장 기한.
+ * 입장 가능 시간으로부터 종류별 유예 시간이 지나면 입장 시간 초과 알림 또는 노쇼 처리 대상이 된다.
+ *
+ * @param waitingId  대기 ID
+ * @param popupId    팝업 ID
+ * @param canEnterAt 입장 가능 시간
+ * @param type       기한 종류
+ */
+public record WaitingDeadline(
+        Long waitingId,
+        Long popupId,
+        LocalDateTime canEnterAt,
+        Type type
+) {
+
+    // 기한 직전에 발화되어도 처리되도록 허용하는 오차
+    private static final Duration TOLERANCE = Duration.ofSeconds(1);
+
+    public enum Type {
+        ENTER_TIME_OVER(Duration.ofMinutes(5)), // 입장 시간 초과 알림
+        NO_SHOW(Duration.ofMinutes(10));        // 노쇼 처리
+
+        private final Duration grace;
+
+        Type(Duration grace) {
+            this.grace = grace;
+        }
+
+        public Duration getGrace() {
+            return grace;
+        }
+    }
+
+    public LocalDateTime dueAt() {
+        return canEnterAt.plus(type.getGrace());
+    }
+
+    /**
+     * 대기가 여전히 맨 앞에서 대기 중이고 기한이 지났는지 확인한다.
+     * 기한 등록 이후 입장/노쇼 처리된 대기는 대상이 아니다.
+     */
+    public boolean isReachedBy(Waiting waiting, LocalDateTime now) {
+        return waiting.status() == WaitingStatus.WAITING
+                && waiting.canEnterAt() != null
+                && !now.plus(TOLERANCE).isBefore(waiting.canEnterAt().plus(type.getGrace()));
+    }
+}
@@ -1,11 +1,27 @@
 package com.example.demo.domain.model.waiting;
 
 import com.example.demo.domain.model.notification.DomainEvent;
+import com.example.demo.domain.model.notification.RelatedResource;
+import com.example.demo.domain.model.popup.Popup;
 import lombok.Getter;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
 @Getter
 public class WaitingDomainEvent extends DomainEvent<Waiting> {
 
+    // 이벤트 타입별 연관 리소스 생성 전략
+    private static final Map<WaitingEventType, Function<Waiting, List<RelatedResource>>> RESOURCE_STRATEGIES = Map.of(
+            WaitingEventType.WAITING_CONFIRMED, WaitingDomainEvent::createWaitingConfirmedResources,
+            WaitingEventType.ENTER_3TEAMS_BEFORE, WaitingDomainEvent::createEnterNotificationResources,
+            WaitingEventType.ENTER_NOW, WaitingDomainEvent::createEnterNotificationResources,
+            WaitingEventType.ENTER_TIME_OVER, WaitingDomainEvent::createEnterNotificationResources,
+            WaitingEventType.NOSHOW_FIRST, WaitingDomainEvent::createEnterNotificationResources
+    );
+
     private final WaitingEventType eventType;
 
     public WaitingDomainEvent(Waiting source, WaitingEventType eventType) {
@@ -17,4 +33,49 @@ public class WaitingDomainEvent extends DomainEvent<Waiting> {
     public String getEventType() {
         return eventType.name();
     }
+
+    @Override
+    public List<RelatedResource> relatedResources() {
+        Waiting waiting = getSource();
+        if (waiting == null) {
+            return List.of();
+        }
+        return RESOURCE_STRATEGIES.getOrDefault(eventType, w -> List.of()).apply(waiting);
+    }
+
+    // 대기 확정 알림: 스토어명, 대기 번호, 등록 시간
+    private static List<RelatedResource> createWaitingConfirmedResources(Waiting waiting) {
+        List<RelatedResource> resources = new ArrayList<>();
+        Popup popup = waiting.popup();
+        if (popup != null) {
+            resources.add(new RelatedResource("POPUP", Map.of(
+                    "id", popup.getId(),
+                    "storeName", popup.getName()
+            )));
+        }
+        resources.add(new RelatedResource("WAITING", Map.of(
+                "id", waiting.id(),
+                "waitingNumber", waiting.waitingNumber(),
+                "registeredAt", waiting.registeredAt()
+        )));
+        return resources;
+    }
+
+    // 입장/첫 번째 노쇼 알림: 스토어명, 주소, 대기 번호
+    private static List<RelatedResource> createEnterNotificationResources(Waiting waiting) {
+        List<RelatedResource> resources = new ArrayList<>();
+        Popup popup = waiting.popup();
+        if (popup != null) {
+            resources.add(new RelatedResource("POPUP", Map.of(
+                    "id", popup.getId(),
+                    "storeName", popup.getName(),
+                    "address", popup.getLocation().addressName()
+            )));
+        }
+        resources.add(new RelatedResource("WAITING", Map.of(
+                "id", waiting.id(),
+                "waitingNumber", waiting.waitingNumber()
+        )));
+        return resources;
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,74 @@
+package com.example.demo.domain.model.waiting;
+
+import com.example.demo.domain.model.ban.Ban;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * 회원의 특정 팝업/일자 대기 신청 자격.
+ * 당일 활성 대기 여부, 노쇼 횟수, 제재 만료 시각만 보관하여 신청 시 조회 없이 중복/제재를 판단한다.
+ *
+ * @param hasActiveWaiting 노쇼가 아닌 대기가 있는지 여부
+ * @param noShowCount      당일 노쇼 횟수
+ * @param bannedUntil      적용 중인 제재의 가장 늦은 만료 시각 (제재가 없으면 null)
+ */
+public record WaitingEligibility(
+        boolean hasActiveWaiting,
+        int noShowCount,
+        LocalDateTime bannedUntil
+) {
+
+    // 노쇼가 이 횟수 이상이면 당일 재신청 불가
+    private static final int MAX_NO_SHOW_PER_DAY = 2;
+
+    public static WaitingEligibility of(Collection<WaitingSummary> todayWaitings, Collection<Ban> activeBans) {
+        boolean hasActiveWaiting = todayWaitings.stream()
+                .anyMatch(waiting -> waiting.status() != WaitingStatus.NO_SHOW);
+        int noShowCount = (int) todayWaitings.stream()
+                .filter(waiting -> waiting.status() == WaitingStatus.NO_SHOW)
+                .count();
+        LocalDateTime bannedUntil = activeBans.stream()
+                .map(Ban::getExpiresAt)
+                .max(LocalDateTime::compareTo)
+                .orElse(null);
+        return new WaitingEligibility(hasActiveWaiting, noShowCount, bannedUntil);
+    }
+
+    public boolean isBannedAt(LocalDateTime time) {
+        return bannedUntil != null && time.isBefore(bannedUntil);
+    }
+
+    /**
+     * 당일 안에 되돌려지지 않는 거절 사유(제재, 노쇼 한도)가 있는지 확인한다.
+     * 활성 대기 여부는 다른 노드의 노쇼 처리로 바뀔 수 있으므로 포함하지 않는다.
+     */
+    public boolean hasLastingRejectionAt(LocalDateTime time) {
+        return isBannedAt(time) || noShowCount >= MAX_NO_SHOW_PER_DAY;
+    }
+
+    /**
+     * 활성 대기가 있거나 노쇼가 2회 이상이면 중복 신청으로 본다.
+     */
+    public boolean isDuplicate() {
+        return hasActiveWaiting || noShowCount >= MAX_NO_SHOW_PER_DAY;
+    }
+
+    public WaitingEligibility withWaitingCreated() {
+        return new WaitingEligibility(true, noShowCount, bannedUntil);
+    }
+
+    /**
+     * 활성 대기가 노쇼 처리된 상태를 반영한다. (회원당 팝업별 활성 대기는 하루 하나)
+     */
+    public WaitingEligibility withNoShow() {
+        return new WaitingEligibility(false, noShowCount + 1, bannedUntil);
+    }
+
+    public WaitingEligibility withBanUntil(LocalDateTime expiresAt) {
+        if (bannedUntil != null && !expiresAt.isAfter(bannedUntil)) {
+            return this;
+        }
+        return new WaitingEligibility(hasActiveWaiting, noShowCount, expiresAt);
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.demo.domain.model.waiting;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대기 목록 항목.
+ * 관리자 대기 목록처럼 화면에 표시할 컬럼만 필요한 페이지 조회 결과로 사용한다.
+ */
+public record WaitingListItem(
+        Long id,
+        Integer waitingNumber,
+        String waitingPersonName,
+        Integer peopleCount,
+        String contactEmail,
+        LocalDateTime registeredAt
+) {
+}
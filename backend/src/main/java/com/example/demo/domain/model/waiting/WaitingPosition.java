@@ -0,0 +1,28 @@
+package com.example.demo.domain.model.waiting;
+
+import java.util.Optional;
+
+/**
+ * 대기 순번 정보.
+ * 대기열이 이동할 때 대기자에게 실시간으로 전달하는 현재 순번과 예상 대기 시간을 나타낸다.
+ * 처리율 기반 예측이 가능하면 예상 대기 시간의 약 90% 구간(하한/상한)을 함께 전달한다.
+ */
+public record WaitingPosition(
+        Long waitingId,
+        Long popupId,
+        Integer waitingNumber,
+        Integer expectedWaitingTimeMinutes,
+        Integer lowerWaitingTimeMinutes,
+        Integer upperWaitingTimeMinutes
+) {
+    public static WaitingPosition from(Waiting waiting, Optional<WaitingTimeForecast> forecast) {
+        return new WaitingPosition(
+                waiting.id(),
+                waiting.popup().getId(),
+                waiting.waitingNumber(),
+                waiting.expectedWaitingTimeMinutes(),
+                forecast.map(WaitingTimeForecast::lowerMinutes).orElse(null),
+                forecast.map(WaitingTimeForecast::upperMinutes).orElse(null)
+        );
+    }
+}
@@ -5,6 +5,8 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Set;
 
 /**
  * 대기 조회 조건을 표현하는 클래스.
@@ -28,6 +30,10 @@ public sealed class WaitingQuery {
         return new ForWaitingId(waitingId);
     }
 
+    public static ForWaitingIds forWaitingIds(Collection<Long> waitingIds) {
+        return new ForWaitingIds(waitingIds);
+    }
+
     /**
      * 방문 내역 조회를 위한 조회 조건을 생성한다.
      *
@@ -67,6 +73,13 @@ public sealed class WaitingQuery {
         return new ForCanEnterWaiting();
     }
 
+    /**
+     * 입장 가능 시간이 설정되어 입장 기한을 추적해야 하는 맨 앞 대기 조회 조건.
+     */
+    public static ForEnterDeadline forEnterDeadline() {
+        return new ForEnterDeadline();
+    }
+
     /**
      * 정렬 순서를 정의하는 enum
      */
@@ -88,6 +101,17 @@ public sealed class WaitingQuery {
         }
     }
 
+    @Getter
+    @EqualsAndHashCode(callSuper = true)
+    public static final class ForWaitingIds extends WaitingQuery {
+        private final Set<Long> waitingIds;
+
+        public ForWaitingIds(Collection<Long> waitingIds) {
+            super(null, null, null, null, null, null, null, null, null);
+            this.waitingIds = Set.copyOf(waitingIds);
+        }
+    }
+
     public static final class ForVisitHistory extends WaitingQuery {
         private ForVisitHistory(Long waitingId, Long memberId, Integer size, Long lastWaitingId, WaitingStatus status,
                                 SortOrder sortOrder, Long popupId, LocalDate date, Boolean excludeNoShow) {
@@ -163,4 +187,14 @@ public sealed class WaitingQuery {
             this(null, null, null, null, WaitingStatus.WAITING, null, null, null, false);
         }
     }
-} 
\ No newline at end of file
+
+    public static final class ForEnterDeadline extends WaitingQuery {
+        private ForEnterDeadline(Long waitingId, Long memberId, Integer size, Long lastWaitingId, WaitingStatus status, SortOrder sortOrder, Long popupId, LocalDate date, Boolean excludeNoShow) {
+            super(waitingId, memberId, size, lastWaitingId, status, sortOrder, popupId, date, excludeNoShow);
+        }
+
+        public ForEnterDeadline() {
+            this(null, null, null, null, WaitingStatus.WAITING, null, null, null, false);
+        }
+    }
+}
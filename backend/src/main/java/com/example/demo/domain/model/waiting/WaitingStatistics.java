@@ -47,7 +47,7 @@ public class WaitingStatistics {
         return WaitingStatistics.builder()
                 .popupId(waiting.popup().getId())
                 .waitingId(waiting.id())
-                .initialWaitingNumber(waiting.waitingNumber())
+                .initialWaitingNumber(waiting.initialWaitingNumber() != null ? waiting.initialWaitingNumber() : waiting.waitingNumber())
                 .reservedAt(waiting.registeredAt())
                 .enteredAt(waiting.enteredAt())
                 .build();
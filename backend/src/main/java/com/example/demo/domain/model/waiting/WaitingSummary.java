@@ -0,0 +1,18 @@
+package com.example.demo.domain.model.waiting;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대기 요약 정보.
+ * 팝업/회원을 하이드레이션하지 않은 평면 조회 결과로, 스케줄러와 집계성 조회에서 사용한다.
+ */
+public record WaitingSummary(
+        Long id,
+        Long popupId,
+        Long memberId,
+        WaitingStatus status,
+        Integer waitingNumber,
+        LocalDateTime canEnterAt,
+        String contactEmail
+) {
+}
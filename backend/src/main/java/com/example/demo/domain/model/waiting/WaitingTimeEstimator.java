@@ -0,0 +1,14 @@
+package com.example.demo.domain.model.waiting;
+
+/**
+ * 대기 순번으로 예상 대기시간(분)을 산정하는 전략.
+ */
+@FunctionalInterface
+public interface WaitingTimeEstimator {
+
+    /**
+     * @param waitingNumber 대기 순번
+     * @return 예상 대기시간(분), 산정할 수 없으면 null
+     */
+    Integer estimateMinutes(int waitingNumber);
+}
@@ -0,0 +1,12 @@
+package com.example.demo.domain.model.waiting;
+
+/**
+ * 대기 순번별 예상 대기시간 예측 결과(분).
+ * 하한/상한은 약 90% 신뢰 구간이다.
+ */
+public record WaitingTimeForecast(
+        int expectedMinutes,
+        int lowerMinutes,
+        int upperMinutes
+) {
+}
@@ -0,0 +1,41 @@
+package com.example.demo.domain.port;
+
+import com.example.demo.domain.model.lobby.LobbyRoom;
+
+import java.util.List;
+
+/**
+ * 대기실 상태 저장소 포트 인터페이스.
+ * 서버 재시작 시 발급/허용 순번을 복원하고, 다른 노드에서 열고 닫은 대기실을 반영하기 위해 사용한다.
+ */
+public interface LobbyPort {
+
+    /**
+     * 대기실의 현재 순번 상태를 저장한다.
+     *
+     * @param room 저장할 대기실
+     */
+    void save(LobbyRoom room);
+
+    /**
+     * 운영 중인 대기실의 발급/허용 순번만 갱신한다.
+     * 다른 노드에서 이미 종료한 대기실은 다시 열지 않는다.
+     *
+     * @param room 갱신할 대기실
+     */
+    void saveProgress(LobbyRoom room);
+
+    /**
+     * 대기실을 종료 상태로 저장한다.
+     *
+     * @param popupId 팝업 ID
+     */
+    void close(Long popupId);
+
+    /**
+     * 운영 중인 대기실 목록을 조회한다.
+     *
+     * @return 대기실 목록
+     */
+    List<LobbyRoom> findAllOpened();
+}
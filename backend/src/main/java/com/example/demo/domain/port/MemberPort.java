@@ -2,6 +2,8 @@ package com.example.demo.domain.port;
 
 import com.example.demo.domain.model.Member;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -18,6 +20,14 @@ public interface MemberPort {
      */
     Optional<Member> findById(Long id);
 
+    /**
+     * 여러 회원 정보를 한 번에 조회한다.
+     *
+     * @param ids 회원 ID 목록
+     * @return 회원 ID를 키로 하는 회원 맵 (존재하지 않는 ID는 포함되지 않음)
+     */
+    Map<Long, Member> findAllByIds(Collection<Long> ids);
+
     /**
      * 회원 정보를 저장(생성 또는 수정)한다.
      *
@@ -1,6 +1,10 @@
 package com.example.demo.domain.port;
 
+import com.example.demo.domain.model.lobby.LobbyWatermark;
 import com.example.demo.domain.model.notification.Notification;
+import com.example.demo.domain.model.waiting.WaitingPosition;
+
+import java.util.List;
 
 /**
  * 알림 이벤트 발송을 위한 아웃고잉 포트.
@@ -16,13 +20,39 @@ public interface NotificationEventPort {
      */
     void sendRealTimeNotification(Long memberId, Notification notification);
 
+    /**
+     * 특정 회원에게 대기 순번 변경을 실시간으로 전송한다.
+     *
+     * @param memberId  전송받을 회원 ID
+     * @param positions 회원의 대기별 최신 순번 목록
+     */
+    void sendWaitingPositions(Long memberId, List<WaitingPosition> positions);
+
+    /**
+     * 특정 회원에게 대기실의 허용 순번 경계를 실시간으로 전송한다.
+     *
+     * @param memberId  전송받을 회원 ID
+     * @param watermark 대기실의 최신 허용 순번 경계
+     */
+    void sendLobbyWatermark(Long memberId, LobbyWatermark watermark);
+
+    /**
+     * 특정 회원에게 읽지 않은 알림 수를 실시간으로 전송한다.
+     *
+     * @param memberId    전송받을 회원 ID
+     * @param unreadCount 읽지 않은 알림 수
+     */
+    void sendUnreadCount(Long memberId, long unreadCount);
+
     /**
      * 클라이언트 연결을 등록하고 SSE Emitter를 반환한다.
+     * 재연결이면 마지막으로 받은 이벤트 이후에 놓친 이벤트를 새 연결로 다시 보낸다.
      *
-     * @param memberId 연결할 회원 ID
+     * @param memberId    연결할 회원 ID
+     * @param lastEventId 클라이언트가 마지막으로 받은 이벤트 ID (최초 연결이면 null)
      * @return SSE Emitter 객체
      */
-    Object createSseConnection(Long memberId);
+    Object createSseConnection(Long memberId, String lastEventId);
 
     /**
      * 클라이언트 연결을 해제한다.
@@ -39,6 +69,15 @@ public interface NotificationEventPort {
      * @return 연결되어 있으면 true, 아니면 false
      */
     boolean isConnected(Long memberId);
+
+    /**
+     * 특정 회원에게 보낸 이벤트가 전송되거나 재연결 시 재전송될 수 있는지 확인한다.
+     * 연결이 잠시 끊긴 회원도 재전송 버퍼가 남아 있으면 true다.
+     *
+     * @param memberId 확인할 회원 ID
+     * @return 이벤트를 보낼 대상이 있으면 true, 아니면 false
+     */
+    boolean isStreaming(Long memberId);
     
     /**
      * 모든 연결된 클라이언트에게 하트비트 ping을 전송한다.
@@ -0,0 +1,75 @@
+package com.example.demo.domain.port;
+
+import com.example.demo.domain.model.notification.NotificationOutboxMessage;
+import com.example.demo.domain.model.notification.OutboxChannel;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 알림 아웃박스 저장소 포트.
+ * 알림 저장 트랜잭션 안에서 메시지를 기록하고, 커밋 후 발송기가 처리한다.
+ * 이메일은 한 노드가 선점해 발송하고, SSE는 연결이 노드마다 다르므로 모든 노드가 최근 메시지를 읽어 자기 연결에만 전송한다.
+ */
+public interface NotificationOutboxPort {
+
+    /**
+     * 메시지를 호출 측 트랜잭션 안에서 기록한다.
+     *
+     * @param message 기록할 메시지
+     */
+    void save(NotificationOutboxMessage message);
+
+    /**
+     * 채널의 발송 시각이 된 메시지를 최대 limit건 선점한다.
+     * 대기 중이거나 선점 시간이 지난 메시지만 대상이며, 여러 노드가 동시에 호출해도 한 메시지는 한 노드만 선점한다.
+     *
+     * @param channel     선점할 채널
+     * @param now         현재 시각
+     * @param lockedUntil 선점 만료 시각 (이 시각까지 발송 결과가 기록되지 않으면 다시 선점 대상이 된다)
+     * @param limit       최대 선점 건수
+     * @return 선점한 메시지 목록 (ID 오름차순)
+     */
+    List<NotificationOutboxMessage> claimDue(OutboxChannel channel, LocalDateTime now, LocalDateTime lockedUntil, int limit);
+
+    /**
+     * since 이후에 기록된 SSE 메시지를 ID 순서로 조회한다. 선점하지 않으므로 모든 노드가 같은 메시지를 읽는다.
+     *
+     * @param since   조회 시작 기록 시각
+     * @param afterId 이 ID 이후의 메시지만 조회 (페이지 커서)
+     * @param limit   최대 조회 건수
+     * @return SSE 메시지 목록 (ID 오름차순)
+     */
+    List<NotificationOutboxMessage> findRealtimeAfter(LocalDateTime since, long afterId, int limit);
+
+    /**
+     * 모든 노드가 읽을 시간이 지난 SSE 메시지를 삭제한다.
+     *
+     * @param cutoff 이 시각 이전에 기록된 메시지를 삭제
+     * @return 삭제된 메시지 수
+     */
+    int deleteRealtimeCreatedBefore(LocalDateTime cutoff);
+
+    /**
+     * 발송을 마친 메시지를 삭제한다.
+     *
+     * @param ids 메시지 ID 목록
+     */
+    void deleteAll(Collection<Long> ids);
+
+    /**
+     * 발송에 실패한 메시지의 시도 횟수를 올리고 다음 발송 시각을 지정한다.
+     *
+     * @param id            메시지 ID
+     * @param nextAttemptAt 다음 발송 시각
+     */
+    void reschedule(Long id, LocalDateTime nextAttemptAt);
+
+    /**
+     * 재시도 횟수를 모두 소진한 메시지를 실패로 남긴다. 실패한 메시지는 다시 선점되지 않는다.
+     *
+     * @param id 메시지 ID
+     */
+    void markFailed(Long id);
+}
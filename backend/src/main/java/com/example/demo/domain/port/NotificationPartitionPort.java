@@ -0,0 +1,27 @@
+package com.example.demo.domain.port;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * 알림 테이블의 월별 파티션 관리 포트.
+ * notifications 테이블이 created_at 기준 월별 범위 파티션으로 구성된 경우(PostgreSQL)에만 사용한다.
+ */
+public interface NotificationPartitionPort {
+
+    /**
+     * 지정한 월부터 months개월의 파티션을 생성한다. 이미 있는 파티션은 건너뛴다.
+     *
+     * @param from   시작 월
+     * @param months 생성할 개월 수
+     */
+    void createMonthlyPartitions(YearMonth from, int months);
+
+    /**
+     * 지정한 월보다 이전 월의 파티션을 삭제한다.
+     *
+     * @param month 기준 월 (이 월의 파티션은 유지)
+     * @return 삭제된 파티션 이름 목록
+     */
+    List<String> dropMonthlyPartitionsBefore(YearMonth month);
+}
@@ -4,11 +4,94 @@ import com.example.demo.domain.model.CursorResult;
 import com.example.demo.domain.model.notification.Notification;
 import com.example.demo.domain.model.notification.NotificationQuery;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
 public interface NotificationPort {
 
     Notification save(Notification notification);
 
     CursorResult<Notification> findAllBy(NotificationQuery query);
 
+    /**
+     * 알림을 ID 목록으로 한 번에 조회한다. 삭제된 알림은 결과에서 빠진다.
+     *
+     * @param notificationIds 알림 ID 목록
+     * @return 조회된 알림 목록
+     */
+    List<Notification> findAllByIds(Collection<Long> notificationIds);
+
+    /**
+     * 회원의 알림 중 지정한 ID 이후의 알림을 ID 오름차순으로 최대 limit건 조회한다.
+     *
+     * @param memberId            회원 ID
+     * @param afterNotificationId 기준 알림 ID (이 ID는 제외)
+     * @param limit               최대 조회 건수
+     * @return 조회된 알림 목록
+     */
+    List<Notification> findAllAfter(Long memberId, Long afterNotificationId, int limit);
+
+    /**
+     * 회원의 가장 최근 알림 ID를 조회한다.
+     *
+     * @param memberId 회원 ID
+     * @return 가장 큰 알림 ID (알림이 없으면 0)
+     */
+    long findLatestNotificationId(Long memberId);
+
     void delete(Notification notification);
+
+    /**
+     * 회원의 읽지 않은 알림을 모두 읽음 처리한다.
+     *
+     * @param memberId 회원 ID
+     * @param readAt   읽은 시간
+     * @return 읽음 처리된 알림 수
+     */
+    int markAllAsRead(Long memberId, LocalDateTime readAt);
+
+    /**
+     * 회원 소유의 알림을 ID 목록으로 삭제한다. 다른 회원의 알림 ID는 무시된다.
+     *
+     * @param memberId        회원 ID
+     * @param notificationIds 삭제할 알림 ID 목록
+     * @return 삭제된 알림 수
+     */
+    int deleteAllByIds(Long memberId, Collection<Long> notificationIds);
+
+    /**
+     * 회원의 읽은 알림을 모두 삭제한다.
+     *
+     * @param memberId 회원 ID
+     * @return 삭제된 알림 수
+     */
+    int deleteAllRead(Long memberId);
+
+    /**
+     * 기준 시각 이전에 생성된 알림을 오래된 순으로 최대 limit건 삭제한다.
+     * 한 번의 호출은 짧은 트랜잭션 하나로 처리된다.
+     *
+     * @param cutoff 기준 시각
+     * @param limit  최대 삭제 건수
+     * @return 삭제된 알림 수
+     */
+    int deleteCreatedBefore(LocalDateTime cutoff, int limit);
+
+    /**
+     * 회원의 읽지 않은 알림 수를 조회한다.
+     *
+     * @param memberId 회원 ID
+     * @return 읽지 않은 알림 수
+     */
+    long countUnread(Long memberId);
+
+    /**
+     * 여러 회원의 읽지 않은 알림 수를 한 번에 조회한다.
+     *
+     * @param memberIds 회원 ID 목록
+     * @return 회원 ID를 키로 하는 읽지 않은 알림 수 맵 (0건인 회원은 포함되지 않음)
+     */
+    Map<Long, Long> countUnreadByMemberIds(Collection<Long> memberIds);
 } 
\ No newline at end of file
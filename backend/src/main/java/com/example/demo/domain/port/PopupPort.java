@@ -5,7 +5,9 @@ import com.example.demo.domain.model.popup.PopupMapQuery;
 import com.example.demo.domain.model.popup.PopupQuery;
 import org.springframework.data.domain.Page;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -31,6 +33,15 @@ public interface PopupPort {
      */
     Optional<Popup> findById(Long popupId);
 
+    /**
+     * 여러 팝업을 한 번에 조회한다.
+     * 연관 정보(위치, 스케줄, 이미지 등)를 IN 조회로 일괄 로딩한다.
+     *
+     * @param popupIds 조회할 팝업 ID 목록
+     * @return 팝업 ID를 키로 하는 팝업 맵 (존재하지 않는 ID는 포함되지 않음)
+     */
+    Map<Long, Popup> findAllByIds(Collection<Long> popupIds);
+
     /**
      * 특정 조건에 맞는 팝업 목록을 조회한다.
      * 페이징, 필터링, 정렬 조건을 포함할 수 있다.
@@ -0,0 +1,22 @@
+package com.example.demo.domain.port;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄 작업 리더 임대(lease) 저장소 포트.
+ * 여러 노드 중 한 노드만 작업을 실행하도록 작업별 실행 권한을 관리한다.
+ */
+public interface SchedulerLeasePort {
+
+    /**
+     * 임대를 획득하거나 연장한다.
+     * 임대가 없거나, 만료되었거나, 이미 owner가 보유 중이면 expiresAt까지 owner에게 부여한다.
+     *
+     * @param name      작업 이름
+     * @param owner     노드 식별자
+     * @param now       현재 시각
+     * @param expiresAt 임대 만료 시각
+     * @return 임대를 보유하게 되면 true
+     */
+    boolean tryAcquire(String name, String owner, LocalDateTime now, LocalDateTime expiresAt);
+}
@@ -1,7 +1,9 @@
 package com.example.demo.domain.port;
 
 import com.example.demo.domain.model.waiting.Waiting;
+import com.example.demo.domain.model.waiting.WaitingListItem;
 import com.example.demo.domain.model.waiting.WaitingQuery;
+import com.example.demo.domain.model.waiting.WaitingSummary;
 
 import java.util.List;
 import java.util.Optional;
@@ -22,11 +24,12 @@ public interface WaitingPort {
 
     /**
      * 여러 대기 정보를 배치로 저장한다.
+     * 기존 대기는 상태, 대기 번호, 입장 가능 시간, 예상 대기 시간만 일괄 갱신된다.
      *
      * @param waitings 저장할 대기 정보 목록
-     * @return 저장된 대기 정보 목록
+     * @return 반영된 행 수
      */
-    List<Waiting> saveAll(List<Waiting> waitings);
+    int saveAll(List<Waiting> waitings);
 
     /**
      * 조회 조건에 따라 대기 정보 목록을 조회한다.
@@ -37,6 +40,34 @@ public interface WaitingPort {
      */
     List<Waiting> findByQuery(WaitingQuery query);
 
+    /**
+     * 조회 조건에 따라 대기 요약 정보 목록을 조회한다.
+     * 팝업/회원을 함께 로딩하지 않으므로 스케줄러처럼 식별자와 상태만 필요한 경우에 사용한다.
+     *
+     * @param query 조회 조건
+     * @return 대기 요약 정보 목록
+     */
+    List<WaitingSummary> findSummaries(WaitingQuery query);
+
+    /**
+     * 조회 조건에 맞는 대기 목록의 한 페이지를 조회한다.
+     * 목록 표시에 필요한 컬럼만 조회하며, 정렬은 조회 조건의 기본 정렬을 따른다.
+     *
+     * @param query  조회 조건
+     * @param offset 건너뛸 행 수
+     * @param limit  조회할 최대 행 수
+     * @return 대기 목록 항목
+     */
+    List<WaitingListItem> findListItems(WaitingQuery query, long offset, int limit);
+
+    /**
+     * 조회 조건에 맞는 대기 수를 조회한다.
+     *
+     * @param query 조회 조건
+     * @return 대기 수
+     */
+    long countByQuery(WaitingQuery query);
+
     /**
      * 팝업의 다음 대기 번호를 조회한다. 아무도 대기하지 않는 경우 0을 반환한다.
      *
@@ -47,4 +78,21 @@ public interface WaitingPort {
 
     Optional<Waiting> findByMemberIdAndPopupId(Long memberId, Long popupId);
 
+    /**
+     * 대기 중인 대기 행을 잠근다. 다른 노드가 이미 잠근 행은 기다리지 않고 건너뛴다. (FOR UPDATE SKIP LOCKED)
+     * 트랜잭션 안에서 호출해야 하며, 잠금은 트랜잭션 종료 시 해제된다.
+     *
+     * @param waitingId 대기 ID
+     * @return 대기 중이고 이 트랜잭션이 잠금을 얻었으면 true
+     */
+    boolean lockIfWaiting(Long waitingId);
+
+    /**
+     * 입장 시간 초과 알림 발송 권한을 선점한다. 대기당 한 번만 성공한다.
+     *
+     * @param waitingId 대기 ID
+     * @return 이번 호출이 선점했으면 true
+     */
+    boolean claimEnterTimeOverNotification(Long waitingId);
+
 }
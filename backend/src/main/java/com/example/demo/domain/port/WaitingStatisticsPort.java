@@ -1,6 +1,9 @@
 package com.example.demo.domain.port;
 
 import com.example.demo.domain.model.waiting.PopupWaitingStatistics;
+import com.example.demo.domain.model.waiting.WaitingStatistics;
+
+import java.util.List;
 
 /**
  * 대기 통계 정보에 대한 포트 인터페이스.
@@ -14,4 +17,18 @@ public interface WaitingStatisticsPort {
      * @return 팝업의 대기 통계 컬렉션
      */
     PopupWaitingStatistics findCompletedStatisticsByPopupId(Long popupId);
+
+    /**
+     * 입장 완료 1건을 팝업 통계에 누적한다.
+     *
+     * @param statistics 입장 완료된 대기 통계
+     */
+    void recordCompletedWaiting(WaitingStatistics statistics);
+
+    /**
+     * 입장 완료 여러 건을 팝업별로 한 번씩 누적한다.
+     *
+     * @param statistics 입장 완료된 대기 통계 목록
+     */
+    void recordCompletedWaitings(List<WaitingStatistics> statistics);
 }
\ No newline at end of file
@@ -1,23 +1,42 @@
 package com.example.demo.infrastructure.external;
 
-import com.example.demo.application.dto.notification.NotificationResponse;
 import com.example.demo.application.mapper.NotificationDtoMapper;
+import com.example.demo.domain.model.lobby.LobbyWatermark;
 import com.example.demo.domain.model.notification.Notification;
+import com.example.demo.domain.model.waiting.WaitingPosition;
 import com.example.demo.domain.port.NotificationEventPort;
+import com.example.demo.domain.port.NotificationPort;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * SSE를 통한 실시간 알림 발송 구현체.
  * NotificationEventPort의 구현체로 SSE 기술을 사용한다.
+ * 짧은 시간 안에 같은 회원에게 몰린 이벤트는 묶음 시간 동안 모아 하나의 batch 이벤트로 전송한다.
+ * 모든 프레임에 이벤트 ID를 붙이고 회원별 최근 프레임을 보관하여, 재연결 시 Last-Event-ID 이후의 프레임만 다시 보낸다.
  */
 @Slf4j
 @Component
@@ -25,49 +44,174 @@ import java.util.concurrent.ConcurrentHashMap;
 public class NotificationSseAdapter implements NotificationEventPort {
 
     private final NotificationDtoMapper notificationDtoMapper;
+    private final ObjectMapper objectMapper;
+    private final NotificationPort notificationPort;
 
     // 회원별 SSE 연결 관리
     private final Map<Long, Map<String, SseEmitter>> memberConnections = new ConcurrentHashMap<>();
 
     private static final long SSE_TIMEOUT = 30 * 60 * 1000L; // 30분
+    private static final String NOTIFICATION_EVENT = "notification";
+    private static final String BATCH_EVENT = "batch";
+
+    // 묶음 전송 대기 중인 회원별 이벤트
+    private final Map<Long, List<PendingEvent>> pendingEvents = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService flushScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "sse-coalescer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // 느린 연결의 전송이 다른 회원의 전송을 막지 않도록 가상 스레드에서 보낸다
+    private final ExecutorService sendExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    // 회원별 최근 프레임 재전송 버퍼 (연결이 끊긴 뒤에도 보관 시간 동안 유지)
+    private final Map<Long, SseReplayBuffer> replayBuffers = new ConcurrentHashMap<>();
+
+    @Value("${app.sse.coalesce-window:50}")
+    private long coalesceWindowMillis;
+
+    @Value("${app.sse.replay.buffer-size:100}")
+    private int replayBufferSize;
+
+    @Value("${app.sse.replay.retention:300}")
+    private long replayRetentionSeconds;
+
+    @Value("${app.sse.replay.fallback-limit:100}")
+    private int replayFallbackLimit;
 
     @Override
     public void sendRealTimeNotification(Long memberId, Notification notification) {
-        Optional.ofNullable(memberConnections.get(memberId))
-                .filter(connections -> !connections.isEmpty())
-                .ifPresentOrElse(
-                        connections -> sendNotificationToConnections(memberId, notification, connections),
-                        () -> log.debug("회원 ID {}에 대한 SSE 연결이 없습니다. 실시간 알림을 스킵합니다.", memberId)
-                );
+        if (!isStreaming(memberId)) {
+            log.debug("회원 ID {}에 대한 SSE 연결이 없습니다. 실시간 알림을 스킵합니다.", memberId);
+            return;
+        }
+        enqueue(memberId, NOTIFICATION_EVENT, notificationDtoMapper.toNotificationResponse(notification), notification.getId());
     }
 
-    private void sendNotificationToConnections(Long memberId, Notification notification, Map<String, SseEmitter> connections) {
-        NotificationResponse response = notificationDtoMapper.toNotificationResponse(notification);
+    @Override
+    public void sendWaitingPositions(Long memberId, List<WaitingPosition> positions) {
+        sendNamedEvent(memberId, "waiting-position", positions);
+    }
 
-        // 연결된 모든 SSE Emitter에 알림 전송 실패시 연결 제거
-        connections.entrySet().removeIf(entry ->
-                !sendNotificationToSingleConnection(memberId, notification.getId(), entry, response)
-        );
+    @Override
+    public void sendLobbyWatermark(Long memberId, LobbyWatermark watermark) {
+        sendNamedEvent(memberId, "lobby-watermark", watermark);
+    }
 
-        // 모든 연결이 제거된 경우 해당 회원의 연결 정보도 삭제
-        cleanupEmptyConnectionsIfNeeded(memberId, connections);
+    @Override
+    public void sendUnreadCount(Long memberId, long unreadCount) {
+        sendNamedEvent(memberId, "unread-count", Map.of("unreadCount", unreadCount));
+    }
+
+    @PostConstruct
+    public void start() {
+        long period = Math.max(1, replayRetentionSeconds);
+        flushScheduler.scheduleWithFixedDelay(this::evictIdleReplayBuffers, period, period, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        flushScheduler.shutdownNow();
+        sendExecutor.shutdownNow();
+    }
+
+    private void sendNamedEvent(Long memberId, String eventName, Object data) {
+        if (!isStreaming(memberId)) {
+            log.debug("회원 ID {}에 대한 SSE 연결이 없습니다. {} 이벤트 전송을 스킵합니다.", memberId, eventName);
+            return;
+        }
+        enqueue(memberId, eventName, data, 0L);
     }
 
-    private boolean sendNotificationToSingleConnection(Long memberId, Long notificationId, Map.Entry<String, SseEmitter> entry, NotificationResponse response) {
-        String connectionId = entry.getKey();
-        SseEmitter emitter = entry.getValue();
+    /**
+     * 회원별로 이벤트를 모았다가 묶음 시간이 지나면 한 번에 전송한다.
+     * 상태 이벤트는 마지막 값만 남기고, 알림은 모두 순서대로 보낸다.
+     */
+    private void enqueue(Long memberId, String eventName, Object data, long notificationId) {
+        if (coalesceWindowMillis <= 0) {
+            sendFrame(memberId, eventName, data, notificationId);
+            return;
+        }
+        AtomicBoolean firstEvent = new AtomicBoolean();
+        pendingEvents.compute(memberId, (id, events) -> {
+            if (events == null) {
+                events = new ArrayList<>();
+                firstEvent.set(true);
+            }
+            if (!NOTIFICATION_EVENT.equals(eventName)) {
+                events.removeIf(event -> event.event().equals(eventName));
+            }
+            events.add(new PendingEvent(eventName, data, notificationId));
+            return events;
+        });
+        if (firstEvent.get()) {
+            try {
+                flushScheduler.schedule(() -> sendExecutor.execute(() -> flush(memberId)), coalesceWindowMillis, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                pendingEvents.remove(memberId); // 종료 중
+            }
+        }
+    }
+
+    private void flush(Long memberId) {
+        List<PendingEvent> events = pendingEvents.remove(memberId);
+        if (events == null || events.isEmpty()) {
+            return;
+        }
+        long notificationId = events.stream().mapToLong(PendingEvent::notificationId).max().orElse(0L);
+        if (events.size() == 1) {
+            sendFrame(memberId, events.getFirst().event(), events.getFirst().data(), notificationId);
+        } else {
+            // 여러 이벤트는 [{event, data}, ...] 배열 하나로 보낸다
+            sendFrame(memberId, BATCH_EVENT, events, notificationId);
+        }
+    }
+
+    /**
+     * 데이터를 한 번만 직렬화하여 재전송 버퍼에 기록하고 회원의 모든 연결에 전송한다. 전송에 실패한 연결은 제거한다.
+     * 연결이 잠시 끊긴 동안의 프레임도 버퍼에 기록되어 재연결 시 다시 전송된다.
+     */
+    private void sendFrame(Long memberId, String eventName, Object data, long notificationId) {
+        SseReplayBuffer buffer = replayBuffers.get(memberId);
+        if (buffer == null) {
+            log.debug("회원 ID {}에 대한 SSE 연결이 없습니다. {} 이벤트 전송을 스킵합니다.", memberId, eventName);
+            return;
+        }
+
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(data);
+        } catch (JsonProcessingException e) {
+            log.error("회원 ID {}의 {} 이벤트 직렬화 실패: {}", memberId, eventName, e.getOriginalMessage());
+            return;
+        }
+
+        // 재연결 중인 연결이 같은 프레임을 재전송과 실시간으로 두 번 받지 않도록 버퍼 단위로 직렬화한다
+        buffer.lock();
+        try {
+            SseReplayBuffer.Frame frame = buffer.append(eventName, json, notificationId);
+            Map<String, SseEmitter> connections = memberConnections.get(memberId);
+            if (connections == null || connections.isEmpty()) {
+                return;
+            }
+            connections.entrySet().removeIf(entry -> !sendFrameToConnection(memberId, entry.getKey(), entry.getValue(), frame));
+            cleanupEmptyConnectionsIfNeeded(memberId, connections);
+        } finally {
+            buffer.unlock();
+        }
+    }
 
+    private boolean sendFrameToConnection(Long memberId, String connectionId, SseEmitter emitter, SseReplayBuffer.Frame frame) {
         try {
             emitter.send(
                     SseEmitter.event()
-                            .name("notification")
-                            .data(response)
+                            .id(frame.id())
+                            .name(frame.event())
+                            .data(frame.json(), MediaType.APPLICATION_JSON)
             );
-
-            log.debug("회원 ID {}의 연결 {}로 실시간 알림을 전송했습니다. 알림 ID: {}", memberId, connectionId, notificationId);
             return true;
         } catch (IOException e) {
-            log.warn("회원 ID {}의 연결 {}로 알림 전송 실패: {}", memberId, connectionId, e.getMessage());
+            log.warn("회원 ID {}의 연결 {}로 {} 이벤트 전송 실패: {}", memberId, connectionId, frame.event(), e.getMessage());
             emitter.completeWithError(e);
             return false;
         }
@@ -76,19 +220,122 @@ public class NotificationSseAdapter implements NotificationEventPort {
     private void cleanupEmptyConnectionsIfNeeded(Long memberId, Map<String, SseEmitter> connections) {
         if (connections.isEmpty()) {
             memberConnections.remove(memberId);
+            // 연결이 끊긴 시점부터 보관 시간을 센다
+            Optional.ofNullable(replayBuffers.get(memberId)).ifPresent(SseReplayBuffer::touch);
         }
     }
 
     @Override
-    public Object createSseConnection(Long memberId) {
+    public Object createSseConnection(Long memberId, String lastEventId) {
         String connectionId = UUID.randomUUID().toString();
-
         SseEmitter emitter = createSseEmitter(memberId, connectionId);
-        memberConnections.computeIfAbsent(memberId, k -> new ConcurrentHashMap<>())
-                .put(connectionId, emitter);
+        Optional<SseReplayBuffer.EventId> eventId = SseReplayBuffer.EventId.parse(lastEventId);
+
+        FallbackReplay fallback = null;
+        while (true) {
+            SseReplayBuffer buffer = replayBufferOf(memberId);
+            buffer.lock();
+            try {
+                if (replayBuffers.get(memberId) != buffer) {
+                    continue; // 잠그기 전에 정리된 버퍼
+                }
+                Optional<List<SseReplayBuffer.Frame>> missed = eventId.isEmpty()
+                        ? Optional.of(List.of())
+                        : buffer.framesAfter(eventId.get());
+                FallbackReplay replayed = null;
+                if (missed.isEmpty() && fallback != null && fallback.buffer() == buffer) {
+                    // DB에서 읽은 알림에 이어, 조회하는 동안 쌓인 프레임을 보낸다
+                    missed = buffer.framesAfter(fallback.sequence());
+                    replayed = fallback;
+                }
+                if (missed.isPresent()) {
+                    memberConnections.computeIfAbsent(memberId, k -> new ConcurrentHashMap<>())
+                            .put(connectionId, emitter);
+                    buffer.touch();
+                    replay(memberId, connectionId, emitter, replayed, missed.get());
+                    log.info("회원 ID {}의 SSE 연결이 등록되었습니다. 연결 ID: {}", memberId, connectionId);
+                    return emitter;
+                }
+                fallback = new FallbackReplay(buffer, buffer.lastSequence(), buffer.watermark(), List.of());
+            } finally {
+                buffer.unlock();
+            }
+            // 버퍼로 재전송할 수 없으면 잠금 밖에서 DB를 조회한 뒤 다시 잠가 이어서 보낸다
+            fallback = fallback.load(notificationPort, memberId, eventId.get().watermark(), replayFallbackLimit);
+        }
+    }
 
-        log.info("회원 ID {}의 SSE 연결이 등록되었습니다. 연결 ID: {}", memberId, connectionId);
-        return emitter;
+    /**
+     * 놓친 프레임을 새 연결에만 다시 보낸다.
+     * 버퍼로 재전송할 수 없었다면 마지막으로 받은 알림 이후의 알림(DB에서 미리 조회)을 먼저 보낸다.
+     */
+    private void replay(Long memberId, String connectionId, SseEmitter emitter,
+                        FallbackReplay fallback, List<SseReplayBuffer.Frame> missed) {
+        if (fallback != null && !fallback.notifications().isEmpty()) {
+            Optional<SseReplayBuffer.Frame> frame = fallbackFrame(memberId, fallback);
+            if (frame.isPresent() && !sendFrameToConnection(memberId, connectionId, emitter, frame.get())) {
+                removeConnection(memberId, connectionId);
+                return;
+            }
+            log.debug("회원 ID {}의 연결 {}로 DB에서 알림 {}건 재전송", memberId, connectionId, fallback.notifications().size());
+        }
+        for (SseReplayBuffer.Frame frame : missed) {
+            if (!sendFrameToConnection(memberId, connectionId, emitter, frame)) {
+                removeConnection(memberId, connectionId);
+                return;
+            }
+        }
+        if (!missed.isEmpty()) {
+            log.debug("회원 ID {}의 연결 {}로 버퍼에서 {}건 재전송", memberId, connectionId, missed.size());
+        }
+    }
+
+    private Optional<SseReplayBuffer.Frame> fallbackFrame(Long memberId, FallbackReplay fallback) {
+        List<PendingEvent> events = fallback.notifications().stream()
+                .map(notification -> new PendingEvent(NOTIFICATION_EVENT,
+                        notificationDtoMapper.toNotificationResponse(notification), notification.getId()))
+                .toList();
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(events.size() == 1 ? events.getFirst().data() : events);
+        } catch (JsonProcessingException e) {
+            log.error("회원 ID {}의 재전송 알림 직렬화 실패: {}", memberId, e.getOriginalMessage());
+            return Optional.empty();
+        }
+        // 조회 시점의 순번 ID를 붙여 이후 버퍼 프레임과 이어지도록 한다
+        return Optional.of(new SseReplayBuffer.Frame(0L,
+                fallback.buffer().idAt(fallback.sequence(), fallback.watermark()),
+                events.size() == 1 ? NOTIFICATION_EVENT : BATCH_EVENT,
+                json));
+    }
+
+    private SseReplayBuffer replayBufferOf(Long memberId) {
+        SseReplayBuffer buffer = replayBuffers.get(memberId);
+        if (buffer != null) {
+            return buffer;
+        }
+        // 이 노드에서 처음 연결된 회원은 현재 최신 알림 ID부터 워터마크를 시작한다
+        SseReplayBuffer created = new SseReplayBuffer(UUID.randomUUID().toString().substring(0, 8),
+                replayBufferSize, notificationPort.findLatestNotificationId(memberId));
+        SseReplayBuffer previous = replayBuffers.putIfAbsent(memberId, created);
+        return previous != null ? previous : created;
+    }
+
+    /**
+     * 연결이 끊긴 뒤 보관 시간이 지난 회원의 재전송 버퍼를 정리한다.
+     */
+    private void evictIdleReplayBuffers() {
+        long cutoff = System.currentTimeMillis() - TimeUnit.SECONDS.toMillis(replayRetentionSeconds);
+        replayBuffers.forEach((memberId, buffer) -> {
+            buffer.lock();
+            try {
+                if (!isConnected(memberId) && buffer.isIdleSince(cutoff)) {
+                    replayBuffers.remove(memberId, buffer);
+                }
+            } finally {
+                buffer.unlock();
+            }
+        });
     }
 
     @Override
@@ -116,6 +363,11 @@ public class NotificationSseAdapter implements NotificationEventPort {
                 .orElse(false);
     }
 
+    @Override
+    public boolean isStreaming(Long memberId) {
+        return isConnected(memberId) || replayBuffers.containsKey(memberId);
+    }
+
     /**
      * SSE Emitter를 생성하고 이벤트 핸들러를 설정한다.
      */
@@ -226,4 +478,24 @@ public class NotificationSseAdapter implements NotificationEventPort {
             return false; // 연결 제거
         }
     }
-} 
\ No newline at end of file
+
+    /**
+     * 버퍼로 재전송할 수 없을 때 DB에서 읽은 알림과, 조회를 시작한 시점의 버퍼 순번/워터마크.
+     * 조회 이후 버퍼에 기록된 프레임과 겹치지 않도록 조회 시점 워터마크 이하의 알림만 보낸다.
+     */
+    private record FallbackReplay(SseReplayBuffer buffer, long sequence, long watermark, List<Notification> notifications) {
+
+        private FallbackReplay load(NotificationPort notificationPort, Long memberId, long afterId, int limit) {
+            List<Notification> loaded = notificationPort.findAllAfter(memberId, afterId, limit).stream()
+                    .filter(notification -> notification.getId() <= watermark)
+                    .toList();
+            return new FallbackReplay(buffer, sequence, watermark, loaded);
+        }
+    }
+
+    /**
+     * 묶음 전송 대기 중인 이벤트. batch 이벤트의 배열 원소로 직렬화된다.
+     */
+    record PendingEvent(String event, Object data, @JsonIgnore long notificationId) {
+    }
+}
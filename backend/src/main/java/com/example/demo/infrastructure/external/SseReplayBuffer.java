@@ -0,0 +1,140 @@
+package com.example.demo.infrastructure.external;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 회원별로 최근 SSE 프레임을 보관하는 고정 크기 버퍼.
+ * 재연결 시 Last-Event-ID 이후의 프레임만 다시 보내기 위해 사용한다.
+ * 이벤트 ID는 "버퍼ID:순번:알림워터마크" 형식이며, 알림 워터마크는 이 스트림으로 보낸 가장 큰 알림 ID다.
+ * 버퍼가 넘쳤거나 다른 노드/재시작 전의 ID라 버퍼로 재전송할 수 없으면, 워터마크 이후의 알림을 DB에서 조회한다.
+ * 동기화는 호출 측에서 {@link #lock()}/{@link #unlock()}으로 처리한다.
+ * 잠금 안에서 소켓에 쓰므로, 가상 스레드가 캐리어 스레드를 붙잡지 않도록 synchronized 대신 ReentrantLock을 쓴다.
+ */
+class SseReplayBuffer {
+
+    private final String bufferId;
+    private final int capacity;
+    private final Deque<Frame> frames = new ArrayDeque<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private long lastSequence;
+    private long watermark;
+    private long lastActiveAt = System.currentTimeMillis();
+
+    SseReplayBuffer(String bufferId, int capacity, long initialWatermark) {
+        this.bufferId = bufferId;
+        this.capacity = Math.max(1, capacity);
+        this.watermark = initialWatermark;
+    }
+
+    void lock() {
+        lock.lock();
+    }
+
+    void unlock() {
+        lock.unlock();
+    }
+
+    /**
+     * 프레임에 다음 이벤트 ID를 부여하여 보관한다. 가득 차면 가장 오래된 프레임을 버린다.
+     *
+     * @param notificationId 프레임에 포함된 가장 큰 알림 ID (알림이 없으면 0)
+     */
+    Frame append(String event, String json, long notificationId) {
+        lastSequence++;
+        watermark = Math.max(watermark, notificationId);
+        Frame frame = new Frame(lastSequence, new EventId(bufferId, lastSequence, watermark).format(), event, json);
+        if (frames.size() == capacity) {
+            frames.removeFirst();
+        }
+        frames.addLast(frame);
+        touch();
+        return frame;
+    }
+
+    /**
+     * 마지막으로 받은 이벤트 이후의 프레임을 반환한다.
+     * 다른 버퍼의 ID이거나 필요한 프레임이 이미 버려졌으면 빈 값을 반환한다.
+     */
+    Optional<List<Frame>> framesAfter(EventId lastEventId) {
+        if (!bufferId.equals(lastEventId.bufferId())) {
+            return Optional.empty();
+        }
+        return framesAfter(lastEventId.sequence());
+    }
+
+    /**
+     * 이 버퍼의 순번 이후의 프레임을 반환한다. 필요한 프레임이 이미 버려졌으면 빈 값을 반환한다.
+     */
+    Optional<List<Frame>> framesAfter(long sequence) {
+        long firstSequence = lastSequence - frames.size() + 1;
+        if (sequence > lastSequence || sequence < firstSequence - 1) {
+            return Optional.empty();
+        }
+        List<Frame> missed = new ArrayList<>();
+        for (Frame frame : frames) {
+            if (frame.sequence() > sequence) {
+                missed.add(frame);
+            }
+        }
+        return Optional.of(missed);
+    }
+
+    long lastSequence() {
+        return lastSequence;
+    }
+
+    long watermark() {
+        return watermark;
+    }
+
+    /**
+     * 주어진 순번까지 받은 것으로 보는 이벤트 ID. DB에서 재전송한 프레임에 부여한다.
+     */
+    String idAt(long sequence, long watermark) {
+        return new EventId(bufferId, sequence, watermark).format();
+    }
+
+    void touch() {
+        lastActiveAt = System.currentTimeMillis();
+    }
+
+    boolean isIdleSince(long cutoffMillis) {
+        return lastActiveAt < cutoffMillis;
+    }
+
+    record Frame(long sequence, String id, String event, String json) {
+    }
+
+    record EventId(String bufferId, long sequence, long watermark) {
+
+        private static final String DELIMITER = ":";
+
+        /**
+         * 클라이언트가 보낸 Last-Event-ID를 해석한다. 형식이 맞지 않으면 빈 값을 반환한다.
+         */
+        static Optional<EventId> parse(String value) {
+            if (value == null || value.isBlank()) {
+                return Optional.empty();
+            }
+            String[] parts = value.trim().split(DELIMITER);
+            if (parts.length != 3) {
+                return Optional.empty();
+            }
+            try {
+                return Optional.of(new EventId(parts[0], Long.parseLong(parts[1]), Long.parseLong(parts[2])));
+            } catch (NumberFormatException e) {
+                return Optional.empty();
+            }
+        }
+
+        String format() {
+            return bufferId + DELIMITER + sequence + DELIMITER + watermark;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.demo.infrastructure.persistence.adapter;
+
+import com.example.demo.domain.model.lobby.LobbyRoom;
+import com.example.demo.domain.port.LobbyPort;
+import com.example.demo.infrastructure.persistence.entity.LobbyRoomEntity;
+import com.example.demo.infrastructure.persistence.repository.LobbyRoomJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class LobbyPortAdapter implements LobbyPort {
+
+    private final LobbyRoomJpaRepository lobbyRoomJpaRepository;
+
+    @Override
+    @Transactional
+    public void save(LobbyRoom room) {
+        lobbyRoomJpaRepository.save(LobbyRoomEntity.builder()
+                .popupId(room.getPopupId())
+                .releasePerSecond(room.getReleasePerSecond())
+                .issuedSequence(room.getIssuedSequence())
+                .releasedSequence(room.getReleasedSequence())
+                .opened(true)
+                .build());
+    }
+
+    @Override
+    @Transactional
+    public void saveProgress(LobbyRoom room) {
+        lobbyRoomJpaRepository.findById(room.getPopupId())
+                .filter(LobbyRoomEntity::getOpened)
+                .ifPresent(entity -> entity.updateSequences(room.getIssuedSequence(), room.getReleasedSequence()));
+    }
+
+    @Override
+    @Transactional
+    public void close(Long popupId) {
+        lobbyRoomJpaRepository.findById(popupId).ifPresent(LobbyRoomEntity::close);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<LobbyRoom> findAllOpened() {
+        return lobbyRoomJpaRepository.findAllByOpenedTrue().stream()
+                .map(entity -> new LobbyRoom(
+                        entity.getPopupId(),
+                        entity.getReleasePerSecond(),
+                        entity.getIssuedSequence(),
+                        entity.getReleasedSequence()
+                ))
+                .toList();
+    }
+}
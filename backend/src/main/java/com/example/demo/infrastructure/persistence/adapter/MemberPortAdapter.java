@@ -6,7 +6,11 @@ import com.example.demo.infrastructure.persistence.mapper.MemberEntityMapper;
 import com.example.demo.infrastructure.persistence.repository.MemberJpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Repository
 public class MemberPortAdapter implements MemberPort {
@@ -25,6 +29,16 @@ public class MemberPortAdapter implements MemberPort {
                 .map(memberEntityMapper::toDomain);
     }
 
+    @Override
+    public Map<Long, Member> findAllByIds(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return Map.of();
+        }
+        return memberJpaRepository.findAllById(ids).stream()
+                .map(memberEntityMapper::toDomain)
+                .collect(Collectors.toMap(Member::id, Function.identity()));
+    }
+
     @Override
     public Member save(Member member) {
         var entity = memberEntityMapper.toEntity(member);
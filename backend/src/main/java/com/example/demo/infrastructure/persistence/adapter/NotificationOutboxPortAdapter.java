@@ -0,0 +1,146 @@
+package com.example.demo.infrastructure.persistence.adapter;
+
+import com.example.demo.domain.model.notification.NotificationOutboxMessage;
+import com.example.demo.domain.model.notification.OutboxChannel;
+import com.example.demo.domain.port.NotificationOutboxPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 알림 아웃박스를 JdbcTemplate으로 처리한다.
+ * 선점은 후보 조회 후 행마다 조건부 UPDATE 한 문장으로 처리하여, 행 잠금을 오래 잡지 않고 DB의 원자성만으로 중복 선점을 막는다.
+ * SSE 메시지는 선점하지 않고 기록 시각으로 조회/삭제한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationOutboxPortAdapter implements NotificationOutboxPort {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO notification_outbox
+                   (channel, member_id, notification_id, payload, status, attempts, next_attempt_at, created_at, modified_at)
+            VALUES (?, ?, ?, ?, 'PENDING', 0, ?, ?, ?)
+            """;
+
+    private static final String DUE_CONDITION = """
+            ((status = 'PENDING' AND next_attempt_at <= ?) OR (status = 'PROCESSING' AND locked_until < ?))
+            """;
+
+    private static final String FIND_DUE_SQL = """
+            SELECT id, channel, member_id, notification_id, payload, attempts
+              FROM notification_outbox
+             WHERE channel = ? AND %s
+             ORDER BY id
+             LIMIT ?
+            """.formatted(DUE_CONDITION);
+
+    private static final String FIND_REALTIME_SQL = """
+            SELECT id, channel, member_id, notification_id, payload, attempts
+              FROM notification_outbox
+             WHERE channel = 'SSE' AND created_at >= ? AND id > ?
+             ORDER BY id
+             LIMIT ?
+            """;
+
+    private static final String DELETE_REALTIME_SQL = "DELETE FROM notification_outbox WHERE channel = 'SSE' AND created_at < ?";
+
+    private static final String CLAIM_SQL = """
+            UPDATE notification_outbox
+               SET status = 'PROCESSING', locked_until = ?, modified_at = ?
+             WHERE id = ? AND %s
+            """.formatted(DUE_CONDITION);
+
+    private static final String DELETE_SQL = "DELETE FROM notification_outbox WHERE id = ?";
+
+    private static final String RESCHEDULE_SQL = """
+            UPDATE notification_outbox
+               SET status = 'PENDING', attempts = attempts + 1, next_attempt_at = ?, locked_until = NULL, modified_at = ?
+             WHERE id = ?
+            """;
+
+    private static final String FAIL_SQL = """
+            UPDATE notification_outbox
+               SET status = 'FAILED', attempts = attempts + 1, locked_until = NULL, modified_at = ?
+             WHERE id = ?
+            """;
+
+    private static final RowMapper<NotificationOutboxMessage> ROW_MAPPER = (rs, rowNum) -> new NotificationOutboxMessage(
+            rs.getLong("id"),
+            OutboxChannel.valueOf(rs.getString("channel")),
+            rs.getLong("member_id"),
+            rs.getObject("notification_id", Long.class),
+            rs.getString("payload"),
+            rs.getInt("attempts")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void save(NotificationOutboxMessage message) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update(INSERT_SQL,
+                message.channel().name(), message.memberId(), message.notificationId(), message.payload(), now, now, now);
+    }
+
+    @Override
+    public List<NotificationOutboxMessage> claimDue(OutboxChannel channel, LocalDateTime now, LocalDateTime lockedUntil, int limit) {
+        Timestamp nowTs = Timestamp.valueOf(now);
+        List<NotificationOutboxMessage> candidates = jdbcTemplate.query(FIND_DUE_SQL, ROW_MAPPER, channel.name(), nowTs, nowTs, limit);
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+
+        Timestamp lockedTs = Timestamp.valueOf(lockedUntil);
+        int[] updated = jdbcTemplate.batchUpdate(CLAIM_SQL, candidates, candidates.size(), (ps, message) -> {
+            ps.setTimestamp(1, lockedTs);
+            ps.setTimestamp(2, nowTs);
+            ps.setLong(3, message.id());
+            ps.setTimestamp(4, nowTs);
+            ps.setTimestamp(5, nowTs);
+        })[0];
+
+        // 조회와 UPDATE 사이에 다른 노드가 선점한 메시지는 제외한다
+        List<NotificationOutboxMessage> claimed = new ArrayList<>(candidates.size());
+        for (int i = 0; i < candidates.size(); i++) {
+            if (updated[i] > 0) {
+                claimed.add(candidates.get(i));
+            }
+        }
+        return claimed;
+    }
+
+    @Override
+    public List<NotificationOutboxMessage> findRealtimeAfter(LocalDateTime since, long afterId, int limit) {
+        return jdbcTemplate.query(FIND_REALTIME_SQL, ROW_MAPPER, Timestamp.valueOf(since), afterId, limit);
+    }
+
+    @Override
+    public int deleteRealtimeCreatedBefore(LocalDateTime cutoff) {
+        return jdbcTemplate.update(DELETE_REALTIME_SQL, Timestamp.valueOf(cutoff));
+    }
+
+    @Override
+    public void deleteAll(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(DELETE_SQL, ids, ids.size(), (ps, id) -> ps.setLong(1, id));
+    }
+
+    @Override
+    public void reschedule(Long id, LocalDateTime nextAttemptAt) {
+        jdbcTemplate.update(RESCHEDULE_SQL, Timestamp.valueOf(nextAttemptAt), Timestamp.valueOf(LocalDateTime.now()), id);
+    }
+
+    @Override
+    public void markFailed(Long id) {
+        jdbcTemplate.update(FAIL_SQL, Timestamp.valueOf(LocalDateTime.now()), id);
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.demo.infrastructure.persistence.adapter;
+
+import com.example.demo.domain.port.NotificationPartitionPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * PostgreSQL 선언적 파티션으로 알림 테이블의 월별 파티션을 생성/삭제한다.
+ * 파티션 이름은 notifications_yYYYYmMM 형식이며, 오래된 파티션은 DELETE 없이 DROP으로 한 번에 제거한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationPartitionPortAdapter implements NotificationPartitionPort {
+
+    private static final Pattern PARTITION_NAME = Pattern.compile("notifications_y(\\d{4})m(\\d{2})");
+
+    private static final String CREATE_PARTITION_SQL =
+            "CREATE TABLE IF NOT EXISTS %s PARTITION OF notifications FOR VALUES FROM ('%s') TO ('%s')";
+
+    private static final String FIND_PARTITIONS_SQL = """
+            SELECT child.relname
+              FROM pg_inherits
+              JOIN pg_class parent ON parent.oid = pg_inherits.inhparent
+              JOIN pg_class child ON child.oid = pg_inherits.inhrelid
+             WHERE parent.relname = 'notifications'
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void createMonthlyPartitions(YearMonth from, int months) {
+        for (int i = 0; i < months; i++) {
+            YearMonth month = from.plusMonths(i);
+            jdbcTemplate.execute(CREATE_PARTITION_SQL.formatted(
+                    partitionName(month), month.atDay(1), month.plusMonths(1).atDay(1)));
+        }
+    }
+
+    @Override
+    public List<String> dropMonthlyPartitionsBefore(YearMonth month) {
+        List<String> dropped = jdbcTemplate.queryForList(FIND_PARTITIONS_SQL, String.class).stream()
+                .filter(name -> {
+                    Matcher matcher = PARTITION_NAME.matcher(name);
+                    return matcher.matches()
+                            && YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2))).isBefore(month);
+                })
+                .sorted()
+                .toList();
+        // 이름은 위 패턴과 일치하는 것만 사용하므로 식별자를 그대로 넣어도 안전하다
+        dropped.forEach(name -> jdbcTemplate.execute("DROP TABLE IF EXISTS " + name));
+        return dropped;
+    }
+
+    private static String partitionName(YearMonth month) {
+        return "notifications_y%04dm%02d".formatted(month.getYear(), month.getMonthValue());
+    }
+}
@@ -13,16 +13,28 @@ import com.example.demo.domain.port.MemberPort;
 import com.example.demo.domain.port.NotificationPort;
 import com.example.demo.domain.port.WaitingPort;
 import com.example.demo.infrastructure.persistence.entity.NotificationEntity;
+import com.example.demo.infrastructure.persistence.entity.QNotificationEntity;
 import com.example.demo.infrastructure.persistence.mapper.NotificationEntityMapper;
 import com.example.demo.infrastructure.persistence.mapper.NotificationEntityMapper.DomainSpecificMapper;
-import com.example.demo.infrastructure.persistence.mapper.NotificationEntityMapper.SourceEntityKey;
 import com.example.demo.infrastructure.persistence.repository.NotificationJpaRepository;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Component
@@ -33,16 +45,27 @@ public class NotificationPortAdapter implements NotificationPort {
     private final NotificationEntityMapper mapper;
     private final MemberPort memberPort;
     private final WaitingPort waitingPort;
+    private final JPAQueryFactory jpaQueryFactory;
     @PersistenceContext
     private final EntityManager em;
 
+    private static final QNotificationEntity notificationEntity = QNotificationEntity.notificationEntity;
+
     // 도메인별 매퍼 (지연 초기화)
     private DomainSpecificMapper<Waiting> waitingMapper;
 
+    /**
+     * 새 알림은 연관 리소스 스냅샷과 함께 저장하고, 기존 알림은 읽음 상태만 갱신한다.
+     */
     @Override
     public Notification save(Notification notification) {
-        NotificationEntity entity = mapper.toEntity(notification);
-        NotificationEntity savedEntity = repository.save(entity);
+        if (notification.getId() != null) {
+            NotificationEntity entity = repository.findById(notification.getId())
+                    .orElseThrow(() -> new BusinessException(ErrorType.NOTIFICATION_NOT_FOUND, String.valueOf(notification.getId())));
+            entity.updateStatus(notification.getStatus().getStatus(), notification.getStatus().getReadAt());
+            return getWaitingMapper().toDomain(repository.save(entity));
+        }
+        NotificationEntity savedEntity = repository.save(mapper.toEntity(notification));
         return getWaitingMapper().toDomain(savedEntity);
     }
 
@@ -54,6 +77,85 @@ public class NotificationPortAdapter implements NotificationPort {
         repository.deleteById(notification.getId());
     }
 
+    @Override
+    public int markAllAsRead(Long memberId, LocalDateTime readAt) {
+        return repository.markAllAsReadByMemberId(memberId, readAt);
+    }
+
+    @Override
+    public int deleteAllByIds(Long memberId, Collection<Long> notificationIds) {
+        if (notificationIds.isEmpty()) {
+            return 0;
+        }
+        return repository.deleteByMemberIdAndIdIn(memberId, notificationIds);
+    }
+
+    @Override
+    public int deleteAllRead(Long memberId) {
+        return repository.deleteByMemberIdAndStatus(memberId, ReadStatus.READ);
+    }
+
+    @Override
+    @Transactional
+    public int deleteCreatedBefore(LocalDateTime cutoff, int limit) {
+        List<Long> ids = jpaQueryFactory
+                .select(notificationEntity.id)
+                .from(notificationEntity)
+                .where(notificationEntity.createdAt.lt(cutoff))
+                // idx_notifications_created 순서대로 읽어 정렬 없이 앞에서부터 limit건만 가져온다
+                .orderBy(notificationEntity.createdAt.asc(), notificationEntity.id.asc())
+                .limit(limit)
+                .fetch();
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        repository.deleteAllByIdInBatch(ids);
+        return ids.size();
+    }
+
+    @Override
+    public long countUnread(Long memberId) {
+        return repository.countByMemberIdAndStatus(memberId, ReadStatus.UNREAD);
+    }
+
+    @Override
+    public Map<Long, Long> countUnreadByMemberIds(Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return Map.of();
+        }
+        return repository.countByMemberIdInAndStatusGroupByMemberId(memberIds, ReadStatus.UNREAD).stream()
+                .collect(Collectors.toMap(row -> (Long) row[0], row -> (Long) row[1]));
+    }
+
+    @Override
+    public List<Notification> findAllByIds(Collection<Long> notificationIds) {
+        if (notificationIds.isEmpty()) {
+            return List.of();
+        }
+        return entitiesToDomain(repository.findAllById(notificationIds));
+    }
+
+    @Override
+    public List<Notification> findAllAfter(Long memberId, Long afterNotificationId, int limit) {
+        List<NotificationEntity> entities = jpaQueryFactory
+                .selectFrom(notificationEntity)
+                .where(notificationEntity.memberId.eq(memberId), notificationEntity.id.gt(afterNotificationId))
+                .orderBy(notificationEntity.id.asc())
+                .limit(limit)
+                .fetch();
+        return entitiesToDomain(entities);
+    }
+
+    @Override
+    public long findLatestNotificationId(Long memberId) {
+        Long latestId = jpaQueryFactory
+                .select(notificationEntity.id.max())
+                .from(notificationEntity)
+                .where(notificationEntity.memberId.eq(memberId))
+                .fetchOne();
+        return latestId != null ? latestId : 0L;
+    }
+
     @Override
     public CursorResult<Notification> findAllBy(NotificationQuery query) {
         if (query.getNotificationId() != null) {
@@ -71,69 +173,77 @@ public class NotificationPortAdapter implements NotificationPort {
             hasNext = true;
         }
 
-        List<Notification> notifications = entities.stream()
-                .map(this::entityToDomain)
-                .filter(notification -> notification.getEvent().getSource() != null) // 소스가 없는 알림은 제외
-                .collect(Collectors.toList());
-
-        return new CursorResult<>(notifications, hasNext);
+        // 스냅샷으로 응답을 구성하므로 원본 대기/팝업이 삭제된 알림도 그대로 조회된다
+        return new CursorResult<>(entitiesToDomain(entities), hasNext);
     }
 
     /**
-     * 쿼리 조건에 따라 적절한 Repository 메서드 호출
+     * 알림 목록을 키셋으로 조회한다.
+     * 상태 필터가 있으면 (created_at DESC, id DESC), 없으면 정렬 기준에 따라 (status_rank, created_at DESC, id DESC) 순서로
+     * 각각 같은 순서의 인덱스를 범위 탐색한다. 커서는 마지막 알림 ID 하나로 전달되므로 해당 행의 정렬 키를 먼저 조회한다.
      */
     private List<NotificationEntity> executeQuery(NotificationQuery query) {
-        Long memberId = query.getMemberId();
-        ReadStatus status = query.getReadStatus();
-        Long lastId = query.getLastNotificationId();
-        NotificationSortOrder sortOrder = query.getSortOrder();
-        int limit = query.getPageSize() + 1; // hasNext 판단용
-
-        if (lastId == null) {
-            // 첫 페이지 조회
-            return executeFirstPageQuery(memberId, status, sortOrder, limit);
-        } else {
-            // 다음 페이지 조회 (커서 기반)
-            return executeNextPageQuery(memberId, status, lastId, sortOrder, limit);
+        BooleanBuilder builder = new BooleanBuilder();
+        builder.and(notificationEntity.memberId.eq(query.getMemberId()));
+        if (query.getReadStatus() != null) {
+            builder.and(notificationEntity.status.eq(query.getReadStatus()));
         }
+        // 상태가 하나로 고정되면 읽지 않은 알림 우선 정렬은 시간순 정렬과 같다
+        boolean unreadFirst = query.getSortOrder() == NotificationSortOrder.UNREAD_FIRST && query.getReadStatus() == null;
+
+        if (query.getLastNotificationId() != null) {
+            Tuple cursor = jpaQueryFactory
+                    .select(notificationEntity.statusRank, notificationEntity.createdAt, notificationEntity.id)
+                    .from(notificationEntity)
+                    .where(notificationEntity.id.eq(query.getLastNotificationId())
+                            .and(notificationEntity.memberId.eq(query.getMemberId())))
+                    .fetchOne();
+            if (cursor == null) {
+                return new ArrayList<>();
+            }
+            builder.and(afterCursor(cursor, unreadFirst));
+        }
+
+        List<OrderSpecifier<?>> orders = new ArrayList<>();
+        if (unreadFirst) {
+            orders.add(notificationEntity.statusRank.asc());
+        }
+        orders.add(notificationEntity.createdAt.desc());
+        orders.add(notificationEntity.id.desc());
+
+        return jpaQueryFactory.selectFrom(notificationEntity)
+                .where(builder)
+                .orderBy(orders.toArray(OrderSpecifier<?>[]::new))
+                .limit(query.getPageSize() + 1) // hasNext 판단용
+                .fetch();
     }
 
-    /**
-     * 첫 페이지 조회
-     */
-    private List<NotificationEntity> executeFirstPageQuery(Long memberId, ReadStatus status, NotificationSortOrder sortOrder, int limit) {
-        if (status == null) {
-            return switch (sortOrder) {
-                case UNREAD_FIRST -> repository.findByMemberIdOrderByUnreadFirstThenCreatedAtDesc(memberId, limit);
-                case TIME_DESC -> repository.findByMemberIdOrderByCreatedAtDesc(memberId, limit);
-            };
-        } else {
-            return switch (sortOrder) {
-                case UNREAD_FIRST ->
-                        repository.findByMemberIdAndStatusOrderByUnreadFirstThenCreatedAtDesc(memberId, status, limit);
-                case TIME_DESC -> repository.findByMemberIdAndStatusOrderByCreatedAtDesc(memberId, status, limit);
-            };
+    private BooleanExpression afterCursor(Tuple cursor, boolean unreadFirst) {
+        LocalDateTime createdAt = cursor.get(notificationEntity.createdAt);
+        Long id = cursor.get(notificationEntity.id);
+        BooleanExpression afterInSameRank = notificationEntity.createdAt.lt(createdAt)
+                .or(notificationEntity.createdAt.eq(createdAt).and(notificationEntity.id.lt(id)));
+        if (!unreadFirst) {
+            return afterInSameRank;
         }
+        Integer rank = cursor.get(notificationEntity.statusRank);
+        return notificationEntity.statusRank.gt(rank)
+                .or(notificationEntity.statusRank.eq(rank).and(afterInSameRank));
     }
 
     /**
-     * 다음 페이지 조회 (커서 기반)
+     * 엔티티 목록을 도메인으로 변환 (현재는 Waiting만 지원).
+     * 회원은 페이지 단위로 한 번 IN 조회하고, 대기/팝업은 스냅샷이 없는 이전 알림에 대해서만 조회한다.
      */
-    private List<NotificationEntity> executeNextPageQuery(Long memberId, ReadStatus status, Long lastId, NotificationSortOrder sortOrder, int limit) {
-        if (status == null) {
-            return switch (sortOrder) {
-                case UNREAD_FIRST ->
-                        repository.findByMemberIdAndIdLessThanOrderByUnreadFirstThenCreatedAtDesc(memberId, lastId, limit);
-                case TIME_DESC -> repository.findByMemberIdAndIdLessThanOrderByCreatedAtDesc(memberId, lastId, limit);
-            };
-        } else {
-            return switch (sortOrder) {
-                case UNREAD_FIRST ->
-                        repository.findByMemberIdAndStatusAndIdLessThanOrderByUnreadFirstThenCreatedAtDesc(memberId, status, lastId, limit);
-                case TIME_DESC ->
-                        repository.findByMemberIdAndStatusAndIdLessThanOrderByCreatedAtDesc(memberId, status, lastId, limit);
-            };
-        }
+    private List<Notification> entitiesToDomain(List<NotificationEntity> entities) {
+        entities.stream()
+                .map(NotificationEntity::getSourceDomain)
+                .filter(sourceDomain -> !"Waiting".equals(sourceDomain))
+                .findFirst()
+                .ifPresent(sourceDomain -> {
+                    throw new BusinessException(ErrorType.UNSUPPORTED_NOTIFICATION_TYPE, sourceDomain);
+                });
+        return getWaitingMapper().toDomainAll(entities);
     }
 
     /**
@@ -153,36 +263,28 @@ public class NotificationPortAdapter implements NotificationPort {
         if (waitingMapper == null) {
             waitingMapper = NotificationEntityMapper
                     .forDomain(Waiting.class)
-                    .memberLoader(this::loadMember)
-                    .sourceEntityLoader(this::loadWaitingEntity)
+                    .memberLoader(this::loadMembers)
+                    .sourceEntityLoader(this::loadWaitings)
                     .domainEventFactory(this::createWaitingEvent)
+                    .snapshotReader(mapper::readSnapshot)
                     .build();
         }
         return waitingMapper;
     }
 
     /**
-     * 회원 정보 로드
+     * 회원 정보 일괄 로드
      */
-    private Member loadMember(Long memberId) {
-        return memberPort.findById(memberId)
-                .orElseThrow(() -> new BusinessException(ErrorType.MEMBER_NOT_FOUND, String.valueOf(memberId)));
+    private Map<Long, Member> loadMembers(Set<Long> memberIds) {
+        return memberPort.findAllByIds(memberIds);
     }
 
     /**
-     * Waiting 엔티티 로드
+     * Waiting 일괄 로드 (팝업/회원은 대기 조회 안에서 IN 조회로 공유됨)
      */
-    private Waiting loadWaitingEntity(SourceEntityKey key) {
-        if (!"Waiting".equals(key.sourceDomain())) {
-            throw new BusinessException(ErrorType.INVALID_SOURCE_DOMAIN, key.sourceDomain());
-        }
-
-        WaitingQuery query = WaitingQuery.forWaitingId(key.sourceId());
-        List<Waiting> byQuery = waitingPort.findByQuery(query);
-        return byQuery
-                .stream()
-                .findFirst()
-                .orElse(null);
+    private Map<Long, Waiting> loadWaitings(Set<Long> waitingIds) {
+        return waitingPort.findByQuery(WaitingQuery.forWaitingIds(waitingIds)).stream()
+                .collect(Collectors.toMap(Waiting::id, Function.identity()));
     }
 
     /**
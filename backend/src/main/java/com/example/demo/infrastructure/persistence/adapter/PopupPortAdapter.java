@@ -68,6 +68,53 @@ public class PopupPortAdapter implements PopupPort {
         return Optional.of(domain);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, Popup> findAllByIds(Collection<Long> popupIds) {
+        if (popupIds == null || popupIds.isEmpty()) {
+            return Map.of();
+        }
+
+        List<PopupEntity> popupEntities = popupJpaRepository.findAllById(popupIds);
+        if (popupEntities.isEmpty()) {
+            return Map.of();
+        }
+        Set<Long> ids = popupEntities.stream().map(PopupEntity::getId).collect(Collectors.toSet());
+
+        // 연관 정보는 팝업 수와 무관하게 종류별 IN 조회 한 번씩만 수행
+        Map<Long, PopupLocationEntity> locations = popupLocationRepository.findAllById(
+                        popupEntities.stream().map(PopupEntity::getPopupLocationId).collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(PopupLocationEntity::getId, it -> it));
+        Map<Long, List<PopupWeeklyScheduleEntity>> schedules = popupWeeklyScheduleRepository.findAllByPopupIdIn(ids).stream()
+                .collect(Collectors.groupingBy(PopupWeeklyScheduleEntity::getPopupId));
+        Map<Long, List<PopupImageEntity>> images = popupImageRepository.findAllByPopupIdInOrderBySortOrderAsc(ids).stream()
+                .collect(Collectors.groupingBy(PopupImageEntity::getPopupId));
+        Map<Long, List<PopupContentEntity>> contents = popupContentRepository.findAllByPopupIdInOrderBySortOrderAsc(ids).stream()
+                .collect(Collectors.groupingBy(PopupContentEntity::getPopupId));
+        Map<Long, List<PopupSocialEntity>> socials = popupSocialRepository.findAllByPopupIdInOrderBySortOrderAsc(ids).stream()
+                .collect(Collectors.groupingBy(PopupSocialEntity::getPopupId));
+        Map<Long, List<PopupCategoryEntity>> categories = popupCategoryRepository.findAllByPopupIdIn(ids).stream()
+                .collect(Collectors.groupingBy(PopupCategoryEntity::getPopupId));
+
+        Map<Long, Popup> result = new HashMap<>();
+        for (PopupEntity entity : popupEntities) {
+            PopupLocationEntity location = locations.get(entity.getPopupLocationId());
+            if (location == null) {
+                throw new EntityNotFoundException("PopupLocation not found for popupId: " + entity.getId());
+            }
+            result.put(entity.getId(), popupEntityMapper.toDomain(
+                    entity,
+                    location,
+                    schedules.getOrDefault(entity.getId(), List.of()),
+                    images.getOrDefault(entity.getId(), List.of()),
+                    contents.getOrDefault(entity.getId(), List.of()),
+                    socials.getOrDefault(entity.getId(), List.of()),
+                    categories.getOrDefault(entity.getId(), List.of())
+            ));
+        }
+        return result;
+    }
+
     @Override
     @Transactional
     public Popup save(Popup popup) {
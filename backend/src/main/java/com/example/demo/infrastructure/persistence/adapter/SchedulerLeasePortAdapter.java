@@ -0,0 +1,52 @@
+package com.example.demo.infrastructure.persistence.adapter;
+
+import com.example.demo.domain.port.SchedulerLeasePort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄 작업 임대를 조건부 UPDATE/INSERT 한 문장씩으로 처리한다.
+ * 행 잠금을 오래 잡지 않고 DB의 원자성만으로 한 노드에만 임대가 부여되도록 한다.
+ * 임대 행이 생긴 뒤에는 UPDATE만 실행되므로, 호출 측 트랜잭션 안에서도 제약 위반 없이 동작한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SchedulerLeasePortAdapter implements SchedulerLeasePort {
+
+    private static final String RENEW_SQL = """
+            UPDATE scheduler_leases
+               SET owner = ?, expires_at = ?, modified_at = ?
+             WHERE name = ? AND (owner = ? OR expires_at < ?)
+            """;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO scheduler_leases (name, owner, expires_at, created_at, modified_at)
+            SELECT ?, ?, ?, ?, ?
+             WHERE NOT EXISTS (SELECT 1 FROM scheduler_leases WHERE name = ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean tryAcquire(String name, String owner, LocalDateTime now, LocalDateTime expiresAt) {
+        Timestamp nowTs = Timestamp.valueOf(now);
+        Timestamp expiresTs = Timestamp.valueOf(expiresAt);
+
+        int renewed = jdbcTemplate.update(RENEW_SQL, owner, expiresTs, nowTs, name, owner, nowTs);
+        if (renewed > 0) {
+            return true;
+        }
+
+        // 임대 행이 없을 때만 INSERT 된다. 최초 생성 시점에 다른 노드와 경합하면 PK 충돌로 실패한다
+        try {
+            return jdbcTemplate.update(INSERT_SQL, name, owner, expiresTs, nowTs, nowTs, name) > 0;
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+}
@@ -2,23 +2,41 @@ package com.example.demo.infrastructure.persistence.adapter;
 
 import com.example.demo.common.exception.BusinessException;
 import com.example.demo.common.exception.ErrorType;
+import com.example.demo.domain.model.Member;
+import com.example.demo.domain.model.popup.Popup;
 import com.example.demo.domain.model.waiting.Waiting;
+import com.example.demo.domain.model.waiting.WaitingListItem;
 import com.example.demo.domain.model.waiting.WaitingQuery;
 import com.example.demo.domain.model.waiting.WaitingStatus;
+import com.example.demo.domain.model.waiting.WaitingSummary;
 import com.example.demo.domain.port.WaitingPort;
 import com.example.demo.infrastructure.persistence.entity.QWaitingEntity;
 import com.example.demo.infrastructure.persistence.entity.WaitingEntity;
 import com.example.demo.infrastructure.persistence.mapper.WaitingEntityMapper;
 import com.example.demo.infrastructure.persistence.repository.WaitingJpaRepository;
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageRequest;
+import org.hibernate.LockOptions;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Repository
@@ -30,6 +48,20 @@ public class WaitingPortAdapter implements WaitingPort {
     private final PopupPortAdapter popupPortAdapter; // 아키텍처 관점에선 다른 어뎁터를 참조하는게 별로 좋지 않지만, 중복 구현을 방지하려면 어쩔 수 없음
     private final MemberPortAdapter memberPortAdapter;
     private final JPAQueryFactory jpaQueryFactory;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager em;
+
+    private static final String BATCH_UPDATE_SQL = """
+            UPDATE waitings
+               SET status = ?, status_rank = ?, waiting_number = ?, can_enter_at = ?, entered_at = ?, expected_waiting_time_minutes = ?, modified_at = ?
+             WHERE id = ?
+            """;
+
+    private static final String CLAIM_TIME_OVER_NOTIFICATION_SQL = """
+            UPDATE waitings
+               SET enter_time_over_notified_at = ?
+             WHERE id = ? AND status = 'WAITING' AND enter_time_over_notified_at IS NULL
+            """;
 
     private static final QWaitingEntity waitingEntity = QWaitingEntity.waitingEntity;
 
@@ -47,30 +79,173 @@ public class WaitingPortAdapter implements WaitingPort {
         return waitingEntityMapper.toDomain(savedEntity, waiting.popup(), waiting.member());
     }
 
+    /**
+     * 이미 저장된 대기들의 변경 가능한 컬럼(상태, 대기 번호, 입장 가능 시간, 예상 대기 시간)을 JDBC 배치 UPDATE로 반영한다.
+     * 신규 대기(id 없음)는 IDENTITY 채번이 필요하므로 개별 저장한다.
+     * JDBC로 직접 갱신하므로 먼저 영속성 컨텍스트를 flush 하고, 갱신한 대기 엔티티만 분리하여 오래된 값이 조회되지 않도록 한다.
+     * 호출 측 트랜잭션의 다른 관리 엔티티는 그대로 유지된다.
+     */
     @Override
-    public List<Waiting> saveAll(List<Waiting> waitings) { // TODO 성능 고려 필요
-        return waitings.stream()
-                .map(this::save)
-                .collect(Collectors.toList());
+    public int saveAll(List<Waiting> waitings) {
+        List<Waiting> updates = new ArrayList<>();
+        int affected = 0;
+        for (Waiting waiting : waitings) {
+            if (waiting.id() != null) {
+                updates.add(waiting);
+                continue;
+            }
+            save(waiting);
+            affected++;
+        }
+        if (updates.isEmpty()) {
+            return affected;
+        }
+
+        em.flush();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int[][] results = jdbcTemplate.batchUpdate(BATCH_UPDATE_SQL, updates, updates.size(), (ps, waiting) -> {
+            ps.setString(1, waiting.status().name());
+            ps.setInt(2, WaitingEntity.statusRankOf(waiting.status()));
+            ps.setInt(3, waiting.waitingNumber());
+            ps.setTimestamp(4, waiting.canEnterAt() == null ? null : Timestamp.valueOf(waiting.canEnterAt()));
+            ps.setTimestamp(5, waiting.enteredAt() == null ? null : Timestamp.valueOf(waiting.enteredAt()));
+            ps.setObject(6, waiting.expectedWaitingTimeMinutes(), Types.INTEGER);
+            ps.setTimestamp(7, now);
+            ps.setLong(8, waiting.id());
+        });
+        // 이미 영속성 컨텍스트에 있는 엔티티만 분리된다 (없으면 DB 조회 없는 프록시가 만들어졌다가 바로 분리된다)
+        updates.forEach(waiting -> em.detach(em.getReference(WaitingEntity.class, waiting.id())));
+
+        for (int[] batch : results) {
+            for (int count : batch) {
+                // 드라이버가 건수를 알려주지 않는 경우(SUCCESS_NO_INFO)는 1건으로 본다
+                affected += count == Statement.SUCCESS_NO_INFO ? 1 : count;
+            }
+        }
+        return affected;
     }
 
     @Override
     public List<Waiting> findByQuery(WaitingQuery query) {
-        BooleanBuilder builder = new BooleanBuilder();
         List<WaitingEntity> waitingEntities;
+        if (query instanceof WaitingQuery.ForVisitHistory q) {
+            waitingEntities = findVisitHistory(q);
+        } else {
+            waitingEntities = jpaQueryFactory.selectFrom(waitingEntity)
+                    .where(conditionOf(query))
+                    .orderBy(orderOf(query))
+                    .fetch();
+        }
 
-        switch (query) {
-            case WaitingQuery.ForWaitingId q -> {
-                builder.and(waitingEntity.id.eq(q.getWaitingId()));
-                waitingEntities = jpaQueryFactory.selectFrom(waitingEntity)
-                        .where(builder)
-                        .fetch();
-            }
-            case WaitingQuery.ForVisitHistory q -> {
-                // 복잡한 정렬 로직이 필요하므로 기존 JPA 메서드 사용
-                waitingEntities = waitingJpaRepository.findByMemberIdOrderByStatusReservedFirstThenCreatedAtDesc(
-                        q.getMemberId(), WaitingStatus.WAITING, PageRequest.of(0, q.getSize()));
+        return mapEntitiesToDomain(waitingEntities);
+    }
+
+    @Override
+    public List<WaitingSummary> findSummaries(WaitingQuery query) {
+        return jpaQueryFactory
+                .select(Projections.constructor(WaitingSummary.class,
+                        waitingEntity.id,
+                        waitingEntity.popupId,
+                        waitingEntity.memberId,
+                        waitingEntity.status,
+                        waitingEntity.waitingNumber,
+                        waitingEntity.canEnterAt,
+                        waitingEntity.contactEmail))
+                .from(waitingEntity)
+                .where(conditionOf(query))
+                .orderBy(orderOf(query))
+                .fetch();
+    }
+
+    @Override
+    public List<WaitingListItem> findListItems(WaitingQuery query, long offset, int limit) {
+        return jpaQueryFactory
+                .select(Projections.constructor(WaitingListItem.class,
+                        waitingEntity.id,
+                        waitingEntity.waitingNumber,
+                        waitingEntity.waitingPersonName,
+                        waitingEntity.peopleCount,
+                        waitingEntity.contactEmail,
+                        waitingEntity.createdAt))
+                .from(waitingEntity)
+                .where(conditionOf(query))
+                .orderBy(orderOf(query))
+                .offset(offset)
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public long countByQuery(WaitingQuery query) {
+        Long count = jpaQueryFactory
+                .select(waitingEntity.count())
+                .from(waitingEntity)
+                .where(conditionOf(query))
+                .fetchOne();
+        return count == null ? 0 : count;
+    }
+
+    @Override
+    public boolean lockIfWaiting(Long waitingId) {
+        Long lockedId = jpaQueryFactory
+                .select(waitingEntity.id)
+                .from(waitingEntity)
+                .where(waitingEntity.id.eq(waitingId)
+                        .and(waitingEntity.status.eq(WaitingStatus.WAITING)))
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setHint(AvailableSettings.JAKARTA_LOCK_TIMEOUT, LockOptions.SKIP_LOCKED)
+                .fetchOne();
+        return lockedId != null;
+    }
+
+    @Override
+    public boolean claimEnterTimeOverNotification(Long waitingId) {
+        return jdbcTemplate.update(CLAIM_TIME_OVER_NOTIFICATION_SQL, Timestamp.valueOf(LocalDateTime.now()), waitingId) > 0;
+    }
+
+    /**
+     * 방문 내역을 (status_rank, created_at DESC, id DESC) 키셋으로 조회한다.
+     * 커서는 마지막 대기 ID 하나로 전달되므로, 해당 행의 정렬 키를 먼저 조회한 뒤 그 다음 위치부터 탐색한다.
+     */
+    private List<WaitingEntity> findVisitHistory(WaitingQuery.ForVisitHistory q) {
+        BooleanBuilder builder = new BooleanBuilder();
+        builder.and(waitingEntity.memberId.eq(q.getMemberId()))
+                .and(waitingEntity.status.ne(WaitingStatus.NO_SHOW));
+        if (q.getStatus() != null) {
+            builder.and(waitingEntity.status.eq(q.getStatus()));
+        }
+
+        if (q.getLastWaitingId() != null) {
+            Tuple cursor = jpaQueryFactory
+                    .select(waitingEntity.statusRank, waitingEntity.createdAt, waitingEntity.id)
+                    .from(waitingEntity)
+                    .where(waitingEntity.id.eq(q.getLastWaitingId())
+                            .and(waitingEntity.memberId.eq(q.getMemberId())))
+                    .fetchOne();
+            if (cursor == null) {
+                return new ArrayList<>();
             }
+            Integer rank = cursor.get(waitingEntity.statusRank);
+            LocalDateTime createdAt = cursor.get(waitingEntity.createdAt);
+            Long id = cursor.get(waitingEntity.id);
+            builder.and(waitingEntity.statusRank.gt(rank)
+                    .or(waitingEntity.statusRank.eq(rank).and(waitingEntity.createdAt.lt(createdAt)))
+                    .or(waitingEntity.statusRank.eq(rank).and(waitingEntity.createdAt.eq(createdAt)).and(waitingEntity.id.lt(id))));
+        }
+
+        return jpaQueryFactory.selectFrom(waitingEntity)
+                .where(builder)
+                .orderBy(waitingEntity.statusRank.asc(), waitingEntity.createdAt.desc(), waitingEntity.id.desc())
+                .limit(q.getSize())
+                .fetch();
+    }
+
+    private BooleanBuilder conditionOf(WaitingQuery query) {
+        BooleanBuilder builder = new BooleanBuilder();
+
+        switch (query) {
+            case WaitingQuery.ForWaitingId q -> builder.and(waitingEntity.id.eq(q.getWaitingId()));
+            case WaitingQuery.ForWaitingIds q -> builder.and(waitingEntity.id.in(q.getWaitingIds()));
             case WaitingQuery.ForPopup q -> {
                 builder.and(waitingEntity.popupId.eq(q.getPopupId()));
                 if (q.getStatus() != null) {
@@ -79,10 +254,6 @@ public class WaitingPortAdapter implements WaitingPort {
                 if (q.getStatus() == null) {
                     builder.and(waitingEntity.status.ne(WaitingStatus.NO_SHOW));
                 }
-                waitingEntities = jpaQueryFactory.selectFrom(waitingEntity)
-                        .where(builder)
-                        .orderBy(waitingEntity.waitingNumber.asc())
-                        .fetch();
             }
             case WaitingQuery.ForDuplicateCheck q -> {
                 builder.and(waitingEntity.memberId.eq(q.getMemberId()))
@@ -93,9 +264,6 @@ public class WaitingPortAdapter implements WaitingPort {
                             q.getDate().plusDays(1).atStartOfDay()
                     ));
                 }
-                waitingEntities = jpaQueryFactory.selectFrom(waitingEntity)
-                        .where(builder)
-                        .fetch();
             }
             case WaitingQuery.ForMemberAndPopupOnDate q -> {
                 builder.and(waitingEntity.memberId.eq(q.getMemberId()))
@@ -106,48 +274,68 @@ public class WaitingPortAdapter implements WaitingPort {
                             q.getDate().plusDays(1).atStartOfDay()
                     ));
                 }
-                waitingEntities = jpaQueryFactory.selectFrom(waitingEntity)
-                        .where(builder)
-                        .fetch();
-            }
-            case WaitingQuery.ForStatus q -> {
-                builder.and(waitingEntity.status.eq(q.getStatus()));
-                waitingEntities = jpaQueryFactory.selectFrom(waitingEntity)
-                        .where(builder)
-                        .fetch();
-            }
-            case WaitingQuery.ForMemberAndPopupWithStatus q -> {
-                builder.and(waitingEntity.memberId.eq(q.getMemberId()))
-                        .and(waitingEntity.popupId.eq(q.getPopupId()))
-                        .and(waitingEntity.status.eq(q.getStatus()));
-                waitingEntities = jpaQueryFactory.selectFrom(waitingEntity)
-                        .where(builder)
-                        .fetch();
-            }
-            case WaitingQuery.ForCanEnterWaiting q -> {
-                builder.and(waitingEntity.waitingNumber.eq(0))
-                        .and(waitingEntity.status.eq(WaitingStatus.WAITING))
-                        .and(waitingEntity.canEnterAt.isNull());
-                waitingEntities = jpaQueryFactory.selectFrom(waitingEntity)
-                        .where(builder)
-                        .fetch();
             }
+            case WaitingQuery.ForStatus q -> builder.and(waitingEntity.status.eq(q.getStatus()));
+            case WaitingQuery.ForMemberAndPopupWithStatus q -> builder.and(waitingEntity.memberId.eq(q.getMemberId()))
+                    .and(waitingEntity.popupId.eq(q.getPopupId()))
+                    .and(waitingEntity.status.eq(q.getStatus()));
+            case WaitingQuery.ForCanEnterWaiting q -> builder.and(waitingEntity.waitingNumber.eq(0))
+                    .and(waitingEntity.status.eq(WaitingStatus.WAITING))
+                    .and(waitingEntity.canEnterAt.isNull());
+            case WaitingQuery.ForEnterDeadline q -> builder.and(waitingEntity.status.eq(WaitingStatus.WAITING))
+                    .and(waitingEntity.waitingNumber.eq(0))
+                    .and(waitingEntity.canEnterAt.isNotNull());
             case null, default -> throw new BusinessException(ErrorType.FEATURE_NOT_IMPLEMENTED);
         }
 
-        return waitingEntities.stream()
-                .map(this::mapEntityToDomain)
+        return builder;
+    }
+
+    private OrderSpecifier<?>[] orderOf(WaitingQuery query) {
+        if (query instanceof WaitingQuery.ForPopup) {
+            return new OrderSpecifier<?>[]{waitingEntity.waitingNumber.asc()};
+        }
+        return new OrderSpecifier<?>[0];
+    }
+
+    /**
+     * 조회된 엔티티 목록을 도메인으로 변환한다.
+     * 행마다 팝업/회원을 조회하지 않고, 쿼리 단위 하이드레이션 컨텍스트에서 일괄 로딩한 인스턴스를 공유한다.
+     */
+    private List<Waiting> mapEntitiesToDomain(List<WaitingEntity> entities) {
+        if (entities.isEmpty()) {
+            return new ArrayList<>();
+        }
+        HydrationContext context = HydrationContext.load(entities, popupPortAdapter, memberPortAdapter);
+        return entities.stream()
+                .map(entity -> context.toDomain(entity, waitingEntityMapper))
                 .filter(Objects::nonNull)
                 .collect(Collectors.toList());
     }
 
-    private Waiting mapEntityToDomain(WaitingEntity entity) {
-        var popup = popupPortAdapter.findById(entity.getPopupId()).orElse(null);
-        var member = memberPortAdapter.findById(entity.getMemberId()).orElse(null);
-        if (popup == null || member == null) {
-            return null;
+    /**
+     * 한 번의 조회 동안 사용하는 팝업/회원 식별자 맵(identity map).
+     * 같은 팝업/회원을 참조하는 행들은 동일한 인스턴스를 재사용한다.
+     */
+    private record HydrationContext(Map<Long, Popup> popups, Map<Long, Member> members) {
+
+        static HydrationContext load(List<WaitingEntity> entities, PopupPortAdapter popupPortAdapter, MemberPortAdapter memberPortAdapter) {
+            Set<Long> popupIds = entities.stream().map(WaitingEntity::getPopupId).collect(Collectors.toSet());
+            Set<Long> memberIds = entities.stream().map(WaitingEntity::getMemberId).collect(Collectors.toSet());
+            return new HydrationContext(
+                    popupPortAdapter.findAllByIds(popupIds),
+                    memberPortAdapter.findAllByIds(memberIds)
+            );
+        }
+
+        Waiting toDomain(WaitingEntity entity, WaitingEntityMapper mapper) {
+            Popup popup = popups.get(entity.getPopupId());
+            Member member = members.get(entity.getMemberId());
+            if (popup == null || member == null) {
+                return null;
+            }
+            return mapper.toDomain(entity, popup, member);
         }
-        return waitingEntityMapper.toDomain(entity, popup, member);
     }
 
     @Override
@@ -167,12 +355,7 @@ public class WaitingPortAdapter implements WaitingPort {
     @Override
     public Optional<Waiting> findByMemberIdAndPopupId(Long memberId, Long popupId) {
         return waitingJpaRepository.findByMemberIdAndPopupId(memberId, popupId)
-                .flatMap(entity -> {
-                    var popup = popupPortAdapter.findById(entity.getPopupId()).orElse(null);
-                    var member = memberPortAdapter.findById(entity.getMemberId()).orElse(null);
-                    if (popup == null || member == null) return Optional.empty();
-                    return Optional.of(waitingEntityMapper.toDomain(entity, popup, member));
-                });
+                .flatMap(entity -> mapEntitiesToDomain(List.of(entity)).stream().findFirst());
     }
 
 } 
\ No newline at end of file
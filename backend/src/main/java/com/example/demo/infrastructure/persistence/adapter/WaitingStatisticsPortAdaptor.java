@@ -4,24 +4,132 @@ import com.example.demo.domain.model.waiting.PopupWaitingStatistics;
 import com.example.demo.domain.model.waiting.WaitingStatistics;
 import com.example.demo.domain.model.waiting.WaitingStatus;
 import com.example.demo.domain.port.WaitingStatisticsPort;
+import com.example.demo.infrastructure.persistence.entity.PopupWaitingStatsEntity;
 import com.example.demo.infrastructure.persistence.mapper.WaitingEntityMapper;
+import com.example.demo.infrastructure.persistence.repository.PopupWaitingStatsJpaRepository;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.LockModeType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import static com.example.demo.infrastructure.persistence.entity.QWaitingEntity.waitingEntity;
+import static com.example.demo.infrastructure.persistence.entity.popup.QPopupEntity.popupEntity;
 
+/**
+ * 팝업별 대기 통계 어댑터.
+ * 누적 통계를 popup_waiting_stats 테이블에 저장하고 메모리에 캐시하여, 조회 시 VISITED 대기를 매번 스캔하지 않는다.
+ * 캐시는 노드별이므로 다른 노드의 갱신을 반영하도록 일정 시간이 지나면 DB에서 다시 읽는다.
+ * 누적 결과는 커밋된 뒤에만 캐시에 반영하며, 완료 건수가 줄어드는 방향으로는 덮어쓰지 않는다.
+ */
 @Repository
 @RequiredArgsConstructor
 public class WaitingStatisticsPortAdaptor implements WaitingStatisticsPort {
 
     private final JPAQueryFactory jpaQueryFactory;
+    private final PopupWaitingStatsJpaRepository popupWaitingStatsJpaRepository;
+
+    private final Map<Long, CachedStatistics> cache = new ConcurrentHashMap<>();
+
+    @Value("${app.waiting.statistics.cache-ttl:30}")
+    private long cacheTtlSeconds;
 
     @Override
     public PopupWaitingStatistics findCompletedStatisticsByPopupId(Long popupId) {
+        CachedStatistics cached = cache.get(popupId);
+        if (cached != null && !cached.isExpired(cacheTtlSeconds)) {
+            return cached.statistics();
+        }
+
+        // 누적 통계가 아직 없는 팝업은 기존 입장 이력으로 한 번 계산한다
+        PopupWaitingStatistics loaded = popupWaitingStatsJpaRepository.findById(popupId)
+                .map(this::toDomain)
+                .orElseGet(() -> aggregateFromVisitedWaitings(popupId));
+        cacheIfNotOlder(popupId, loaded);
+        return loaded;
+    }
+
+    @Override
+    public void recordCompletedWaiting(WaitingStatistics statistics) {
+        recordCompletedWaitings(List.of(statistics));
+    }
+
+    @Override
+    public void recordCompletedWaitings(List<WaitingStatistics> statistics) {
+        statistics.stream()
+                .collect(Collectors.groupingBy(WaitingStatistics::getPopupId, LinkedHashMap::new, Collectors.toList()))
+                .forEach(this::record);
+    }
+
+    // 팝업 통계 행을 한 번만 잠그고 여러 입장을 누적한다
+    private void record(Long popupId, List<WaitingStatistics> completed) {
+        PopupWaitingStatistics updated = popupWaitingStatsJpaRepository.findForUpdate(popupId)
+                .map(entity -> recordOn(entity, completed))
+                .orElseGet(() -> insertOrRecord(popupId, completed));
+
+        afterCommit(() -> cacheIfNotOlder(popupId, updated));
+    }
+
+    private PopupWaitingStatistics recordOn(PopupWaitingStatsEntity entity, List<WaitingStatistics> completed) {
+        PopupWaitingStatistics recorded = toDomain(entity);
+        for (WaitingStatistics statistics : completed) {
+            recorded = recorded.record(statistics);
+        }
+        entity.update(recorded.getCount(), recorded.getSumTimePerPerson(), recorded.getEwmaTimePerPerson());
+        return recorded;
+    }
+
+    /**
+     * 팝업의 첫 누적 행을 만든다.
+     * 여러 노드가 동시에 첫 행을 만들지 않도록 팝업 행을 잠근 뒤 다시 확인하고, 먼저 만든 쪽이 있으면 그 행에 누적한다.
+     */
+    private PopupWaitingStatistics insertOrRecord(Long popupId, List<WaitingStatistics> completed) {
+        jpaQueryFactory.select(popupEntity.id)
+                .from(popupEntity)
+                .where(popupEntity.id.eq(popupId))
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .fetchOne();
+
+        return popupWaitingStatsJpaRepository.findForUpdate(popupId)
+                .map(entity -> recordOn(entity, completed))
+                .orElseGet(() -> {
+                    // 입장 처리된 대기가 이미 저장되어 있으므로 집계 결과에 이번 입장이 포함된다
+                    PopupWaitingStatistics aggregated = aggregateFromVisitedWaitings(popupId);
+                    popupWaitingStatsJpaRepository.save(toEntity(aggregated));
+                    return aggregated;
+                });
+    }
+
+    // 커밋 순서와 다르게 실행된 갱신이 더 최근 값을 되돌리지 않도록 완료 건수가 같거나 많을 때만 바꾼다
+    private void cacheIfNotOlder(Long popupId, PopupWaitingStatistics statistics) {
+        cache.merge(popupId, CachedStatistics.of(statistics), (previous, next) ->
+                next.statistics().getCount() >= previous.statistics().getCount() ? next : previous);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private PopupWaitingStatistics aggregateFromVisitedWaitings(Long popupId) {
         BooleanBuilder builder = new BooleanBuilder();
         builder.and(waitingEntity.status.eq(WaitingStatus.VISITED))
                 .and(waitingEntity.popupId.eq(popupId))
@@ -35,4 +143,33 @@ public class WaitingStatisticsPortAdaptor implements WaitingStatisticsPort {
 
         return new PopupWaitingStatistics(popupId, waitingStatistics);
     }
+
+    private PopupWaitingStatistics toDomain(PopupWaitingStatsEntity entity) {
+        return PopupWaitingStatistics.of(
+                entity.getPopupId(),
+                entity.getCompletedCount(),
+                entity.getSumTimePerPerson(),
+                entity.getEwmaTimePerPerson()
+        );
+    }
+
+    private PopupWaitingStatsEntity toEntity(PopupWaitingStatistics statistics) {
+        return PopupWaitingStatsEntity.builder()
+                .popupId(statistics.getPopupId())
+                .completedCount(statistics.getCount())
+                .sumTimePerPerson(statistics.getSumTimePerPerson())
+                .ewmaTimePerPerson(statistics.getEwmaTimePerPerson())
+                .build();
+    }
+
+    private record CachedStatistics(PopupWaitingStatistics statistics, long loadedAtMillis) {
+
+        static CachedStatistics of(PopupWaitingStatistics statistics) {
+            return new CachedStatistics(statistics, System.currentTimeMillis());
+        }
+
+        boolean isExpired(long ttlSeconds) {
+            return System.currentTimeMillis() - loadedAtMillis > TimeUnit.SECONDS.toMillis(ttlSeconds);
+        }
+    }
 }
@@ -0,0 +1,49 @@
+package com.example.demo.infrastructure.persistence.entity;
+
+import com.example.demo.common.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * 대기실 순번 상태 엔티티.
+ */
+@Entity
+@Table(name = "lobby_rooms")
+@Getter
+@SuperBuilder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class LobbyRoomEntity extends BaseEntity {
+
+    @Id
+    @Column(name = "popup_id", nullable = false, updatable = false)
+    private Long popupId;
+
+    @Column(name = "release_per_second", nullable = false)
+    private Integer releasePerSecond;
+
+    @Column(name = "issued_sequence", nullable = false)
+    private Long issuedSequence;
+
+    @Column(name = "released_sequence", nullable = false)
+    private Long releasedSequence;
+
+    @Column(name = "opened", nullable = false)
+    private Boolean opened;
+
+    public void updateSequences(Long issuedSequence, Long releasedSequence) {
+        this.issuedSequence = issuedSequence;
+        this.releasedSequence = releasedSequence;
+    }
+
+    public void close() {
+        this.opened = false;
+    }
+}
@@ -4,6 +4,7 @@ import com.example.demo.common.entity.BaseEntity;
 import com.example.demo.domain.model.notification.ReadStatus;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 
@@ -12,7 +13,12 @@ import java.time.LocalDateTime;
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
-@Table(name = "notifications")
+@Table(name = "notifications", indexes = {
+        @Index(name = "idx_notifications_member_created", columnList = "member_id, created_at DESC, id DESC"),
+        @Index(name = "idx_notifications_member_status_created", columnList = "member_id, status, created_at DESC, id DESC"),
+        @Index(name = "idx_notifications_member_rank_created", columnList = "member_id, status_rank, created_at DESC, id DESC"),
+        @Index(name = "idx_notifications_created", columnList = "created_at, id")
+})
 public class NotificationEntity extends BaseEntity {
 
     @Id
@@ -39,4 +45,32 @@ public class NotificationEntity extends BaseEntity {
     private ReadStatus status;
 
     private LocalDateTime readAt;
+
+    // 알림 생성 시점의 연관 리소스(JSON). 이전에 생성된 알림은 null
+    @Column(length = 2000)
+    private String snapshot;
+
+    /**
+     * 읽지 않은 알림 우선 정렬용 순위 (UNREAD=0, 그 외=1).
+     * CASE 정렬 대신 인덱스로 키셋 페이지네이션을 하기 위해 저장한다.
+     * 기존 행이 있는 테이블에도 컬럼을 추가할 수 있도록 기본값을 두며, 추가 후 UNREAD 행은 0으로 채워야 한다.
+     */
+    @ColumnDefault("1")
+    @Column(name = "status_rank", nullable = false)
+    private Integer statusRank;
+
+    public static int statusRankOf(ReadStatus status) {
+        return status == ReadStatus.UNREAD ? 0 : 1;
+    }
+
+    public void updateStatus(ReadStatus status, LocalDateTime readAt) {
+        this.status = status;
+        this.readAt = readAt;
+    }
+
+    @PrePersist
+    @PreUpdate
+    private void updateStatusRank() {
+        this.statusRank = statusRankOf(status);
+    }
 } 
\ No newline at end of file
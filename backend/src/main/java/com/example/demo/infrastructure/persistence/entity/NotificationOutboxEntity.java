@@ -0,0 +1,66 @@
+package com.example.demo.infrastructure.persistence.entity;
+
+import com.example.demo.common.entity.BaseEntity;
+import com.example.demo.domain.model.notification.OutboxChannel;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 아웃박스 엔티티.
+ * 알림과 같은 트랜잭션에 기록된다. 이메일은 발송기가 커밋 후 선점해 발송한 뒤 삭제하고,
+ * SSE는 모든 노드가 읽을 수 있도록 기록 후 일정 시간 보관했다가 삭제한다.
+ */
+@Entity
+@Table(name = "notification_outbox", indexes = {
+        @Index(name = "idx_notification_outbox_status_next", columnList = "channel, status, next_attempt_at, id"),
+        @Index(name = "idx_notification_outbox_channel_created", columnList = "channel, created_at, id")
+})
+@Getter
+@SuperBuilder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationOutboxEntity extends BaseEntity {
+
+    public enum Status {
+        PENDING,
+        PROCESSING,
+        FAILED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "channel", nullable = false, length = 20)
+    private OutboxChannel channel;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "notification_id")
+    private Long notificationId;
+
+    @Column(name = "payload", length = 4000)
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private Status status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    // 선점한 노드가 이 시각까지 결과를 기록하지 않으면 다시 선점 대상이 된다
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+}
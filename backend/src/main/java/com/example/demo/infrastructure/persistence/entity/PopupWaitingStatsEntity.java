@@ -0,0 +1,44 @@
+package com.example.demo.infrastructure.persistence.entity;
+
+import com.example.demo.common.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * 팝업별 입장 완료 대기 누적 통계 엔티티.
+ * 입장 처리 시마다 갱신되며, 예상 대기시간 계산에 사용된다.
+ */
+@Entity
+@Table(name = "popup_waiting_stats")
+@Getter
+@SuperBuilder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PopupWaitingStatsEntity extends BaseEntity {
+
+    @Id
+    @Column(name = "popup_id", nullable = false, updatable = false)
+    private Long popupId;
+
+    @Column(name = "completed_count", nullable = false)
+    private Long completedCount;
+
+    @Column(name = "sum_time_per_person", nullable = false)
+    private Double sumTimePerPerson;
+
+    @Column(name = "ewma_time_per_person")
+    private Double ewmaTimePerPerson;
+
+    public void update(long completedCount, double sumTimePerPerson, Double ewmaTimePerPerson) {
+        this.completedCount = completedCount;
+        this.sumTimePerPerson = sumTimePerPerson;
+        this.ewmaTimePerPerson = ewmaTimePerPerson;
+    }
+}
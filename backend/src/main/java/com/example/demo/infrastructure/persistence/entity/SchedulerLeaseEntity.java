@@ -0,0 +1,37 @@
+package com.example.demo.infrastructure.persistence.entity;
+
+import com.example.demo.common.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄 작업 리더 임대(lease) 엔티티.
+ * 작업별로 한 노드만 만료 시각까지 실행 권한을 가진다.
+ */
+@Entity
+@Table(name = "scheduler_leases")
+@Getter
+@SuperBuilder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SchedulerLeaseEntity extends BaseEntity {
+
+    @Id
+    @Column(name = "name", nullable = false, updatable = false, length = 100)
+    private String name;
+
+    @Column(name = "owner", nullable = false, length = 200)
+    private String owner;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
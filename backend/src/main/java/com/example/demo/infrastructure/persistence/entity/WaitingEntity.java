@@ -5,6 +5,7 @@ import com.example.demo.domain.model.waiting.WaitingStatus;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 
@@ -13,7 +14,11 @@ import java.time.LocalDateTime;
  * 팝업에 대한 대기 정보를 저장한다.
  */
 @Entity
-@Table(name = "waitings")
+@Table(name = "waitings", indexes = {
+        @Index(name = "idx_waitings_member_visit_history", columnList = "member_id, status_rank, created_at DESC, id DESC"),
+        @Index(name = "idx_waitings_popup_status_number", columnList = "popup_id, status, waiting_number"),
+        @Index(name = "idx_waitings_status_number", columnList = "status, waiting_number")
+})
 @Getter
 @SuperBuilder
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -57,6 +62,29 @@ public class WaitingEntity extends BaseEntity {
     @Column(name = "can_enter_at")
     private LocalDateTime canEnterAt;
 
+    // 입장 시간 초과 알림 선점 시각 (JDBC로만 기록하며 엔티티 저장 시에는 덮어쓰지 않음)
+    @Column(name = "enter_time_over_notified_at", insertable = false, updatable = false)
+    private LocalDateTime enterTimeOverNotifiedAt;
+
     @Column(name = "expected_waiting_time_minutes")
     private Integer expectedWaitingTimeMinutes;
+
+    /**
+     * 방문 내역 정렬용 상태 순위 (WAITING 0, 그 외 1).
+     * CASE 정렬 대신 인덱스로 키셋 페이지네이션을 하기 위해 저장한다.
+     * 기존 행이 있는 테이블에도 컬럼을 추가할 수 있도록 기본값을 두며, 추가 후 WAITING 행은 0으로 채워야 한다.
+     */
+    @ColumnDefault("1")
+    @Column(name = "status_rank", nullable = false)
+    private Integer statusRank;
+
+    public static int statusRankOf(WaitingStatus status) {
+        return status == WaitingStatus.WAITING ? 0 : 1;
+    }
+
+    @PrePersist
+    @PreUpdate
+    private void updateStatusRank() {
+        this.statusRank = statusRankOf(status);
+    }
 }
\ No newline at end of file
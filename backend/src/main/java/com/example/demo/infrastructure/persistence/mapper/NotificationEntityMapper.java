@@ -6,33 +6,51 @@ import com.example.demo.domain.model.Member;
 import com.example.demo.domain.model.notification.DomainEvent;
 import com.example.demo.domain.model.notification.Notification;
 import com.example.demo.domain.model.notification.NotificationStatus;
+import com.example.demo.domain.model.notification.RelatedResource;
 import com.example.demo.domain.model.waiting.Waiting;
 import com.example.demo.infrastructure.persistence.entity.NotificationEntity;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
 public class NotificationEntityMapper {
 
+    private static final TypeReference<List<RelatedResource>> SNAPSHOT_TYPE = new TypeReference<>() {
+    };
+
+    private final ObjectMapper objectMapper;
+
     /**
-     * 특정 도메인에 특화된 매퍼 클래스
+     * 특정 도메인에 특화된 매퍼 클래스.
+     * 회원과 소스 엔티티는 ID 집합 단위로 한 번에 로드하여, 한 페이지의 알림이 같은 인스턴스를 공유한다.
+     * 연관 리소스 스냅샷이 저장된 알림은 소스 엔티티를 로드하지 않는다.
      */
     public static class DomainSpecificMapper<T> {
-        private final Function<Long, Member> memberLoader;
-        private final Function<SourceEntityKey, T> sourceEntityLoader;
+        private final Function<Set<Long>, Map<Long, Member>> memberLoader;
+        private final Function<Set<Long>, Map<Long, T>> sourceEntityLoader;
         private final Function<SourceEventContext<T>, DomainEvent<T>> domainEventFactory;
+        private final Function<String, List<RelatedResource>> snapshotReader;
 
         private DomainSpecificMapper(
-                Function<Long, Member> memberLoader,
-                Function<SourceEntityKey, T> sourceEntityLoader,
-                Function<SourceEventContext<T>, DomainEvent<T>> domainEventFactory
+                Function<Set<Long>, Map<Long, Member>> memberLoader,
+                Function<Set<Long>, Map<Long, T>> sourceEntityLoader,
+                Function<SourceEventContext<T>, DomainEvent<T>> domainEventFactory,
+                Function<String, List<RelatedResource>> snapshotReader
         ) {
             this.memberLoader = memberLoader;
             this.sourceEntityLoader = sourceEntityLoader;
             this.domainEventFactory = domainEventFactory;
+            this.snapshotReader = snapshotReader;
         }
 
         /**
@@ -40,13 +58,39 @@ public class NotificationEntityMapper {
          */
         public Notification toDomain(NotificationEntity entity) {
             if (entity == null) return null;
+            return toDomainAll(List.of(entity)).getFirst();
+        }
+
+        /**
+         * 엔티티 목록을 도메인 모델 목록으로 변환 (순서 유지)
+         */
+        public List<Notification> toDomainAll(List<NotificationEntity> entities) {
+            if (entities.isEmpty()) return List.of();
+
+            // 회원/소스 엔티티를 ID 집합으로 한 번씩 로드 (소스는 스냅샷이 없는 알림만)
+            Map<Long, Member> members = memberLoader.apply(entities.stream()
+                    .map(NotificationEntity::getMemberId)
+                    .collect(Collectors.toSet()));
+            Set<Long> sourceIds = entities.stream()
+                    .filter(entity -> entity.getSnapshot() == null)
+                    .map(NotificationEntity::getSourceId)
+                    .collect(Collectors.toSet());
+            Map<Long, T> sources = sourceIds.isEmpty() ? Map.of() : sourceEntityLoader.apply(sourceIds);
+
+            return entities.stream()
+                    .map(entity -> toDomain(entity, members, sources))
+                    .toList();
+        }
 
-            // 회원 정보 로드
-            Member member = memberLoader.apply(entity.getMemberId());
+        private Notification toDomain(NotificationEntity entity, Map<Long, Member> members, Map<Long, T> sources) {
+            Member member = members.get(entity.getMemberId());
+            if (member == null) {
+                throw new BusinessException(ErrorType.MEMBER_NOT_FOUND, String.valueOf(entity.getMemberId()));
+            }
 
-            // 소스 엔티티 로드
-            SourceEntityKey sourceKey = new SourceEntityKey(entity.getSourceDomain(), entity.getSourceId());
-            T sourceEntity = sourceEntityLoader.apply(sourceKey);
+            // 스냅샷이 있거나 소스 엔티티가 삭제된 경우 null
+            T sourceEntity = sources.get(entity.getSourceId());
+            List<RelatedResource> relatedResources = entity.getSnapshot() == null ? null : snapshotReader.apply(entity.getSnapshot());
 
             // 도메인 이벤트 생성
             SourceEventContext<T> eventContext = new SourceEventContext<>(sourceEntity, entity.getEventType());
@@ -62,6 +106,7 @@ public class NotificationEntityMapper {
                     .content(entity.getContent())
                     .status(status)
                     .createdAt(entity.getCreatedAt())
+                    .relatedResources(relatedResources)
                     .build();
         }
     }
@@ -70,16 +115,17 @@ public class NotificationEntityMapper {
      * 도메인별 매퍼 빌더
      */
     public static class DomainSpecificMapperBuilder<T> {
-        private Function<Long, Member> memberLoader;
-        private Function<SourceEntityKey, T> sourceEntityLoader;
+        private Function<Set<Long>, Map<Long, Member>> memberLoader;
+        private Function<Set<Long>, Map<Long, T>> sourceEntityLoader;
         private Function<SourceEventContext<T>, DomainEvent<T>> domainEventFactory;
+        private Function<String, List<RelatedResource>> snapshotReader;
 
-        public DomainSpecificMapperBuilder<T> memberLoader(Function<Long, Member> memberLoader) {
+        public DomainSpecificMapperBuilder<T> memberLoader(Function<Set<Long>, Map<Long, Member>> memberLoader) {
             this.memberLoader = memberLoader;
             return this;
         }
 
-        public DomainSpecificMapperBuilder<T> sourceEntityLoader(Function<SourceEntityKey, T> sourceEntityLoader) {
+        public DomainSpecificMapperBuilder<T> sourceEntityLoader(Function<Set<Long>, Map<Long, T>> sourceEntityLoader) {
             this.sourceEntityLoader = sourceEntityLoader;
             return this;
         }
@@ -89,20 +135,19 @@ public class NotificationEntityMapper {
             return this;
         }
 
+        public DomainSpecificMapperBuilder<T> snapshotReader(Function<String, List<RelatedResource>> snapshotReader) {
+            this.snapshotReader = snapshotReader;
+            return this;
+        }
+
         public DomainSpecificMapper<T> build() {
-            if (memberLoader == null || sourceEntityLoader == null || domainEventFactory == null) {
+            if (memberLoader == null || sourceEntityLoader == null || domainEventFactory == null || snapshotReader == null) {
                 throw new BusinessException(ErrorType.SYSTEM_CONFIGURATION_ERROR);
             }
-            return new DomainSpecificMapper<>(memberLoader, sourceEntityLoader, domainEventFactory);
+            return new DomainSpecificMapper<>(memberLoader, sourceEntityLoader, domainEventFactory, snapshotReader);
         }
     }
 
-    /**
-     * 소스 엔티티 식별을 위한 키 클래스
-     */
-    public record SourceEntityKey(String sourceDomain, Long sourceId) {
-    }
-
     /**
      * 이벤트 생성을 위한 컨텍스트 클래스
      */
@@ -144,6 +189,26 @@ public class NotificationEntityMapper {
                 .content(notification.getContent())
                 .status(notification.getStatus().getStatus())
                 .readAt(notification.getStatus().getReadAt())
+                .snapshot(writeSnapshot(notification.getRelatedResources()))
                 .build();
     }
+
+    /**
+     * 연관 리소스 스냅샷(JSON)을 읽는다.
+     */
+    public List<RelatedResource> readSnapshot(String snapshot) {
+        try {
+            return objectMapper.readValue(snapshot, SNAPSHOT_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new BusinessException(ErrorType.INVALID_NOTIFICATION_SNAPSHOT, e.getOriginalMessage());
+        }
+    }
+
+    private String writeSnapshot(List<RelatedResource> relatedResources) {
+        try {
+            return objectMapper.writeValueAsString(relatedResources);
+        } catch (JsonProcessingException e) {
+            throw new BusinessException(ErrorType.INVALID_NOTIFICATION_SNAPSHOT, e.getOriginalMessage());
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,11 @@
+package com.example.demo.infrastructure.persistence.repository;
+
+import com.example.demo.infrastructure.persistence.entity.LobbyRoomEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface LobbyRoomJpaRepository extends JpaRepository<LobbyRoomEntity, Long> {
+
+    List<LobbyRoomEntity> findAllByOpenedTrue();
+}
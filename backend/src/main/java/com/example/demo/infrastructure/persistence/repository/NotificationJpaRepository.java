@@ -3,58 +3,38 @@ package com.example.demo.infrastructure.persistence.repository;
 import com.example.demo.domain.model.notification.ReadStatus;
 import com.example.demo.infrastructure.persistence.entity.NotificationEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface NotificationJpaRepository extends JpaRepository<NotificationEntity, Long> {
 
-    // 1. 첫 페이지 - 전체 조회 (TIME_DESC)
-    @Query("SELECT n FROM NotificationEntity n WHERE n.memberId = :memberId " +
-           "ORDER BY n.createdAt DESC LIMIT :limit")
-    List<NotificationEntity> findByMemberIdOrderByCreatedAtDesc(@Param("memberId") Long memberId, @Param("limit") int limit);
-
-    // 2. 첫 페이지 - 전체 조회 (UNREAD_FIRST)
-    @Query("SELECT n FROM NotificationEntity n WHERE n.memberId = :memberId " +
-           "ORDER BY CASE WHEN n.status = 'UNREAD' THEN 0 ELSE 1 END, n.createdAt DESC LIMIT :limit")
-    List<NotificationEntity> findByMemberIdOrderByUnreadFirstThenCreatedAtDesc(@Param("memberId") Long memberId, @Param("limit") int limit);
-
-    // 3. 첫 페이지 - 상태 필터링 (TIME_DESC)
-    @Query("SELECT n FROM NotificationEntity n WHERE n.memberId = :memberId AND n.status = :status " +
-           "ORDER BY n.createdAt DESC LIMIT :limit")
-    List<NotificationEntity> findByMemberIdAndStatusOrderByCreatedAtDesc(
-            @Param("memberId") Long memberId, @Param("status") ReadStatus status, @Param("limit") int limit);
-
-    // 4. 첫 페이지 - 상태 필터링 (UNREAD_FIRST)
-    @Query("SELECT n FROM NotificationEntity n WHERE n.memberId = :memberId AND n.status = :status " +
-           "ORDER BY CASE WHEN n.status = 'UNREAD' THEN 0 ELSE 1 END, n.createdAt DESC LIMIT :limit")
-    List<NotificationEntity> findByMemberIdAndStatusOrderByUnreadFirstThenCreatedAtDesc(
-            @Param("memberId") Long memberId, @Param("status") ReadStatus status, @Param("limit") int limit);
-
-    // 5. 다음 페이지 - 전체 조회 (TIME_DESC)
-    @Query("SELECT n FROM NotificationEntity n WHERE n.memberId = :memberId AND n.id < :lastNotificationId " +
-           "ORDER BY n.createdAt DESC LIMIT :limit")
-    List<NotificationEntity> findByMemberIdAndIdLessThanOrderByCreatedAtDesc(
-            @Param("memberId") Long memberId, @Param("lastNotificationId") Long lastNotificationId, @Param("limit") int limit);
-
-    // 6. 다음 페이지 - 전체 조회 (UNREAD_FIRST)
-    @Query("SELECT n FROM NotificationEntity n WHERE n.memberId = :memberId AND n.id < :lastNotificationId " +
-           "ORDER BY CASE WHEN n.status = 'UNREAD' THEN 0 ELSE 1 END, n.createdAt DESC LIMIT :limit")
-    List<NotificationEntity> findByMemberIdAndIdLessThanOrderByUnreadFirstThenCreatedAtDesc(
-            @Param("memberId") Long memberId, @Param("lastNotificationId") Long lastNotificationId, @Param("limit") int limit);
-
-    // 7. 다음 페이지 - 상태 필터링 (TIME_DESC)
-    @Query("SELECT n FROM NotificationEntity n WHERE n.memberId = :memberId AND n.status = :status AND n.id < :lastNotificationId " +
-           "ORDER BY n.createdAt DESC LIMIT :limit")
-    List<NotificationEntity> findByMemberIdAndStatusAndIdLessThanOrderByCreatedAtDesc(
-            @Param("memberId") Long memberId, @Param("status") ReadStatus status, 
-            @Param("lastNotificationId") Long lastNotificationId, @Param("limit") int limit);
-
-    // 8. 다음 페이지 - 상태 필터링 (UNREAD_FIRST)
-    @Query("SELECT n FROM NotificationEntity n WHERE n.memberId = :memberId AND n.status = :status AND n.id < :lastNotificationId " +
-           "ORDER BY CASE WHEN n.status = 'UNREAD' THEN 0 ELSE 1 END, n.createdAt DESC LIMIT :limit")
-    List<NotificationEntity> findByMemberIdAndStatusAndIdLessThanOrderByUnreadFirstThenCreatedAtDesc(
-            @Param("memberId") Long memberId, @Param("status") ReadStatus status, 
-            @Param("lastNotificationId") Long lastNotificationId, @Param("limit") int limit);
-} 
\ No newline at end of file
+    long countByMemberIdAndStatus(Long memberId, ReadStatus status);
+
+    // 회원의 읽지 않은 알림 일괄 읽음 처리
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE NotificationEntity n " +
+           "SET n.status = com.example.demo.domain.model.notification.ReadStatus.READ, n.statusRank = 1, n.readAt = :readAt, n.modifiedAt = :readAt " +
+           "WHERE n.memberId = :memberId AND n.status = com.example.demo.domain.model.notification.ReadStatus.UNREAD")
+    int markAllAsReadByMemberId(@Param("memberId") Long memberId, @Param("readAt") LocalDateTime readAt);
+
+    // 회원 소유의 알림만 삭제 (다른 회원의 ID는 조건에서 제외됨)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM NotificationEntity n WHERE n.memberId = :memberId AND n.id IN :ids")
+    int deleteByMemberIdAndIdIn(@Param("memberId") Long memberId, @Param("ids") Collection<Long> ids);
+
+    // 회원의 특정 상태 알림 일괄 삭제
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM NotificationEntity n WHERE n.memberId = :memberId AND n.status = :status")
+    int deleteByMemberIdAndStatus(@Param("memberId") Long memberId, @Param("status") ReadStatus status);
+
+    // 회원별 상태 건수 (0건인 회원은 결과에 없음)
+    @Query("SELECT n.memberId, COUNT(n) FROM NotificationEntity n WHERE n.memberId IN :memberIds AND n.status = :status " +
+           "GROUP BY n.memberId")
+    List<Object[]> countByMemberIdInAndStatusGroupByMemberId(
+            @Param("memberIds") Collection<Long> memberIds, @Param("status") ReadStatus status);
+}
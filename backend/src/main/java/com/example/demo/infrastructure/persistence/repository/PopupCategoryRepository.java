@@ -1,6 +1,7 @@
 package com.example.demo.infrastructure.persistence.repository;
 
 import com.example.demo.infrastructure.persistence.entity.popup.PopupCategoryEntity;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 
@@ -8,4 +9,6 @@ public interface PopupCategoryRepository extends JpaRepository<PopupCategoryEnti
 
     List<PopupCategoryEntity> findAllByPopupId(Long popupId);
 
+    List<PopupCategoryEntity> findAllByPopupIdIn(Collection<Long> popupIds);
+
 }
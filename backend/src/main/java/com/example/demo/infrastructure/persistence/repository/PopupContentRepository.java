@@ -1,6 +1,7 @@
 package com.example.demo.infrastructure.persistence.repository;
 
 import com.example.demo.infrastructure.persistence.entity.popup.PopupContentEntity;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 
@@ -8,4 +9,6 @@ public interface PopupContentRepository extends JpaRepository<PopupContentEntity
 
     List<PopupContentEntity> findAllByPopupIdOrderBySortOrderAsc(Long popupId);
 
+    List<PopupContentEntity> findAllByPopupIdInOrderBySortOrderAsc(Collection<Long> popupIds);
+
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.example.demo.infrastructure.persistence.repository;
 
 import com.example.demo.infrastructure.persistence.entity.popup.PopupSocialEntity;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 
@@ -8,4 +9,6 @@ public interface PopupSocialRepository extends JpaRepository<PopupSocialEntity,L
 
     List<PopupSocialEntity> findAllByPopupIdOrderBySortOrderAsc(Long popupId);
 
+    List<PopupSocialEntity> findAllByPopupIdInOrderBySortOrderAsc(Collection<Long> popupIds);
+
 }
\ No newline at end of file
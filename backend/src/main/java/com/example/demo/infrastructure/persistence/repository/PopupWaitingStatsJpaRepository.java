@@ -0,0 +1,20 @@
+package com.example.demo.infrastructure.persistence.repository;
+
+import com.example.demo.infrastructure.persistence.entity.PopupWaitingStatsEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface PopupWaitingStatsJpaRepository extends JpaRepository<PopupWaitingStatsEntity, Long> {
+
+    /**
+     * 동시 입장 처리 시 누적 값이 유실되지 않도록 행 잠금을 걸고 조회한다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM PopupWaitingStatsEntity s WHERE s.popupId = :popupId")
+    Optional<PopupWaitingStatsEntity> findForUpdate(@Param("popupId") Long popupId);
+}
@@ -1,6 +1,7 @@
 package com.example.demo.infrastructure.persistence.repository;
 
 import com.example.demo.infrastructure.persistence.entity.popup.PopupWeeklyScheduleEntity;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 
@@ -9,4 +10,6 @@ public interface PopupWeeklyScheduleRepository extends
 
     List<PopupWeeklyScheduleEntity> findAllByPopupId(Long popupId);
 
+    List<PopupWeeklyScheduleEntity> findAllByPopupIdIn(Collection<Long> popupIds);
+
 }
@@ -2,10 +2,7 @@ package com.example.demo.infrastructure.persistence.repository;
 
 import com.example.demo.domain.model.waiting.WaitingStatus;
 import com.example.demo.infrastructure.persistence.entity.WaitingEntity;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -17,22 +14,6 @@ import java.util.Optional;
 @Repository
 public interface WaitingJpaRepository extends JpaRepository<WaitingEntity, Long> {
 
-    /**
-     * 회원 ID로 대기 목록을 조회한다.
-     * RESERVED 상태가 먼저, 그 다음 생성일 기준 내림차순으로 정렬한다.
-     *
-     * @param memberId 회원 ID
-     * @param pageable 페이징 정보
-     * @return 대기 엔티티 목록
-     */
-    @Query("SELECT w FROM WaitingEntity w WHERE w.memberId = :memberId and w.status != com.example.demo.domain.model.waiting.WaitingStatus.NO_SHOW ORDER BY " +
-            "CASE WHEN w.status = :reservedStatus THEN 0 ELSE 1 END, " +
-            "w.createdAt DESC")
-    List<WaitingEntity> findByMemberIdOrderByStatusReservedFirstThenCreatedAtDesc(
-            @Param("memberId") Long memberId,
-            @Param("reservedStatus") WaitingStatus reservedStatus,
-            Pageable pageable);
-
     Optional<WaitingEntity> findByMemberIdAndPopupId(Long memberId, Long popupId);
 
     /**
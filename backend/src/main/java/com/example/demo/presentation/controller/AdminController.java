@@ -3,6 +3,7 @@ package com.example.demo.presentation.controller;
 import com.example.demo.application.dto.image.ImageUploadResponse;
 import com.example.demo.application.dto.popup.PopupCreateRequest;
 import com.example.demo.application.dto.popup.PopupCreateResponse;
+import com.example.demo.application.dto.waiting.WaitingBatchEnterRequest;
 import com.example.demo.application.service.AdminService;
 import com.example.demo.presentation.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -116,6 +117,50 @@ public class AdminController {
         return ResponseEntity.ok(new ApiResponse<>("입장 처리 성공", null));
     }
 
+    /**
+     * 대기 일괄 입장 처리
+     */
+    @Operation(summary = "대기 일괄 입장", description = "대기열 앞에서부터 여러 팀을 한 번에 입장 처리합니다")
+    @PostMapping("/popups/{popupId}/waitings/enter")
+    public ResponseEntity<ApiResponse<List<Long>>> enterWaitings(
+            @RequestHeader("X-Admin-Token") String token,
+            @PathVariable Long popupId,
+            @RequestBody WaitingBatchEnterRequest request
+    ) {
+        adminService.verifySession(token);
+        List<Long> enteredIds = adminService.enterWaitings(popupId, request);
+        return ResponseEntity.ok(new ApiResponse<>("일괄 입장 처리 성공", enteredIds));
+    }
+
+    /**
+     * 팝업 대기실 열기
+     */
+    @Operation(summary = "대기실 열기", description = "팝업 오픈 시 몰리는 대기 신청을 순번대로 허용하는 대기실을 엽니다")
+    @PostMapping("/popups/{popupId}/lobby")
+    public ResponseEntity<ApiResponse<Void>> openLobby(
+            @RequestHeader("X-Admin-Token") String token,
+            @PathVariable Long popupId,
+            @RequestParam(defaultValue = "10") int releasePerSecond
+    ) {
+        adminService.verifySession(token);
+        adminService.openLobby(popupId, releasePerSecond);
+        return ResponseEntity.ok(new ApiResponse<>("대기실 열기 성공", null));
+    }
+
+    /**
+     * 팝업 대기실 닫기
+     */
+    @Operation(summary = "대기실 닫기", description = "팝업의 대기실을 닫습니다")
+    @DeleteMapping("/popups/{popupId}/lobby")
+    public ResponseEntity<ApiResponse<Void>> closeLobby(
+            @RequestHeader("X-Admin-Token") String token,
+            @PathVariable Long popupId
+    ) {
+        adminService.verifySession(token);
+        adminService.closeLobby(popupId);
+        return ResponseEntity.ok(new ApiResponse<>("대기실 닫기 성공", null));
+    }
+
     /**
      * 팝업 생성 (관리자 전용)
      */
@@ -0,0 +1,43 @@
+package com.example.demo.presentation.controller;
+
+import com.example.demo.application.dto.lobby.LobbyStatusResponse;
+import com.example.demo.application.dto.lobby.LobbyTicketResponse;
+import com.example.demo.application.service.LobbyService;
+import com.example.demo.common.security.UserPrincipal;
+import com.example.demo.presentation.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/popups/{popupId}/lobby")
+@RequiredArgsConstructor
+@Tag(name = "대기실", description = "팝업 오픈 대기실 API")
+public class LobbyController {
+
+    private final LobbyService lobbyService;
+
+    @PostMapping
+    @Operation(summary = "대기실 입장", description = "대기실에 입장하여 순번 토큰을 발급받습니다. 순번이 허용되면 토큰으로 대기 신청할 수 있습니다.")
+    public ResponseEntity<ApiResponse<LobbyTicketResponse>> enter(
+            @Parameter(description = "팝업 ID") @PathVariable Long popupId,
+            @AuthenticationPrincipal UserPrincipal principal
+    ) {
+        LobbyTicketResponse response = lobbyService.enter(popupId, principal.getId());
+        return ResponseEntity.ok(new ApiResponse<>("대기실에 입장했습니다.", response));
+    }
+
+    @GetMapping("/status")
+    @Operation(summary = "대기실 순번 조회", description = "순번 토큰으로 현재 남은 인원과 예상 대기 시간을 조회합니다.")
+    public ResponseEntity<ApiResponse<LobbyStatusResponse>> getStatus(
+            @Parameter(description = "팝업 ID") @PathVariable Long popupId,
+            @Parameter(description = "대기실 순번 토큰") @RequestHeader("X-Lobby-Token") String lobbyToken
+    ) {
+        LobbyStatusResponse response = lobbyService.getStatus(popupId, lobbyToken);
+        return ResponseEntity.ok(new ApiResponse<>("성공적으로 조회되었습니다.", response));
+    }
+}
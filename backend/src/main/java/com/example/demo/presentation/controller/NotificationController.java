@@ -13,6 +13,8 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/notifications")
 @RequiredArgsConstructor
@@ -39,10 +41,20 @@ public class NotificationController {
         return new ApiResponse<>("알림 목록 조회 성공", response);
     }
 
+    @GetMapping("/unread-count")
+    @Operation(summary = "읽지 않은 알림 수 조회", description = "알림 배지에 표시할 읽지 않은 알림 수를 조회합니다. 변경 시 SSE unread-count 이벤트로도 전송됩니다.")
+    public ApiResponse<UnreadCountResponse> getUnreadCount(@AuthenticationPrincipal UserPrincipal principal) {
+        UnreadCountResponse response = notificationService.getUnreadCount(principal.getId());
+        return new ApiResponse<>("읽지 않은 알림 수 조회 성공", response);
+    }
+
     @GetMapping(value = "/stream", produces = "text/event-stream")
-    @Operation(summary = "알림 SSE 스트림", description = "실시간 알림을 받기 위한 Server-Sent Events 연결을 생성합니다.")
-    public SseEmitter streamNotifications(@AuthenticationPrincipal UserPrincipal principal) {
-        return notificationSseService.createSseConnection(principal.getId());
+    @Operation(summary = "알림 SSE 스트림", description = "실시간 알림을 받기 위한 Server-Sent Events 연결을 생성합니다. 재연결 시 Last-Event-ID 이후에 놓친 이벤트를 다시 전송합니다.")
+    public SseEmitter streamNotifications(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @Parameter(description = "마지막으로 받은 이벤트 ID") @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId
+    ) {
+        return notificationSseService.createSseConnection(principal.getId(), lastEventId);
     }
 
     @GetMapping("/connection-status")
@@ -63,6 +75,30 @@ public class NotificationController {
         return new ApiResponse<>("알림 읽기 성공", notificationResponse);
     }
 
+    @PatchMapping("/read-all")
+    @Operation(summary = "알림 전체 읽음 처리", description = "읽지 않은 알림을 모두 읽음 상태로 변경합니다.")
+    public ApiResponse<NotificationBulkResponse> markAllNotificationsAsRead(@AuthenticationPrincipal UserPrincipal principal) {
+        NotificationBulkResponse response = notificationService.markAllNotificationsAsRead(principal.getId());
+        return new ApiResponse<>("알림 전체 읽기 성공", response);
+    }
+
+    @DeleteMapping
+    @Operation(summary = "알림 일괄 삭제", description = "지정한 알림들을 한 번에 삭제합니다. 본인 알림이 아닌 ID는 무시됩니다.")
+    public ApiResponse<NotificationBulkResponse> deleteNotifications(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @Parameter(description = "삭제할 알림 ID 목록 (최대 100개)") @RequestParam List<Long> notificationIds
+    ) {
+        NotificationBulkResponse response = notificationService.deleteNotifications(principal.getId(), notificationIds);
+        return new ApiResponse<>("알림 일괄 삭제 성공", response);
+    }
+
+    @DeleteMapping("/read")
+    @Operation(summary = "읽은 알림 전체 삭제", description = "읽은 알림을 모두 삭제합니다.")
+    public ApiResponse<NotificationBulkResponse> deleteReadNotifications(@AuthenticationPrincipal UserPrincipal principal) {
+        NotificationBulkResponse response = notificationService.deleteReadNotifications(principal.getId());
+        return new ApiResponse<>("읽은 알림 삭제 성공", response);
+    }
+
     @DeleteMapping("/{notificationId}")
     @Operation(summary = "알림 삭제", description = "특정 알림을 삭제합니다.")
     public ApiResponse<Void> deleteNotification(
@@ -3,6 +3,8 @@ package com.example.demo.presentation.controller;
 import com.example.demo.application.dto.waiting.VisitHistoryCursorResponse;
 import com.example.demo.application.dto.waiting.WaitingCreateRequest;
 import com.example.demo.application.dto.waiting.WaitingCreateResponse;
+import com.example.demo.application.service.LobbyService;
+import com.example.demo.application.service.WaitingAdmissionService;
 import com.example.demo.application.service.WaitingService;
 import com.example.demo.common.security.UserPrincipal;
 import com.example.demo.presentation.ApiResponse;
@@ -23,14 +25,19 @@ import java.time.LocalDateTime;
 public class WaitingController {
 
     private final WaitingService waitingService;
+    private final WaitingAdmissionService waitingAdmissionService;
+    private final LobbyService lobbyService;
 
     @PostMapping("/popups/{popupId}/waitings")
     @Operation(summary = "대기 신청", description = "특정 팝업스토어에 대기를 신청합니다.")
     public ResponseEntity<ApiResponse<WaitingCreateResponse>> createWaiting(
             @Parameter(description = "팝업 ID") @PathVariable Long popupId,
             @Parameter(description = "대기 신청 정보") @RequestBody WaitingCreateRequest request,
+            @Parameter(description = "대기실 순번 토큰 (대기실이 열린 팝업만 필요)") @RequestHeader(value = "X-Lobby-Token", required = false) String lobbyToken,
             @AuthenticationPrincipal UserPrincipal principal
     ) {
+        lobbyService.verifyReleased(popupId, principal.getId(), lobbyToken);
+
         WaitingCreateRequest createRequest = new WaitingCreateRequest(
                 popupId,
                 principal.getId(),
@@ -38,7 +45,9 @@ public class WaitingController {
                 request.peopleCount(),
                 request.contactEmail()
         );
-        WaitingCreateResponse response = waitingService.createWaiting(createRequest, LocalDateTime.now());
+        WaitingCreateResponse response = waitingAdmissionService.admit(
+                popupId, () -> waitingService.createWaiting(createRequest, LocalDateTime.now())
+        );
 
         return ResponseEntity.ok(new ApiResponse<>("성공적으로 대기가 등록되었습니다.", response));
     }
@@ -0,0 +1,182 @@
+package com.example.demo.application.service;
+
+import com.example.demo.application.dto.notification.WaitingEntryNotificationRequest;
+import com.example.demo.domain.model.Member;
+import com.example.demo.domain.model.notification.Notification;
+import com.example.demo.domain.model.notification.NotificationOutboxMessage;
+import com.example.demo.domain.model.notification.OutboxChannel;
+import com.example.demo.domain.port.NotificationEventPort;
+import com.example.demo.domain.port.NotificationOutboxPort;
+import com.example.demo.domain.port.NotificationPort;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationOutboxServiceTest {
+
+    @Mock
+    private NotificationOutboxPort notificationOutboxPort;
+
+    @Mock
+    private NotificationPort notificationPort;
+
+    @Mock
+    private NotificationEventPort notificationEventPort;
+
+    @Mock
+    private EmailNotificationService emailNotificationService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private NotificationOutboxService notificationOutboxService;
+
+    @BeforeEach
+    void setUp() {
+        notificationOutboxService = new NotificationOutboxService(notificationOutboxPort, notificationPort,
+                notificationEventPort, emailNotificationService, objectMapper, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(notificationOutboxService, "batchSize", 10);
+        ReflectionTestUtils.setField(notificationOutboxService, "maxAttempts", 3);
+        ReflectionTestUtils.setField(notificationOutboxService, "retryDelaySeconds", 5L);
+        ReflectionTestUtils.setField(notificationOutboxService, "lockTimeoutSeconds", 60L);
+        ReflectionTestUtils.setField(notificationOutboxService, "sendTimeoutSeconds", 1L);
+    }
+
+    @Test
+    @DisplayName("이 노드에 연결된 회원의 SSE 메시지만 전송하고, 메시지를 선점하거나 삭제하지 않으며 다시 보내지 않는다")
+    void shouldDeliverRealtimeToLocalConnectionsOnly() {
+        // given
+        Notification notification = mock(Notification.class);
+        when(notification.getId()).thenReturn(10L);
+        when(notificationOutboxPort.findRealtimeAfter(any(), anyLong(), anyInt())).thenReturn(List.of(
+                new NotificationOutboxMessage(1L, OutboxChannel.SSE, 100L, 10L, null, 0),
+                new NotificationOutboxMessage(2L, OutboxChannel.SSE, 200L, 20L, null, 0)
+        ));
+        when(notificationEventPort.isStreaming(100L)).thenReturn(true);
+        when(notificationEventPort.isStreaming(200L)).thenReturn(false);
+        when(notificationPort.findAllByIds(List.of(10L))).thenReturn(List.of(notification));
+
+        // when
+        int processed = notificationOutboxService.dispatchDue();
+        int processedAgain = notificationOutboxService.dispatchDue();
+
+        // then
+        assertThat(processed).isEqualTo(2);
+        assertThat(processedAgain).isZero();
+        verify(notificationEventPort).sendRealTimeNotification(100L, notification);
+        verify(notificationEventPort, never()).sendRealTimeNotification(eq(200L), any());
+        verify(notificationOutboxPort, never()).deleteAll(any());
+        verify(notificationOutboxPort, never()).reschedule(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("SSE 전송에 실패한 메시지는 다음 발송 때 다시 전송한다")
+    void shouldRetryFailedRealtimeOnNextDispatch() {
+        // given
+        Notification notification = mock(Notification.class);
+        when(notification.getId()).thenReturn(10L);
+        when(notificationOutboxPort.findRealtimeAfter(any(), anyLong(), anyInt())).thenReturn(List.of(
+                new NotificationOutboxMessage(1L, OutboxChannel.SSE, 100L, 10L, null, 0)
+        ));
+        when(notificationEventPort.isStreaming(100L)).thenReturn(true);
+        when(notificationPort.findAllByIds(List.of(10L))).thenReturn(List.of(notification));
+        doThrow(new IllegalStateException("연결 끊김")).doNothing()
+                .when(notificationEventPort).sendRealTimeNotification(100L, notification);
+
+        // when
+        notificationOutboxService.dispatchDue();
+        notificationOutboxService.dispatchDue();
+        notificationOutboxService.dispatchDue();
+
+        // then
+        verify(notificationEventPort, times(2)).sendRealTimeNotification(100L, notification);
+    }
+
+    @Test
+    @DisplayName("이메일 발송에 실패하면 지수 백오프로 재시도하고, 최대 횟수에 도달하면 실패로 남긴다")
+    void shouldRetryFailedEmailWithBackoff() throws Exception {
+        // given
+        String payload = objectMapper.writeValueAsString(new WaitingEntryNotificationRequest(
+                "팝업", "홍길동", 2, "test@example.com", LocalDateTime.now(), "https://map.kakao.com"));
+        when(notificationOutboxPort.claimDue(eq(OutboxChannel.EMAIL), any(), any(), anyInt())).thenReturn(List.of(
+                new NotificationOutboxMessage(1L, OutboxChannel.EMAIL, 100L, null, payload, 1),
+                new NotificationOutboxMessage(2L, OutboxChannel.EMAIL, 100L, null, payload, 2)
+        ));
+        when(emailNotificationService.sendWaitingEntryNotificationAsync(any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("SMTP 오류")));
+        LocalDateTime before = LocalDateTime.now();
+
+        // when
+        notificationOutboxService.dispatchDue();
+
+        // then
+        ArgumentCaptor<LocalDateTime> nextAttemptAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(notificationOutboxPort).reschedule(eq(1L), nextAttemptAt.capture());
+        assertThat(nextAttemptAt.getValue()).isAfterOrEqualTo(before.plusSeconds(10));
+        verify(notificationOutboxPort).markFailed(2L);
+        verify(notificationOutboxPort).deleteAll(List.of());
+    }
+
+    @Test
+    @DisplayName("대기 시간이 지난 이메일 발송은 재시도하지 않고, 발송이 끝나면 결과를 기록한다")
+    void shouldNotRetryTimedOutEmail() throws Exception {
+        // given
+        String payload = objectMapper.writeValueAsString(new WaitingEntryNotificationRequest(
+                "팝업", "홍길동", 2, "test@example.com", LocalDateTime.now(), "https://map.kakao.com"));
+        when(notificationOutboxPort.claimDue(eq(OutboxChannel.EMAIL), any(), any(), anyInt())).thenReturn(List.of(
+                new NotificationOutboxMessage(1L, OutboxChannel.EMAIL, 100L, null, payload, 0)
+        ));
+        CompletableFuture<Void> sending = new CompletableFuture<>();
+        when(emailNotificationService.sendWaitingEntryNotificationAsync(any())).thenReturn(sending);
+
+        // when
+        notificationOutboxService.dispatchDue();
+
+        // then
+        verify(notificationOutboxPort, never()).reschedule(anyLong(), any());
+        verify(notificationOutboxPort, never()).markFailed(anyLong());
+        verify(notificationOutboxPort).deleteAll(List.of());
+
+        // when
+        sending.complete(null);
+
+        // then
+        verify(notificationOutboxPort).deleteAll(List.of(1L));
+        verify(notificationOutboxPort, never()).reschedule(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서 기록하면 즉시 발송을 요청한다")
+    void shouldSaveRealtimeMessage() {
+        // given
+        Notification notification = mock(Notification.class);
+        when(notification.getId()).thenReturn(10L);
+        when(notification.getMember()).thenReturn(new Member(100L, "testUser", "test@example.com"));
+
+        // when
+        notificationOutboxService.publishRealtime(notification);
+
+        // then
+        verify(notificationOutboxPort).save(NotificationOutboxMessage.realtime(100L, 10L));
+        verify(notificationOutboxPort, timeout(1000)).findRealtimeAfter(any(), anyLong(), anyInt());
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.demo.application.service;
+
+import com.example.demo.domain.port.NotificationPartitionPort;
+import com.example.demo.domain.port.NotificationPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationRetentionServiceTest {
+
+    @Mock
+    private NotificationPort notificationPort;
+
+    @Mock
+    private NotificationPartitionPort notificationPartitionPort;
+
+    @Mock
+    private SchedulerLeaseService schedulerLeaseService;
+
+    @InjectMocks
+    private NotificationRetentionService notificationRetentionService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(notificationRetentionService, "retentionDays", 90);
+        ReflectionTestUtils.setField(notificationRetentionService, "chunkSize", 100);
+        ReflectionTestUtils.setField(notificationRetentionService, "maxChunksPerRun", 5);
+    }
+
+    @Test
+    @DisplayName("청크가 가득 차는 동안 반복 삭제하고, 덜 찬 청크가 나오면 멈춘다")
+    void shouldDeleteInChunksUntilPartialChunk() {
+        // given
+        when(schedulerLeaseService.tryAcquire(anyString())).thenReturn(true);
+        when(notificationPort.deleteCreatedBefore(any(), eq(100))).thenReturn(100, 100, 30);
+
+        // when
+        notificationRetentionService.purgeExpiredNotifications();
+
+        // then
+        verify(notificationPort, times(3)).deleteCreatedBefore(any(), eq(100));
+        verifyNoInteractions(notificationPartitionPort);
+    }
+
+    @Test
+    @DisplayName("한 번의 실행에서 최대 청크 수를 넘겨 삭제하지 않는다")
+    void shouldStopAtMaxChunksPerRun() {
+        // given
+        when(schedulerLeaseService.tryAcquire(anyString())).thenReturn(true);
+        when(notificationPort.deleteCreatedBefore(any(), anyInt())).thenReturn(100);
+
+        // when
+        notificationRetentionService.purgeExpiredNotifications();
+
+        // then
+        verify(notificationPort, times(5)).deleteCreatedBefore(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("파티션을 사용하면 다음 달 파티션을 만들고 보관 기간을 벗어난 월의 파티션을 삭제한다")
+    void shouldMaintainPartitionsWhenEnabled() {
+        // given
+        ReflectionTestUtils.setField(notificationRetentionService, "partitioningEnabled", true);
+        when(schedulerLeaseService.tryAcquire(anyString())).thenReturn(true);
+        when(notificationPartitionPort.dropMonthlyPartitionsBefore(any())).thenReturn(List.of("notifications_y2025m01"));
+
+        // when
+        notificationRetentionService.purgeExpiredNotifications();
+
+        // then
+        verify(notificationPartitionPort).createMonthlyPartitions(YearMonth.now(), 2);
+        verify(notificationPartitionPort).dropMonthlyPartitionsBefore(YearMonth.from(LocalDate.now().minusDays(90)));
+    }
+
+    @Test
+    @DisplayName("다른 노드가 임대를 보유하면 삭제하지 않는다")
+    void shouldSkipWithoutLease() {
+        // given
+        when(schedulerLeaseService.tryAcquire(anyString())).thenReturn(false);
+
+        // when
+        notificationRetentionService.purgeExpiredNotifications();
+
+        // then
+        verifyNoInteractions(notificationPort, notificationPartitionPort);
+    }
+
+    @Test
+    @DisplayName("청크마다 임대를 연장하고, 실행 중 임대를 잃으면 중단한다")
+    void shouldStopWhenLeaseIsLostDuringRun() {
+        // given - 시작 시 획득, 첫 연장 성공, 두 번째 연장 실패
+        when(schedulerLeaseService.tryAcquire(anyString())).thenReturn(true, true, false);
+        when(notificationPort.deleteCreatedBefore(any(), anyInt())).thenReturn(100);
+
+        // when
+        notificationRetentionService.purgeExpiredNotifications();
+
+        // then
+        verify(notificationPort, times(2)).deleteCreatedBefore(any(), anyInt());
+        verify(schedulerLeaseService, times(3)).tryAcquire(anyString());
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.demo.application.service;
+
+import com.example.demo.domain.port.NotificationEventPort;
+import com.example.demo.domain.port.NotificationPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationUnreadCountServiceTest {
+
+    @Mock
+    private NotificationPort notificationPort;
+
+    @Mock
+    private NotificationEventPort notificationEventPort;
+
+    @InjectMocks
+    private NotificationUnreadCountService notificationUnreadCountService;
+
+    @Test
+    @DisplayName("한 번 조회한 읽지 않은 알림 수는 메모리에서 응답하고 변경 시 SSE로 전송한다")
+    void shouldServeCachedCountAndPushChanges() {
+        // given
+        when(notificationPort.countUnread(1L)).thenReturn(3L);
+        notificationUnreadCountService.getUnreadCount(1L);
+
+        // when
+        notificationUnreadCountService.recordCreated(1L);
+        notificationUnreadCountService.recordRemoved(1L);
+        notificationUnreadCountService.recordRemoved(1L);
+
+        // then
+        assertThat(notificationUnreadCountService.getUnreadCount(1L)).isEqualTo(2L);
+        verify(notificationPort, times(1)).countUnread(1L);
+        verify(notificationEventPort).sendUnreadCount(1L, 4L);
+        verify(notificationEventPort).sendUnreadCount(1L, 3L);
+        verify(notificationEventPort).sendUnreadCount(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("보관되지 않은 회원의 변경은 조회나 전송 없이 무시한다")
+    void shouldIgnoreChangesForUncachedMember() {
+        // when
+        notificationUnreadCountService.recordCreated(1L);
+
+        // then
+        verifyNoInteractions(notificationPort);
+        verify(notificationEventPort, never()).sendUnreadCount(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("보정 시 연결이 끊긴 회원은 제거하고, 어긋난 값은 DB 값으로 맞춰 전송한다")
+    void shouldReconcileConnectedMembersOnly() {
+        // given
+        when(notificationPort.countUnread(1L)).thenReturn(5L);
+        when(notificationPort.countUnread(2L)).thenReturn(1L);
+        notificationUnreadCountService.getUnreadCount(1L);
+        notificationUnreadCountService.getUnreadCount(2L);
+        when(notificationEventPort.isConnected(1L)).thenReturn(true);
+        when(notificationEventPort.isConnected(2L)).thenReturn(false);
+        when(notificationPort.countUnreadByMemberIds(Set.of(1L))).thenReturn(Map.of(1L, 2L));
+
+        // when
+        notificationUnreadCountService.reconcile();
+
+        // then
+        verify(notificationEventPort).sendUnreadCount(1L, 2L);
+        assertThat(notificationUnreadCountService.getUnreadCount(1L)).isEqualTo(2L);
+        verify(notificationPort, times(1)).countUnread(1L);
+    }
+}
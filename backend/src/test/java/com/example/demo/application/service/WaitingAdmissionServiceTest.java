@@ -0,0 +1,141 @@
+package com.example.demo.application.service;
+
+import com.example.demo.common.exception.ErrorType;
+import com.example.demo.common.exception.RetryableBusinessException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WaitingAdmissionServiceTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private WaitingAdmissionService waitingAdmissionService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        waitingAdmissionService = new WaitingAdmissionService(meterRegistry);
+        ReflectionTestUtils.setField(waitingAdmissionService, "ratePerSecond", 1.0);
+        ReflectionTestUtils.setField(waitingAdmissionService, "burst", 2);
+        ReflectionTestUtils.setField(waitingAdmissionService, "maxConcurrent", 1);
+        ReflectionTestUtils.setField(waitingAdmissionService, "maxQueued", 1);
+        ReflectionTestUtils.setField(waitingAdmissionService, "queueTimeoutMillis", 50L);
+        ReflectionTestUtils.setField(waitingAdmissionService, "idleTtlSeconds", 0L);
+    }
+
+    @Test
+    @DisplayName("토큰을 모두 쓰면 Retry-After와 함께 거절하고, 다른 팝업은 영향을 받지 않는다")
+    void shouldShedWhenBucketIsEmpty() {
+        // given
+        waitingAdmissionService.admit(1L, () -> "ok");
+        waitingAdmissionService.admit(1L, () -> "ok");
+
+        // when
+        RetryableBusinessException exception = assertThrows(RetryableBusinessException.class,
+                () -> waitingAdmissionService.admit(1L, () -> "ok"));
+
+        // then
+        assertEquals(ErrorType.WAITING_ADMISSION_REJECTED, exception.getErrorType());
+        assertTrue(exception.getRetryAfterSeconds() >= 1);
+        assertEquals("ok", waitingAdmissionService.admit(2L, () -> "ok"));
+        assertEquals(3.0, meterRegistry.counter("waiting.admission", "outcome", "admitted").count());
+        assertEquals(1.0, meterRegistry.counter("waiting.admission", "outcome", "shed", "reason", "rate_limited").count());
+    }
+
+    @Test
+    @DisplayName("동시 처리 자리를 기다리다 시간이 지나면 거절되며 토큰을 소비하지 않는다")
+    void shouldShedWhenQueueTimesOut() {
+        // when - 처리 중인 작업 안에서 같은 팝업으로 다시 신청
+        RetryableBusinessException exception = assertThrows(RetryableBusinessException.class,
+                () -> waitingAdmissionService.admit(1L, () -> waitingAdmissionService.admit(1L, () -> "nested")));
+
+        // then - 거절된 요청은 토큰을 쓰지 않았으므로 한 번 더 통과한다
+        assertEquals(ErrorType.WAITING_ADMISSION_REJECTED, exception.getErrorType());
+        assertEquals(1.0, meterRegistry.counter("waiting.admission", "outcome", "queued").count());
+        assertEquals(1.0, meterRegistry.counter("waiting.admission", "outcome", "shed", "reason", "queue_timeout").count());
+        assertEquals("ok", waitingAdmissionService.admit(1L, () -> "ok"));
+    }
+
+    @Test
+    @DisplayName("처리 중인 요청이 끝나면 기다리던 요청이 이어서 처리된다")
+    void shouldAdmitQueuedRequestWhenPermitIsReleased() throws Exception {
+        // given
+        ReflectionTestUtils.setField(waitingAdmissionService, "queueTimeoutMillis", 5000L);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> first = executor.submit(() -> waitingAdmissionService.admit(1L, () -> {
+                started.countDown();
+                awaitQuietly(finish);
+                return "first";
+            }));
+            started.await();
+
+            // when - 첫 요청이 자리를 잡은 동안 신청하고, 잠시 뒤 첫 요청을 끝낸다
+            executor.submit(() -> {
+                Thread.sleep(100);
+                finish.countDown();
+                return null;
+            });
+            String second = waitingAdmissionService.admit(1L, () -> "second");
+
+            // then
+            assertEquals("second", second);
+            assertEquals("first", first.get(1, TimeUnit.SECONDS));
+            assertEquals(1.0, meterRegistry.counter("waiting.admission", "outcome", "queued").count());
+            assertEquals(2.0, meterRegistry.counter("waiting.admission", "outcome", "admitted").count());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 기다리지 않고 바로 거절한다")
+    void shouldShedWhenQueueIsFull() {
+        // given
+        ReflectionTestUtils.setField(waitingAdmissionService, "maxQueued", 0);
+
+        // when
+        RetryableBusinessException exception = assertThrows(RetryableBusinessException.class,
+                () -> waitingAdmissionService.admit(1L, () -> waitingAdmissionService.admit(1L, () -> "nested")));
+
+        // then
+        assertEquals(ErrorType.WAITING_ADMISSION_REJECTED, exception.getErrorType());
+        assertEquals(1.0, meterRegistry.counter("waiting.admission", "outcome", "shed", "reason", "queue_full").count());
+        assertEquals(0.0, meterRegistry.counter("waiting.admission", "outcome", "queued").count());
+    }
+
+    @Test
+    @DisplayName("유휴 게이트를 정리해도 이후 신청은 새 게이트로 처리된다")
+    void shouldRecreateGateAfterEviction() {
+        // given
+        waitingAdmissionService.admit(1L, () -> "ok");
+
+        // when
+        waitingAdmissionService.evictIdleGates();
+
+        // then
+        assertEquals(0, ((Map<?, ?>) ReflectionTestUtils.getField(waitingAdmissionService, "gates")).size());
+        assertEquals("ok", waitingAdmissionService.admit(1L, () -> "ok"));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
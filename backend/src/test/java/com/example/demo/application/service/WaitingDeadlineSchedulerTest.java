@@ -0,0 +1,189 @@
+package com.example.demo.application.service;
+
+import com.example.demo.domain.model.waiting.WaitingDeadline;
+import com.example.demo.domain.model.waiting.WaitingStatus;
+import com.example.demo.domain.model.waiting.WaitingSummary;
+import com.example.demo.domain.port.WaitingPort;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WaitingDeadlineSchedulerTest {
+
+    @Mock
+    private WaitingPort waitingPort;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private SchedulerLeaseService schedulerLeaseService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private WaitingDeadlineScheduler waitingDeadlineScheduler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        waitingDeadlineScheduler = new WaitingDeadlineScheduler(waitingPort, eventPublisher, meterRegistry, schedulerLeaseService);
+        ReflectionTestUtils.setField(waitingDeadlineScheduler, "maxConcurrency", 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        waitingDeadlineScheduler.stop();
+    }
+
+    @Test
+    @DisplayName("같은 시점에 도래한 기한은 팝업별로 묶어, 한 팝업의 기한은 한 스레드에서 처리한다")
+    void shouldProcessDueDeadlinesGroupedByPopup() throws Exception {
+        // given
+        Map<Long, Set<Thread>> threadsByPopup = new ConcurrentHashMap<>();
+        doAnswer(invocation -> {
+            WaitingDeadline deadline = invocation.getArgument(0);
+            threadsByPopup.computeIfAbsent(deadline.popupId(), id -> ConcurrentHashMap.newKeySet()).add(Thread.currentThread());
+            return null;
+        }).when(eventPublisher).publishEvent(any(WaitingDeadline.class));
+        when(waitingPort.findSummaries(any())).thenReturn(List.of(dueHead(1L, 1L), dueHead(2L, 1L), dueHead(3L, 2L)));
+
+        // when
+        waitingDeadlineScheduler.start();
+
+        // then
+        verify(eventPublisher, timeout(1000).times(3)).publishEvent(any(WaitingDeadline.class));
+        awaitGroups("success", 2);
+        assertThat(threadsByPopup.get(1L)).hasSize(1);
+        assertThat(threadsByPopup.get(2L)).hasSize(1).doesNotContainAnyElementsOf(threadsByPopup.get(1L));
+        assertThat(meterRegistry.counter("waiting.deadline", "type", "no_show", "outcome", "processed").count()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("같은 팝업의 그룹이 처리 중이면 새로 도래한 기한은 다시 큐에 넣었다가 처리가 끝난 뒤 처리한다")
+    void shouldRequeueDeadlineWhilePopupIsBusy() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            if (isDeadlineOf(invocation.getArgument(0), 1L)) {
+                started.countDown();
+                release.await(5, TimeUnit.SECONDS);
+            }
+            return null;
+        }).when(eventPublisher).publishEvent(any(WaitingDeadline.class));
+        when(waitingPort.findSummaries(any())).thenReturn(List.of(dueHead(1L, 1L)), List.of(dueHead(1L, 1L), dueHead(2L, 1L)));
+        when(schedulerLeaseService.tryAcquire(anyString())).thenReturn(true);
+        waitingDeadlineScheduler.start();
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+
+        // when - 1번 대기를 처리하는 동안 같은 팝업의 2번 대기 기한이 도래
+        waitingDeadlineScheduler.sweepMissedDeadlines();
+
+        // then
+        verify(eventPublisher, after(300).never()).publishEvent(argThat((Object event) -> isDeadlineOf(event, 2L)));
+        release.countDown();
+        verify(eventPublisher, timeout(3000)).publishEvent(argThat((Object event) -> isDeadlineOf(event, 2L)));
+        awaitGroups("success", 2);
+    }
+
+    @Test
+    @DisplayName("동시에 처리하는 팝업 그룹 수는 최대 동시성을 넘지 않는다")
+    void shouldLimitConcurrentGroups() throws Exception {
+        // given
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+            return null;
+        }).when(eventPublisher).publishEvent(any(WaitingDeadline.class));
+        when(waitingPort.findSummaries(any())).thenReturn(List.of(dueHead(1L, 1L), dueHead(2L, 2L), dueHead(3L, 3L)));
+
+        // when
+        waitingDeadlineScheduler.start();
+
+        // then - 두 그룹이 처리 중인 동안 세 번째 그룹은 시작하지 않는다
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+        verify(eventPublisher, after(300).times(2)).publishEvent(any(WaitingDeadline.class));
+        release.countDown();
+        verify(eventPublisher, timeout(1000).times(3)).publishEvent(any(WaitingDeadline.class));
+        awaitGroups("success", 3);
+        assertThat(maxInFlight.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("그룹 처리 시간은 실패한 기한이 있는지에 따라 결과별로 기록한다")
+    void shouldRecordGroupOutcome() throws Exception {
+        // given
+        doAnswer(invocation -> {
+            if (isDeadlineOf(invocation.getArgument(0), 1L)) {
+                throw new IllegalStateException("처리 실패");
+            }
+            return null;
+        }).when(eventPublisher).publishEvent(any(WaitingDeadline.class));
+        when(waitingPort.findSummaries(any())).thenReturn(List.of(dueHead(1L, 1L), dueHead(2L, 2L)));
+
+        // when
+        waitingDeadlineScheduler.start();
+
+        // then
+        awaitGroups("failed", 1);
+        awaitGroups("success", 1);
+        assertThat(meterRegistry.counter("waiting.deadline", "type", "no_show", "outcome", "failed").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("waiting.deadline", "type", "no_show", "outcome", "processed").count()).isEqualTo(1.0);
+    }
+
+    /**
+     * 노쇼 기한이 이미 지난 맨 앞 대기. 입장 시간 초과 알림은 오래 지나 복원 시 건너뛰므로 노쇼 기한 하나만 등록된다.
+     */
+    private static WaitingSummary dueHead(Long waitingId, Long popupId) {
+        return new WaitingSummary(waitingId, popupId, waitingId, WaitingStatus.WAITING, 0,
+                LocalDateTime.now().minusMinutes(11), null);
+    }
+
+    private static boolean isDeadlineOf(Object event, Long waitingId) {
+        return event instanceof WaitingDeadline deadline && deadline.waitingId().equals(waitingId);
+    }
+
+    private Timer groupTimer(String outcome) {
+        return meterRegistry.timer("waiting.deadline.group", "outcome", outcome);
+    }
+
+    private void awaitGroups(String outcome, long expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 3000;
+        while (groupTimer(outcome).count() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(groupTimer(outcome).count()).isEqualTo(expected);
+    }
+}
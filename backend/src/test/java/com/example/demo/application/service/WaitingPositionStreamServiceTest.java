@@ -0,0 +1,109 @@
+package com.example.demo.application.service;
+
+import com.example.demo.domain.model.Member;
+import com.example.demo.domain.model.popup.Popup;
+import com.example.demo.domain.model.waiting.Waiting;
+import com.example.demo.domain.model.waiting.WaitingPosition;
+import com.example.demo.domain.model.waiting.WaitingStatus;
+import com.example.demo.domain.port.NotificationEventPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WaitingPositionStreamServiceTest {
+
+    @Mock
+    private NotificationEventPort notificationEventPort;
+
+    @Mock
+    private WaitingTimeForecastService waitingTimeForecastService;
+
+    @InjectMocks
+    private WaitingPositionStreamService waitingPositionStreamService;
+
+    private final Popup popup = Popup.builder().id(1L).name("테스트 팝업").build();
+    private final Member member = new Member(1L, "테스트 사용자", "test@example.com");
+
+    @Test
+    @DisplayName("연속된 대기열 이동은 대기별 마지막 순번 하나로 병합되어 회원당 한 번 전송된다")
+    void shouldCoalesceShiftsIntoOneUpdatePerMember() {
+        // given
+        when(notificationEventPort.isConnected(member.id())).thenReturn(true);
+        waitingPositionStreamService.publishQueueShift(List.of(waiting(10L, 2)));
+        waitingPositionStreamService.publishQueueShift(List.of(waiting(10L, 1)));
+
+        // when
+        waitingPositionStreamService.flushPendingPositions();
+        waitingPositionStreamService.flushPendingPositions();
+
+        // then
+        verify(notificationEventPort, times(1))
+                .sendWaitingPositions(member.id(), List.of(new WaitingPosition(10L, popup.getId(), 1, null, null, null)));
+    }
+
+    @Test
+    @DisplayName("SSE 연결이 없는 회원에게는 전송하지 않는다")
+    void shouldSkipDisconnectedMember() {
+        // given
+        when(notificationEventPort.isConnected(member.id())).thenReturn(false);
+        waitingPositionStreamService.publishQueueShift(List.of(waiting(10L, 1)));
+
+        // when
+        waitingPositionStreamService.flushPendingPositions();
+
+        // then
+        verify(notificationEventPort, never()).sendWaitingPositions(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 등록한 순번은 커밋된 경우에만 전송되고 롤백되면 버려진다")
+    void shouldPublishOnlyAfterCommit() {
+        // given
+        when(notificationEventPort.isConnected(member.id())).thenReturn(true);
+
+        // when
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            waitingPositionStreamService.publishQueueShift(List.of(waiting(10L, 2)));
+            waitingPositionStreamService.flushPendingPositions();
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        waitingPositionStreamService.flushPendingPositions();
+
+        // then
+        verify(notificationEventPort, never()).sendWaitingPositions(anyLong(), any());
+
+        // when
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            waitingPositionStreamService.publishQueueShift(List.of(waiting(10L, 1)));
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        waitingPositionStreamService.flushPendingPositions();
+
+        // then
+        verify(notificationEventPort).sendWaitingPositions(member.id(), List.of(new WaitingPosition(10L, popup.getId(), 1, null, null, null)));
+    }
+
+    private Waiting waiting(Long id, int waitingNumber) {
+        return new Waiting(id, popup, "홍길동", member, "hong@example.com", 2, waitingNumber, WaitingStatus.WAITING, LocalDateTime.now());
+    }
+}
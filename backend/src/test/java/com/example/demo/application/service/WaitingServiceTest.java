@@ -13,6 +13,8 @@ import com.example.demo.domain.model.Member;
 import com.example.demo.domain.model.popup.*;
 import com.example.demo.domain.model.waiting.PopupWaitingStatistics;
 import com.example.demo.domain.model.waiting.Waiting;
+import com.example.demo.domain.model.waiting.WaitingEligibility;
+import com.example.demo.domain.model.waiting.WaitingSummary;
 import com.example.demo.domain.model.waiting.WaitingQuery;
 import com.example.demo.domain.model.waiting.WaitingStatus;
 import com.example.demo.domain.port.*;
@@ -62,6 +64,18 @@ class WaitingServiceTest {
     @Mock
     private WaitingStatisticsPort waitingStatisticsPort;
 
+    @Mock
+    private WaitingPositionStreamService waitingPositionStreamService;
+
+    @Mock
+    private WaitingTimeForecastService waitingTimeForecastService;
+
+    @Mock
+    private WaitingEligibilityService waitingEligibilityService;
+
+    @Mock
+    private WaitingDeadlineScheduler waitingDeadlineScheduler;
+
     @InjectMocks
     private WaitingService waitingService;
 
@@ -132,7 +146,7 @@ class WaitingServiceTest {
             when(banPort.findByQuery(any())).thenReturn(List.of());
 
             // Mock: 당일 중복 신청 없음
-            when(waitingPort.findByQuery(argThat(query -> query.getDate() != null)))
+            when(waitingPort.findSummaries(argThat(query -> query.getDate() != null)))
                     .thenReturn(List.of());
 
             // Mock: 예상 대기시간 계산
@@ -248,7 +262,7 @@ class WaitingServiceTest {
             when(banPort.findByQuery(any())).thenReturn(List.of());
 
             // Mock: 당일 중복 신청 없음
-            when(waitingPort.findByQuery(argThat(query -> query.getDate() != null)))
+            when(waitingPort.findSummaries(argThat(query -> query.getDate() != null)))
                     .thenReturn(List.of());
 
             // Mock: 예상 대기시간 계산
@@ -285,7 +299,7 @@ class WaitingServiceTest {
             when(banPort.findByQuery(any())).thenReturn(List.of());
 
             // Mock: 당일 중복 신청 없음
-            when(waitingPort.findByQuery(argThat(query -> query.getDate() != null)))
+            when(waitingPort.findSummaries(argThat(query -> query.getDate() != null)))
                     .thenReturn(List.of());
 
             when(popupPort.findById(1L)).thenReturn(Optional.of(validPopup));
@@ -304,6 +318,69 @@ class WaitingServiceTest {
             verify(waitingPort, never()).save(any());
             verify(waitingDtoMapper, never()).toCreateResponse(any());
         }
+
+        @Test
+        @DisplayName("보관된 신청 자격의 노쇼 한도 초과는 조회 없이 거절")
+        public void test06() {
+            // given
+            when(waitingEligibilityService.find(1L, 1L, now.toLocalDate()))
+                    .thenReturn(Optional.of(new WaitingEligibility(false, 2, null)));
+
+            // when & then
+            BusinessException exception = assertThrows(
+                    BusinessException.class,
+                    () -> waitingService.createWaiting(validRequest, now)
+            );
+
+            assertEquals(ErrorType.DUPLICATE_WAITING, exception.getErrorType());
+
+            // verify
+            verifyNoInteractions(popupPort, banPort, waitingPort, memberPort);
+        }
+
+        @Test
+        @DisplayName("보관된 활성 대기 여부는 DB로 다시 확인하여 다른 노드의 노쇼 처리를 반영")
+        public void test07() {
+            // given - 보관된 자격은 활성 대기가 있지만 DB에는 없음
+            when(waitingEligibilityService.find(1L, 1L, now.toLocalDate()))
+                    .thenReturn(Optional.of(new WaitingEligibility(true, 0, null)));
+            when(popupPort.findById(1L)).thenReturn(Optional.of(validPopup));
+            when(banPort.findByQuery(any())).thenReturn(List.of());
+            when(waitingPort.findSummaries(any())).thenReturn(List.of());
+            when(memberPort.findById(1L)).thenReturn(Optional.empty());
+
+            // when & then - 자격 확인을 통과하여 회원 조회 단계까지 진행
+            BusinessException exception = assertThrows(
+                    BusinessException.class,
+                    () -> waitingService.createWaiting(validRequest, now)
+            );
+
+            assertEquals(ErrorType.MEMBER_NOT_FOUND, exception.getErrorType());
+            verify(waitingEligibilityService).put(eq(1L), eq(1L), eq(now.toLocalDate()), any(WaitingEligibility.class));
+        }
+
+        @Test
+        @DisplayName("당일 활성 대기가 있는 중복 신청은 팝업/회원 조회 없이 거절")
+        public void test08() {
+            // given
+            when(banPort.findByQuery(any())).thenReturn(List.of());
+            when(waitingPort.findSummaries(any())).thenReturn(List.of(
+                    new WaitingSummary(10L, 1L, 1L, WaitingStatus.WAITING, 3, null, "hong@example.com")
+            ));
+
+            // when & then
+            BusinessException exception = assertThrows(
+                    BusinessException.class,
+                    () -> waitingService.createWaiting(validRequest, now)
+            );
+
+            assertEquals(ErrorType.DUPLICATE_WAITING, exception.getErrorType());
+
+            // verify
+            verifyNoInteractions(popupPort, memberPort);
+            verify(waitingPort, never()).getNextWaitingNumber(any());
+            verify(waitingPort, never()).save(any());
+        }
     }
 
     @Nested
@@ -926,5 +1003,69 @@ class WaitingServiceTest {
             verify(waitingPort, times(1)).save(any(Waiting.class));
             verify(waitingPort, never()).saveAll(anyList());
         }
+
+        @Test
+        @DisplayName("앞에서부터 여러 팀을 입장 처리하면 나머지 대기열을 한 번에 앞당긴다")
+        void enterWaitings_ShiftQueueOnce() {
+            // given - 0~5번 대기
+            List<Waiting> queue = java.util.stream.IntStream.rangeClosed(0, 5)
+                    .mapToObj(number -> new Waiting(
+                            (long) number + 1, validPopup, "대기자" + number, validMember,
+                            "wait" + number + "@example.com", 1, number, WaitingStatus.WAITING,
+                            LocalDateTime.now()
+                    ))
+                    .toList();
+
+            PopupWaitingStatistics mockStatistics = mock(PopupWaitingStatistics.class);
+            when(mockStatistics.calculateExpectedWaitingTime(anyInt())).thenReturn(30);
+            when(waitingStatisticsPort.findCompletedStatisticsByPopupId(validPopup.getId()))
+                    .thenReturn(mockStatistics);
+            when(waitingPort.findByQuery(WaitingQuery.forPopup(validPopup.getId(), WaitingStatus.WAITING)))
+                    .thenReturn(queue);
+
+            // when
+            List<Long> enteredIds = waitingService.enterWaitings(validPopup.getId(), 2, null);
+
+            // then
+            assertEquals(List.of(1L, 2L), enteredIds);
+            verify(waitingPort, never()).save(any());
+            verify(waitingPort, times(1)).saveAll(argThat(waitings -> waitings.size() == 2
+                    && waitings.stream().allMatch(waiting -> waiting.status() == WaitingStatus.VISITED)));
+            verify(waitingStatisticsPort, times(1)).recordCompletedWaitings(argThat(statistics -> statistics.size() == 2));
+            verify(waitingPort, times(1)).findByQuery(any(WaitingQuery.class));
+            verify(waitingPort, times(1)).saveAll(argThat(waitings -> waitings.size() == 4
+                    && waitings.getFirst().waitingNumber() == 0
+                    && waitings.getLast().waitingNumber() == 3));
+            // 기존 2번 -> 0번 입장 알림, 기존 4번/5번 -> 3팀 이내 진입 알림
+            verify(waitingNotificationService).sendEnterNowNotification(argThat(waiting -> waiting.id() == 3L));
+            verify(waitingNotificationService).sendEnter3TeamsBeforeNotification(argThat(waiting -> waiting.id() == 5L));
+            verify(waitingNotificationService).sendEnter3TeamsBeforeNotification(argThat(waiting -> waiting.id() == 6L));
+        }
+
+        @Test
+        @DisplayName("지정한 대기가 대기열 맨 앞 팀들이 아니면 WAITING_NOT_READY 예외")
+        void enterWaitings_NotFrontOfQueue() {
+            // given
+            Waiting first = new Waiting(
+                    1L, validPopup, "김영번", validMember,
+                    "kim1@example.com", 1, 0, WaitingStatus.WAITING,
+                    LocalDateTime.now()
+            );
+            Waiting second = new Waiting(
+                    2L, validPopup, "김일번", validMember,
+                    "kim2@example.com", 1, 1, WaitingStatus.WAITING,
+                    LocalDateTime.now()
+            );
+            when(waitingPort.findByQuery(WaitingQuery.forPopup(validPopup.getId(), WaitingStatus.WAITING)))
+                    .thenReturn(List.of(first, second));
+
+            // when & then
+            BusinessException exception = assertThrows(BusinessException.class,
+                    () -> waitingService.enterWaitings(validPopup.getId(), null, List.of(2L)));
+
+            assertEquals(ErrorType.WAITING_NOT_READY, exception.getErrorType());
+            verify(waitingPort, never()).save(any(Waiting.class));
+            verify(waitingPort, never()).saveAll(anyList());
+        }
     }
 }
@@ -0,0 +1,60 @@
+package com.example.demo.common.jwt;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "1234567890abcdef1234567890abcdef1234567890abcdef1234567890abcdef";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private LobbyTokenProvider lobbyTokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties jwtProperties = new JwtProperties(SECRET, 3600L);
+        jwtTokenProvider = new JwtTokenProvider(jwtProperties);
+        jwtTokenProvider.init();
+        lobbyTokenProvider = new LobbyTokenProvider(jwtProperties);
+        ReflectionTestUtils.setField(lobbyTokenProvider, "tokenTtlSeconds", 60L);
+        lobbyTokenProvider.init();
+    }
+
+    @Test
+    @DisplayName("대기실 토큰은 액세스 토큰으로 인증되지 않는다")
+    void shouldRejectLobbyTokenAsAccessToken() {
+        // given
+        String lobbyToken = lobbyTokenProvider.createToken(1L, 1L, 3L);
+
+        // when & then
+        assertNotEquals(TokenValidationResult.VALID, jwtTokenProvider.validateTokenWithResult(lobbyToken));
+        assertTrue(lobbyTokenProvider.parse(lobbyToken).isPresent());
+    }
+
+    @Test
+    @DisplayName("액세스 토큰 키로 서명한 대기실 형식의 토큰은 대기실 토큰으로 인정하지 않는다")
+    void shouldRejectLobbyClaimsSignedWithAccessTokenKey() {
+        // given
+        String forged = Jwts.builder()
+                .subject("1")
+                .audience().add("lobby").and()
+                .claim("type", "lobby")
+                .claim("popupId", 1L)
+                .claim("sequence", 0L)
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .compact();
+
+        // when & then
+        assertTrue(lobbyTokenProvider.parse(forged).isEmpty());
+        assertEquals(TokenValidationResult.INVALID, jwtTokenProvider.validateTokenWithResult(forged));
+    }
+}
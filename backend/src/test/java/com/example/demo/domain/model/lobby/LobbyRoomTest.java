@@ -0,0 +1,116 @@
+package com.example.demo.domain.model.lobby;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LobbyRoomTest {
+
+    @Test
+    @DisplayName("입장 순서대로 순번을 발급하고 재입장 시 기존 순번을 유지한다")
+    void shouldIssueSequenceInArrivalOrder() {
+        // given
+        LobbyRoom room = LobbyRoom.open(1L, 2);
+
+        // when
+        long first = room.join(10L);
+        long second = room.join(20L);
+        long rejoined = room.join(10L);
+
+        // then
+        assertEquals(1, first);
+        assertEquals(2, second);
+        assertEquals(first, rejoined);
+        assertEquals(2, room.getIssuedSequence());
+    }
+
+    @Test
+    @DisplayName("초당 허용 인원만큼 앞 순번부터 허용하고 발급된 순번을 넘지 않는다")
+    void shouldReleaseUpToRateAndIssuedSequence() {
+        // given
+        LobbyRoom room = LobbyRoom.open(1L, 2);
+        for (long memberId = 1; memberId <= 3; memberId++) {
+            room.join(memberId);
+        }
+
+        // when & then
+        assertEquals(0, room.release());
+        assertTrue(room.isReleased(2));
+        assertFalse(room.isReleased(3));
+
+        assertEquals(2, room.release());
+        assertEquals(3, room.getReleasedSequence());
+
+        assertEquals(3, room.release());
+        assertEquals(3, room.getReleasedSequence());
+    }
+
+    @Test
+    @DisplayName("남은 인원과 허용 속도로 예상 대기 시간을 계산한다")
+    void shouldCalculateStatus() {
+        // given
+        LobbyRoom room = LobbyRoom.open(1L, 2);
+        for (long memberId = 1; memberId <= 5; memberId++) {
+            room.join(memberId);
+        }
+        room.release();
+
+        // when
+        LobbyStatus waiting = room.statusOf(5);
+        LobbyStatus released = room.statusOf(1);
+
+        // then
+        assertEquals(3, waiting.position());
+        assertEquals(2, waiting.estimatedWaitSeconds());
+        assertFalse(waiting.released());
+        assertTrue(released.released());
+        assertEquals(0, released.position());
+    }
+
+    @Test
+    @DisplayName("아직 허용되지 않았던 회원만 순회한다")
+    void shouldVisitMembersAfterSequence() {
+        // given
+        LobbyRoom room = LobbyRoom.open(1L, 1);
+        room.join(10L);
+        room.join(20L);
+        room.join(30L);
+
+        // when
+        List<Long> visited = new ArrayList<>();
+        room.forEachMemberAfter(1, (memberId, sequence) -> visited.add(memberId));
+
+        // then
+        assertEquals(2, visited.size());
+        assertTrue(visited.containsAll(List.of(20L, 30L)));
+    }
+
+    @Test
+    @DisplayName("경과 시간만큼 허용하고, 이번에 허용된 회원만 순회한다")
+    void shouldReleaseByElapsedTimeAndVisitNewlyReleasedMembers() {
+        // given
+        LobbyRoom room = LobbyRoom.open(1L, 2);
+        for (long memberId = 1; memberId <= 5; memberId++) {
+            room.join(memberId * 10);
+        }
+
+        // when - 1.5초 분량(3명) 허용
+        long previouslyReleased = room.release(1500);
+
+        // then
+        List<Long> visited = new ArrayList<>();
+        room.forEachMemberBetween(previouslyReleased, room.getReleasedSequence(), (memberId, sequence) -> visited.add(memberId));
+        assertEquals(List.of(10L, 20L, 30L), visited);
+        assertEquals(new LobbyWatermark(1L, 3, 2), room.watermark());
+    }
+
+    @Test
+    @DisplayName("허용 속도가 1 미만이면 대기실을 열 수 없다")
+    void shouldRejectInvalidRate() {
+        assertThrows(IllegalArgumentException.class, () -> LobbyRoom.open(1L, 0));
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.demo.domain.model.waiting;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PopupQueueForecasterTest {
+
+    private final LocalDateTime now = LocalDateTime.of(2025, 1, 1, 14, 0);
+
+    @Test
+    @DisplayName("최근 처리율로 순번별 예상 대기시간과 신뢰 구간을 산정한다")
+    void shouldForecastFromLiveServiceRate() {
+        // given - 최근 30분 동안 5분마다 1팀씩 입장 (분당 0.2팀)
+        PopupQueueForecaster forecaster = new PopupQueueForecaster();
+        for (int minutesAgo = 30; minutesAgo > 0; minutesAgo -= 5) {
+            forecaster.recordDeparture(now.minusMinutes(minutesAgo));
+        }
+
+        // when
+        Optional<WaitingTimeForecast> forecast = forecaster.forecast(4, now);
+
+        // then
+        assertTrue(forecast.isPresent());
+        assertEquals(20, forecast.get().expectedMinutes());
+        assertTrue(forecast.get().lowerMinutes() < 20);
+        assertTrue(forecast.get().upperMinutes() > 20);
+    }
+
+    @Test
+    @DisplayName("최근 표본이 부족하면 같은 시간대의 과거 처리율을 사용한다")
+    void shouldFallbackToHourlyProfile() {
+        // given - 전날 같은 시간대에 1시간 동안 6팀 입장 (분당 0.1팀)
+        PopupQueueForecaster forecaster = new PopupQueueForecaster();
+        for (int i = 0; i < 6; i++) {
+            forecaster.recordDeparture(now.minusDays(1).plusMinutes(i * 10L));
+        }
+
+        // when
+        Optional<WaitingTimeForecast> forecast = forecaster.forecast(2, now);
+
+        // then
+        assertEquals(20, forecast.orElseThrow().expectedMinutes());
+    }
+
+    @Test
+    @DisplayName("같은 시각에 몰린 일괄 입장은 최소 관측 시간이 지나기 전까지 처리율로 쓰지 않는다")
+    void shouldNotTrustBurstWithinMinimumSpan() {
+        // given - 전날 같은 시간대 분당 0.1팀, 방금 5팀 일괄 입장
+        PopupQueueForecaster forecaster = new PopupQueueForecaster();
+        for (int i = 0; i < 6; i++) {
+            forecaster.recordDeparture(now.minusDays(1).plusMinutes(i * 10L));
+        }
+        for (int i = 0; i < 5; i++) {
+            forecaster.recordDeparture(now.minusMinutes(1));
+        }
+
+        // when
+        Optional<WaitingTimeForecast> forecast = forecaster.forecast(2, now);
+
+        // then - 일괄 입장(분당 5팀)이 아닌 시간대별 처리율(분당 0.1팀)로 산정
+        assertEquals(20, forecast.orElseThrow().expectedMinutes());
+    }
+
+    @Test
+    @DisplayName("시간대별 처리율은 그 시간대에 처리가 없던 날도 관측 기간에 포함한다")
+    void shouldIncludeEmptyDaysInHourlyProfile() {
+        // given - 이틀 전 같은 시간대에 6팀 입장, 전날 같은 시간대에는 입장 없음 (2시간 관측에 6팀, 분당 0.05팀)
+        PopupQueueForecaster forecaster = new PopupQueueForecaster();
+        for (int i = 0; i < 6; i++) {
+            forecaster.recordDeparture(now.minusDays(2).plusMinutes(i * 10L));
+        }
+
+        // when
+        Optional<WaitingTimeForecast> forecast = forecaster.forecast(2, now);
+
+        // then
+        assertEquals(40, forecast.orElseThrow().expectedMinutes());
+    }
+
+    @Test
+    @DisplayName("처리 이력이 없는 시간대는 같은 시간대의 과거 도착률을 처리율로 사용한다")
+    void shouldFallbackToHourlyArrivalRate() {
+        // given - 전날 같은 시간대에 1시간 동안 6팀 등록 (분당 0.1팀), 입장 이력 없음
+        PopupQueueForecaster forecaster = new PopupQueueForecaster();
+        for (int i = 0; i < 6; i++) {
+            forecaster.recordArrival(now.minusDays(1).plusMinutes(i * 10L));
+        }
+
+        // when
+        Optional<WaitingTimeForecast> forecast = forecaster.forecast(2, now);
+
+        // then
+        assertEquals(20, forecast.orElseThrow().expectedMinutes());
+        assertEquals(0.1, forecaster.arrivalRatePerMinute(now), 1e-9);
+    }
+
+    @Test
+    @DisplayName("최근 도착률은 슬라이딩 윈도우로 산정하며, 개점 직후 몰린 도착은 처리율로 쓰지 않는다")
+    void shouldTrackLiveArrivalRateWithoutUsingItAsServiceRate() {
+        // given - 최근 20분 동안 2분마다 1팀 등록 (분당 0.5팀), 입장 이력 없음
+        PopupQueueForecaster forecaster = new PopupQueueForecaster();
+        for (int minutesAgo = 20; minutesAgo > 0; minutesAgo -= 2) {
+            forecaster.recordArrival(now.minusMinutes(minutesAgo));
+        }
+
+        // when & then
+        assertEquals(0.5, forecaster.arrivalRatePerMinute(now), 1e-9);
+        assertTrue(forecaster.forecast(3, now).isEmpty());
+    }
+
+    @Test
+    @DisplayName("처리 이력이 없거나 순번이 0이면 예측하지 않는다")
+    void shouldReturnEmptyWithoutServiceRate() {
+        PopupQueueForecaster forecaster = new PopupQueueForecaster();
+        assertTrue(forecaster.forecast(3, now).isEmpty());
+
+        forecaster.recordDeparture(now.minusMinutes(1));
+        assertTrue(forecaster.forecast(0, now).isEmpty());
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.demo.domain.model.waiting;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PopupWaitingStatisticsTest {
+
+    private final LocalDateTime base = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    private WaitingStatistics completed(int initialWaitingNumber, int waitedMinutes, int enteredOffsetMinutes) {
+        return WaitingStatistics.builder()
+                .popupId(1L)
+                .waitingId((long) enteredOffsetMinutes)
+                .initialWaitingNumber(initialWaitingNumber)
+                .reservedAt(base.plusMinutes(enteredOffsetMinutes - waitedMinutes))
+                .enteredAt(base.plusMinutes(enteredOffsetMinutes))
+                .build();
+    }
+
+    @Test
+    @DisplayName("입장 건을 누적하면 목록으로 계산한 평균과 같은 평균을 O(1)로 반환하고, 예상 대기시간은 EWMA로 계산한다")
+    void shouldKeepRunningAverage() {
+        // given
+        WaitingStatistics first = completed(2, 20, 0);   // 10분/팀
+        WaitingStatistics second = completed(4, 20, 10); // 5분/팀
+
+        // when
+        PopupWaitingStatistics running = PopupWaitingStatistics.empty(1L).record(first).record(second);
+        PopupWaitingStatistics fromList = new PopupWaitingStatistics(1L, List.of(second, first));
+
+        // then
+        assertEquals(2, running.getCount());
+        assertEquals(7.5, running.calculateAverageTimePerPerson());
+        assertEquals(running.calculateAverageTimePerPerson(), fromList.calculateAverageTimePerPerson());
+        assertEquals(running.getEwmaTimePerPerson(), fromList.getEwmaTimePerPerson());
+        assertEquals(9.0, running.getEwmaTimePerPerson()); // 0.2 * 5 + 0.8 * 10
+        assertEquals(27, running.calculateExpectedWaitingTime(3));
+    }
+
+    @Test
+    @DisplayName("1인당 대기시간을 계산할 수 없는 건은 누적하지 않는다")
+    void shouldIgnoreStatisticsWithoutTimePerPerson() {
+        // when
+        PopupWaitingStatistics statistics = PopupWaitingStatistics.empty(1L).record(completed(0, 10, 0));
+
+        // then
+        assertEquals(0, statistics.getCount());
+        assertNull(statistics.calculateAverageTimePerPerson());
+    }
+
+    @Test
+    @DisplayName("다른 팝업의 통계는 누적할 수 없다")
+    void shouldRejectOtherPopupStatistics() {
+        WaitingStatistics other = WaitingStatistics.builder()
+                .popupId(2L)
+                .waitingId(1L)
+                .initialWaitingNumber(1)
+                .reservedAt(base)
+                .enteredAt(base.plusMinutes(5))
+                .build();
+
+        assertThrows(IllegalArgumentException.class, () -> PopupWaitingStatistics.empty(1L).record(other));
+    }
+}
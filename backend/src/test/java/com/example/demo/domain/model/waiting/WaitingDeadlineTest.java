@@ -0,0 +1,52 @@
+package com.example.demo.domain.model.waiting;
+
+import com.example.demo.domain.model.Member;
+import com.example.demo.domain.model.popup.Popup;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WaitingDeadlineTest {
+
+    private final LocalDateTime canEnterAt = LocalDateTime.of(2025, 1, 1, 14, 0);
+    private final Popup popup = Popup.builder().id(1L).name("테스트 팝업").build();
+    private final Member member = new Member(1L, "테스트 사용자", "test@example.com");
+
+    @Test
+    @DisplayName("종류별 유예 시간이 지나야 기한에 도달한다")
+    void shouldReachAfterGrace() {
+        // given
+        Waiting head = headWaiting(WaitingStatus.WAITING);
+        WaitingDeadline timeOver = new WaitingDeadline(1L, 1L, canEnterAt, WaitingDeadline.Type.ENTER_TIME_OVER);
+        WaitingDeadline noShow = new WaitingDeadline(1L, 1L, canEnterAt, WaitingDeadline.Type.NO_SHOW);
+
+        // when & then
+        assertEquals(canEnterAt.plusMinutes(5), timeOver.dueAt());
+        assertEquals(canEnterAt.plusMinutes(10), noShow.dueAt());
+        assertTrue(timeOver.isReachedBy(head, canEnterAt.plusMinutes(5)));
+        assertFalse(noShow.isReachedBy(head, canEnterAt.plusMinutes(5)));
+        assertTrue(noShow.isReachedBy(head, canEnterAt.plusMinutes(10)));
+    }
+
+    @Test
+    @DisplayName("이미 입장한 대기는 기한이 지나도 대상이 아니다")
+    void shouldIgnoreEnteredWaiting() {
+        // given
+        Waiting visited = headWaiting(WaitingStatus.VISITED);
+        WaitingDeadline noShow = new WaitingDeadline(1L, 1L, canEnterAt, WaitingDeadline.Type.NO_SHOW);
+
+        // when & then
+        assertFalse(noShow.isReachedBy(visited, canEnterAt.plusMinutes(30)));
+    }
+
+    private Waiting headWaiting(WaitingStatus status) {
+        return new Waiting(
+                1L, popup, "홍길동", member,
+                "test@example.com", 2, 0, status,
+                canEnterAt.minusMinutes(30), null, canEnterAt, 0, 3
+        );
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.demo.domain.model.waiting;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WaitingEligibilityTest {
+
+    private final LocalDateTime now = LocalDateTime.of(2025, 1, 1, 14, 0);
+
+    @Test
+    @DisplayName("노쇼 1회까지는 재신청을 허용하고 2회부터 중복으로 본다")
+    void shouldAllowSingleNoShow() {
+        // given
+        WaitingEligibility eligibility = WaitingEligibility.of(List.of(), List.of()).withWaitingCreated();
+
+        // when
+        WaitingEligibility afterFirstNoShow = eligibility.withNoShow();
+        WaitingEligibility afterSecondNoShow = afterFirstNoShow.withWaitingCreated().withNoShow();
+
+        // then
+        assertTrue(eligibility.isDuplicate());
+        assertFalse(afterFirstNoShow.isDuplicate());
+        assertEquals(2, afterSecondNoShow.noShowCount());
+        assertTrue(afterSecondNoShow.isDuplicate());
+    }
+
+    @Test
+    @DisplayName("당일 대기 요약으로 활성 대기와 노쇼 횟수를 구성한다")
+    void shouldBuildFromTodayWaitings() {
+        // given
+        List<WaitingSummary> todayWaitings = List.of(
+                new WaitingSummary(1L, 1L, 1L, WaitingStatus.NO_SHOW, 0, null, null),
+                new WaitingSummary(2L, 1L, 1L, WaitingStatus.VISITED, 0, null, null)
+        );
+
+        // when
+        WaitingEligibility eligibility = WaitingEligibility.of(todayWaitings, List.of());
+
+        // then
+        assertTrue(eligibility.hasActiveWaiting());
+        assertEquals(1, eligibility.noShowCount());
+        assertFalse(eligibility.isBannedAt(now));
+    }
+
+    @Test
+    @DisplayName("제재 만료 시각 이전에만 제재 상태로 본다")
+    void shouldApplyBanUntilExpiry() {
+        // given
+        WaitingEligibility eligibility = WaitingEligibility.of(List.of(), List.of())
+                .withBanUntil(now.plusDays(1))
+                .withBanUntil(now.plusHours(1));
+
+        // then
+        assertEquals(now.plusDays(1), eligibility.bannedUntil());
+        assertTrue(eligibility.isBannedAt(now));
+        assertFalse(eligibility.isBannedAt(now.plusDays(1)));
+    }
+
+    @Test
+    @DisplayName("활성 대기는 되돌려질 수 있으므로 지속 거절 사유로 보지 않는다")
+    void shouldTreatOnlyBanAndNoShowLimitAsLastingRejection() {
+        assertFalse(new WaitingEligibility(true, 0, null).hasLastingRejectionAt(now));
+        assertTrue(new WaitingEligibility(false, 2, null).hasLastingRejectionAt(now));
+        assertTrue(new WaitingEligibility(false, 0, now.plusHours(1)).hasLastingRejectionAt(now));
+    }
+}
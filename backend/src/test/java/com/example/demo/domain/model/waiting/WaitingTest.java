@@ -345,4 +345,28 @@ class WaitingTest {
         );
         assertEquals(ErrorType.INVALID_WAITING_STATUS, exception.getErrorType());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("순번 감소 테스트 - 0번이 되면 입장 가능 시간 설정")
+    public void test06() {
+        // given
+        Waiting secondWaiting = new Waiting(
+                1L, validPopup, "홍길동", validMember,
+                "test@example.com", 2, 1, WaitingStatus.WAITING, LocalDateTime.now()
+        );
+        Waiting thirdWaiting = new Waiting(
+                2L, validPopup, "김철수", validMember,
+                "test@example.com", 2, 2, WaitingStatus.WAITING, LocalDateTime.now()
+        );
+
+        // when
+        Waiting head = secondWaiting.minusWaitingNumber(waitingNumber -> 0);
+        Waiting next = thirdWaiting.minusWaitingNumber(waitingNumber -> 10);
+
+        // then
+        assertEquals(0, head.waitingNumber());
+        assertNotNull(head.canEnterAt());
+        assertEquals(1, next.waitingNumber());
+        assertNull(next.canEnterAt());
+    }
+}
@@ -0,0 +1,176 @@
+package com.example.demo.infrastructure.external;
+
+import com.example.demo.application.dto.notification.NotificationResponse;
+import com.example.demo.application.mapper.NotificationDtoMapper;
+import com.example.demo.domain.model.notification.Notification;
+import com.example.demo.domain.port.NotificationPort;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationSseAdapterTest {
+
+    private static final Long MEMBER_ID = 1L;
+
+    @Mock
+    private NotificationDtoMapper notificationDtoMapper;
+
+    @Mock
+    private NotificationPort notificationPort;
+
+    @Mock
+    private SseEmitter emitter;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private NotificationSseAdapter notificationSseAdapter;
+
+    @BeforeEach
+    void setUp() {
+        notificationSseAdapter = new NotificationSseAdapter(notificationDtoMapper, objectMapper, notificationPort);
+        ReflectionTestUtils.setField(notificationSseAdapter, "coalesceWindowMillis", 50L);
+
+        // 연결과 재전송 버퍼가 등록된 회원으로 준비한다
+        Map<String, SseEmitter> connections = new ConcurrentHashMap<>();
+        connections.put("connection", emitter);
+        memberConnections().put(MEMBER_ID, connections);
+        replayBuffers().put(MEMBER_ID, new SseReplayBuffer("a", 10, 0L));
+    }
+
+    @AfterEach
+    void tearDown() {
+        notificationSseAdapter.stop();
+    }
+
+    @Test
+    @DisplayName("묶음 시간 안의 이벤트는 상태 이벤트는 마지막 값만, 알림은 모두 순서대로 batch 배열 하나로 보낸다")
+    void shouldCoalesceEventsIntoBatch() throws Exception {
+        // given
+        Notification first = notification(10L);
+        Notification second = notification(11L);
+
+        // when
+        notificationSseAdapter.sendUnreadCount(MEMBER_ID, 1L);
+        notificationSseAdapter.sendRealTimeNotification(MEMBER_ID, first);
+        notificationSseAdapter.sendUnreadCount(MEMBER_ID, 2L);
+        notificationSseAdapter.sendRealTimeNotification(MEMBER_ID, second);
+
+        // then
+        List<String> frames = sentFrames(1);
+        assertThat(frames.getFirst()).contains("id:a:1:11\n").contains("event:batch\n");
+
+        JsonNode batch = objectMapper.readTree(dataOf(frames.getFirst()));
+        assertThat(batch.isArray()).isTrue();
+        assertThat(batch).hasSize(3);
+        assertThat(batch.get(0).get("event").asText()).isEqualTo("notification");
+        assertThat(batch.get(0).get("data").get("notificationId").asLong()).isEqualTo(10L);
+        assertThat(batch.get(1).get("event").asText()).isEqualTo("unread-count");
+        assertThat(batch.get(1).get("data").get("unreadCount").asLong()).isEqualTo(2L);
+        assertThat(batch.get(2).get("event").asText()).isEqualTo("notification");
+        assertThat(batch.get(2).get("data").get("notificationId").asLong()).isEqualTo(11L);
+        // 묶음 원소에는 event와 data만 직렬화된다
+        batch.forEach(event -> assertThat(event.fieldNames()).toIterable().containsExactly("event", "data"));
+    }
+
+    @Test
+    @DisplayName("묶음 시간 안의 이벤트가 하나면 batch로 감싸지 않고 원래 이벤트로 보낸다")
+    void shouldSendSingleEventWithoutBatch() throws Exception {
+        // when
+        notificationSseAdapter.sendUnreadCount(MEMBER_ID, 3L);
+
+        // then
+        List<String> frames = sentFrames(1);
+        assertThat(frames.getFirst())
+                .contains("id:a:1:0\n")
+                .contains("event:unread-count\n")
+                .contains("data:{\"unreadCount\":3}");
+    }
+
+    @Test
+    @DisplayName("묶음 시간이 0이면 모으지 않고 이벤트마다 바로 보낸다")
+    void shouldSendImmediatelyWhenCoalescingIsDisabled() throws Exception {
+        // given
+        ReflectionTestUtils.setField(notificationSseAdapter, "coalesceWindowMillis", 0L);
+
+        // when
+        notificationSseAdapter.sendUnreadCount(MEMBER_ID, 1L);
+        notificationSseAdapter.sendUnreadCount(MEMBER_ID, 2L);
+
+        // then
+        List<String> frames = sentFrames(2);
+        assertThat(frames.get(0)).contains("id:a:1:0\n").contains("event:unread-count\n").contains("data:{\"unreadCount\":1}");
+        assertThat(frames.get(1)).contains("id:a:2:0\n").contains("event:unread-count\n").contains("data:{\"unreadCount\":2}");
+    }
+
+    @Test
+    @DisplayName("전송에 실패한 연결은 제거한다")
+    void shouldRemoveFailedConnection() throws Exception {
+        // given
+        ReflectionTestUtils.setField(notificationSseAdapter, "coalesceWindowMillis", 0L);
+        doThrow(new IOException("broken pipe")).when(emitter).send(any(SseEventBuilder.class));
+
+        // when
+        notificationSseAdapter.sendUnreadCount(MEMBER_ID, 1L);
+
+        // then
+        verify(emitter).completeWithError(any());
+        assertThat(notificationSseAdapter.isConnected(MEMBER_ID)).isFalse();
+        assertThat(notificationSseAdapter.isStreaming(MEMBER_ID)).isTrue(); // 재전송 버퍼는 보관 시간 동안 유지
+    }
+
+    private Notification notification(Long id) {
+        Notification notification = mock(Notification.class);
+        when(notification.getId()).thenReturn(id);
+        when(notificationDtoMapper.toNotificationResponse(notification))
+                .thenReturn(new NotificationResponse(id, null, null, null, false, null));
+        return notification;
+    }
+
+    /**
+     * 연결로 보낸 프레임을 SSE 텍스트 형식으로 펼쳐 반환한다.
+     */
+    private List<String> sentFrames(int expected) throws Exception {
+        ArgumentCaptor<SseEventBuilder> captor = ArgumentCaptor.forClass(SseEventBuilder.class);
+        verify(emitter, timeout(1000).times(expected)).send(captor.capture());
+        return captor.getAllValues().stream()
+                .map(builder -> builder.build().stream()
+                        .map(data -> data.getData().toString())
+                        .collect(Collectors.joining()))
+                .toList();
+    }
+
+    private static String dataOf(String frame) {
+        int start = frame.indexOf("data:") + "data:".length();
+        return frame.substring(start, frame.indexOf('\n', start));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, Map<String, SseEmitter>> memberConnections() {
+        return (Map<Long, Map<String, SseEmitter>>) ReflectionTestUtils.getField(notificationSseAdapter, "memberConnections");
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, SseReplayBuffer> replayBuffers() {
+        return (Map<Long, SseReplayBuffer>) ReflectionTestUtils.getField(notificationSseAdapter, "replayBuffers");
+    }
+}
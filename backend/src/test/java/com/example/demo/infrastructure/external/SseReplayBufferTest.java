@@ -0,0 +1,59 @@
+package com.example.demo.infrastructure.external;
+
+import com.example.demo.infrastructure.external.SseReplayBuffer.EventId;
+import com.example.demo.infrastructure.external.SseReplayBuffer.Frame;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SseReplayBufferTest {
+
+    @Test
+    @DisplayName("마지막으로 받은 이벤트 이후의 프레임만 재전송 대상으로 반환한다")
+    void shouldReturnFramesAfterLastEventId() {
+        // given
+        SseReplayBuffer buffer = new SseReplayBuffer("a", 10, 5L);
+        Frame first = buffer.append("notification", "{}", 7L);
+        Frame second = buffer.append("unread-count", "{}", 0L);
+        Frame third = buffer.append("notification", "{}", 9L);
+
+        // when
+        Optional<List<Frame>> missed = buffer.framesAfter(EventId.parse(first.id()).orElseThrow());
+
+        // then
+        assertThat(missed).hasValue(List.of(second, third));
+        assertThat(buffer.framesAfter(EventId.parse(third.id()).orElseThrow())).hasValue(List.of());
+        assertThat(first.id()).isEqualTo("a:1:7");
+        assertThat(second.id()).isEqualTo("a:2:7");
+    }
+
+    @Test
+    @DisplayName("버퍼가 넘쳤거나 다른 버퍼의 ID이면 재전송할 수 없다")
+    void shouldRejectOverrunOrForeignEventId() {
+        // given
+        SseReplayBuffer buffer = new SseReplayBuffer("a", 2, 0L);
+        Frame first = buffer.append("notification", "{}", 1L);
+        Frame second = buffer.append("notification", "{}", 2L);
+        buffer.append("notification", "{}", 3L);
+        buffer.append("notification", "{}", 4L);
+
+        // when & then
+        assertThat(buffer.framesAfter(EventId.parse(first.id()).orElseThrow())).isEmpty();
+        assertThat(buffer.framesAfter(EventId.parse(second.id()).orElseThrow())).hasValueSatisfying(frames -> assertThat(frames).hasSize(2));
+        assertThat(buffer.framesAfter(new EventId("b", 3L, 3L))).isEmpty();
+        assertThat(buffer.framesAfter(new EventId("a", 9L, 3L))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("형식이 맞지 않는 Last-Event-ID는 무시한다")
+    void shouldIgnoreMalformedEventId() {
+        assertThat(EventId.parse(null)).isEmpty();
+        assertThat(EventId.parse("abc")).isEmpty();
+        assertThat(EventId.parse("a:x:1")).isEmpty();
+        assertThat(EventId.parse(" a:3:10 ")).hasValue(new EventId("a", 3L, 10L));
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.demo.infrastructure.persistence.adapter;
+
+import com.example.demo.domain.model.notification.NotificationOutboxMessage;
+import com.example.demo.domain.model.notification.OutboxChannel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(NotificationOutboxPortAdapter.class)
+class NotificationOutboxPortAdapterTest {
+
+    @Autowired
+    private NotificationOutboxPortAdapter notificationOutboxPortAdapter;
+
+    @Test
+    @DisplayName("선점된 메시지는 선점 시간이 지나기 전까지 다시 선점되지 않고, SSE 메시지는 선점되지 않는다")
+    void shouldClaimMessageOnce() {
+        // given
+        notificationOutboxPortAdapter.save(NotificationOutboxMessage.realtime(1L, 10L));
+        notificationOutboxPortAdapter.save(NotificationOutboxMessage.email(2L, "{\"n\":1}"));
+        notificationOutboxPortAdapter.save(NotificationOutboxMessage.email(3L, "{\"n\":2}"));
+        LocalDateTime now = LocalDateTime.now().plusSeconds(1);
+
+        // when
+        List<NotificationOutboxMessage> first = notificationOutboxPortAdapter.claimDue(OutboxChannel.EMAIL, now, now.plusSeconds(60), 10);
+        List<NotificationOutboxMessage> second = notificationOutboxPortAdapter.claimDue(OutboxChannel.EMAIL, now.plusSeconds(30), now.plusSeconds(90), 10);
+        List<NotificationOutboxMessage> expired = notificationOutboxPortAdapter.claimDue(OutboxChannel.EMAIL, now.plusSeconds(61), now.plusSeconds(121), 10);
+
+        // then
+        assertThat(first).extracting(NotificationOutboxMessage::memberId).containsExactly(2L, 3L);
+        assertThat(first.getFirst().payload()).isEqualTo("{\"n\":1}");
+        assertThat(second).isEmpty();
+        assertThat(expired).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("재시도 메시지는 다음 발송 시각 이후에 시도 횟수가 늘어난 채로 선점되고, 실패/삭제된 메시지는 선점되지 않는다")
+    void shouldRescheduleAndRemoveMessages() {
+        // given
+        notificationOutboxPortAdapter.save(NotificationOutboxMessage.email(1L, "{}"));
+        notificationOutboxPortAdapter.save(NotificationOutboxMessage.email(2L, "{}"));
+        notificationOutboxPortAdapter.save(NotificationOutboxMessage.email(3L, "{}"));
+        LocalDateTime now = LocalDateTime.now().plusSeconds(1);
+        List<NotificationOutboxMessage> claimed = notificationOutboxPortAdapter.claimDue(OutboxChannel.EMAIL, now, now.plusSeconds(60), 10);
+
+        // when
+        notificationOutboxPortAdapter.reschedule(claimed.get(0).id(), now.plusSeconds(10));
+        notificationOutboxPortAdapter.markFailed(claimed.get(1).id());
+        notificationOutboxPortAdapter.deleteAll(List.of(claimed.get(2).id()));
+
+        // then
+        assertThat(notificationOutboxPortAdapter.claimDue(OutboxChannel.EMAIL, now.plusSeconds(5), now.plusSeconds(65), 10)).isEmpty();
+        List<NotificationOutboxMessage> retried = notificationOutboxPortAdapter.claimDue(OutboxChannel.EMAIL, now.plusSeconds(10), now.plusSeconds(70), 10);
+        assertThat(retried).singleElement().satisfies(message -> {
+            assertThat(message.memberId()).isEqualTo(1L);
+            assertThat(message.attempts()).isEqualTo(1);
+        });
+        assertThat(notificationOutboxPortAdapter.claimDue(OutboxChannel.EMAIL, now.plusSeconds(200), now.plusSeconds(260), 10))
+                .extracting(NotificationOutboxMessage::memberId)
+                .containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("SSE 메시지는 여러 번 조회해도 같은 메시지가 조회되고, 보관 시간이 지나면 삭제된다")
+    void shouldReadRealtimeMessagesWithoutClaiming() {
+        // given
+        LocalDateTime since = LocalDateTime.now().minusSeconds(1);
+        notificationOutboxPortAdapter.save(NotificationOutboxMessage.realtime(1L, 10L));
+        notificationOutboxPortAdapter.save(NotificationOutboxMessage.realtime(2L, 11L));
+        notificationOutboxPortAdapter.save(NotificationOutboxMessage.email(3L, "{}"));
+
+        // when
+        List<NotificationOutboxMessage> first = notificationOutboxPortAdapter.findRealtimeAfter(since, 0L, 10);
+        List<NotificationOutboxMessage> next = notificationOutboxPortAdapter.findRealtimeAfter(since, first.getFirst().id(), 10);
+        int deleted = notificationOutboxPortAdapter.deleteRealtimeCreatedBefore(LocalDateTime.now().plusSeconds(1));
+
+        // then
+        assertThat(first).extracting(NotificationOutboxMessage::notificationId).containsExactly(10L, 11L);
+        assertThat(next).extracting(NotificationOutboxMessage::notificationId).containsExactly(11L);
+        assertThat(deleted).isEqualTo(2);
+        assertThat(notificationOutboxPortAdapter.findRealtimeAfter(since, 0L, 10)).isEmpty();
+        assertThat(notificationOutboxPortAdapter.claimDue(OutboxChannel.EMAIL, LocalDateTime.now().plusSeconds(1),
+                LocalDateTime.now().plusSeconds(60), 10)).hasSize(1);
+    }
+}
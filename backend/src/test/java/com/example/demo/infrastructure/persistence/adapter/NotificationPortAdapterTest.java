@@ -0,0 +1,201 @@
+package com.example.demo.infrastructure.persistence.adapter;
+
+import com.example.demo.domain.model.CursorResult;
+import com.example.demo.domain.model.Member;
+import com.example.demo.domain.model.notification.Notification;
+import com.example.demo.domain.model.notification.NotificationQuery;
+import com.example.demo.domain.model.notification.NotificationSortOrder;
+import com.example.demo.domain.model.notification.ReadStatus;
+import com.example.demo.domain.port.MemberPort;
+import com.example.demo.domain.port.WaitingPort;
+import com.example.demo.infrastructure.persistence.entity.NotificationEntity;
+import com.example.demo.infrastructure.persistence.mapper.NotificationEntityMapper;
+import com.example.demo.infrastructure.persistence.repository.NotificationJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+@DataJpaTest
+@Import({NotificationPortAdapter.class, NotificationEntityMapper.class, JacksonAutoConfiguration.class,
+        com.example.demo.infrastructure.persistence.config.QueryDslConfig.class})
+class NotificationPortAdapterTest {
+
+    @Autowired
+    private NotificationPortAdapter notificationPortAdapter;
+
+    @Autowired
+    private NotificationJpaRepository notificationJpaRepository;
+
+    @MockitoBean
+    private MemberPort memberPort;
+
+    @MockitoBean
+    private WaitingPort waitingPort;
+
+    private NotificationEntity unread1;
+    private NotificationEntity unread2;
+    private NotificationEntity read1;
+    private NotificationEntity otherMembers;
+
+    @BeforeEach
+    void setUp() {
+        notificationJpaRepository.deleteAll();
+        unread1 = notificationJpaRepository.save(entity(1L, ReadStatus.UNREAD));
+        unread2 = notificationJpaRepository.save(entity(1L, ReadStatus.UNREAD));
+        read1 = notificationJpaRepository.save(entity(1L, ReadStatus.READ));
+        otherMembers = notificationJpaRepository.save(entity(2L, ReadStatus.UNREAD));
+    }
+
+    @Nested
+    @DisplayName("목록 키셋 조회 테스트")
+    class FindAllByTest {
+
+        @BeforeEach
+        void setUpMember() {
+            given(memberPort.findAllByIds(any())).willReturn(Map.of(1L, new Member(1L, "testUser", "test@example.com")));
+        }
+
+        @Test
+        @DisplayName("읽지 않은 알림 우선 정렬은 (status_rank, created_at, id) 커서로 중복/누락 없이 페이지를 넘긴다")
+        void shouldPageUnreadFirstWithCompositeCursor() {
+            // when
+            List<Long> ids = pageThrough(null, NotificationSortOrder.UNREAD_FIRST);
+
+            // then
+            assertThat(ids).containsExactly(unread2.getId(), unread1.getId(), read1.getId());
+        }
+
+        @Test
+        @DisplayName("상태 필터 조회는 (created_at, id) 커서로 해당 회원의 알림만 조회한다")
+        void shouldPageFilteredByStatus() {
+            // when
+            List<Long> ids = pageThrough(ReadStatus.UNREAD, NotificationSortOrder.TIME_DESC);
+
+            // then
+            assertThat(ids).containsExactly(unread2.getId(), unread1.getId());
+        }
+
+        @Test
+        @DisplayName("재연결 재전송용으로 기준 ID 이후의 본인 알림을 오름차순으로 조회한다")
+        void shouldFindNotificationsAfterId() {
+            // when
+            List<Notification> result = notificationPortAdapter.findAllAfter(1L, unread1.getId(), 10);
+
+            // then
+            assertThat(result).extracting(Notification::getId).containsExactly(unread2.getId(), read1.getId());
+            assertThat(notificationPortAdapter.findLatestNotificationId(1L)).isEqualTo(read1.getId());
+            assertThat(notificationPortAdapter.findLatestNotificationId(3L)).isZero();
+        }
+
+        private List<Long> pageThrough(ReadStatus status, NotificationSortOrder sortOrder) {
+            List<Long> ids = new ArrayList<>();
+            Long lastId = null;
+            CursorResult<Notification> page;
+            do {
+                page = notificationPortAdapter.findAllBy(NotificationQuery.builder()
+                        .memberId(1L)
+                        .lastNotificationId(lastId)
+                        .readStatus(status)
+                        .pageSize(1)
+                        .sortOrder(sortOrder)
+                        .build());
+                page.content().forEach(notification -> ids.add(notification.getId()));
+                lastId = page.content().isEmpty() ? null : page.content().getLast().getId();
+            } while (page.hasNext());
+            return ids;
+        }
+    }
+
+    @Nested
+    @DisplayName("일괄 읽음/삭제 테스트")
+    class BulkTest {
+
+        @Test
+        @DisplayName("전체 읽음 처리는 본인의 읽지 않은 알림만 갱신한다")
+        void shouldMarkOnlyOwnUnreadNotifications() {
+            // when
+            int updated = notificationPortAdapter.markAllAsRead(1L, LocalDateTime.now());
+
+            // then
+            assertThat(updated).isEqualTo(2);
+            assertThat(notificationPortAdapter.countUnread(1L)).isZero();
+            assertThat(notificationPortAdapter.countUnread(2L)).isEqualTo(1);
+            assertThat(notificationJpaRepository.findById(unread1.getId()).orElseThrow().getReadAt()).isNotNull();
+        }
+
+        @Test
+        @DisplayName("ID 목록 삭제는 다른 회원의 알림 ID를 조건에서 제외한다")
+        void shouldDeleteOnlyOwnNotificationsById() {
+            // when
+            int deleted = notificationPortAdapter.deleteAllByIds(1L, List.of(unread1.getId(), otherMembers.getId()));
+
+            // then
+            assertThat(deleted).isEqualTo(1);
+            assertThat(notificationJpaRepository.existsById(unread1.getId())).isFalse();
+            assertThat(notificationJpaRepository.existsById(otherMembers.getId())).isTrue();
+        }
+
+        @Test
+        @DisplayName("읽은 알림 전체 삭제는 본인의 읽은 알림만 삭제한다")
+        void shouldDeleteOnlyOwnReadNotifications() {
+            // when
+            int deleted = notificationPortAdapter.deleteAllRead(1L);
+
+            // then
+            assertThat(deleted).isEqualTo(1);
+            assertThat(notificationJpaRepository.existsById(read1.getId())).isFalse();
+            assertThat(notificationJpaRepository.existsById(unread2.getId())).isTrue();
+        }
+
+        @Test
+        @DisplayName("보관 기간 삭제는 기준 시각 이전 알림을 오래된 순으로 최대 건수만큼 삭제한다")
+        void shouldDeleteOldestNotificationsInChunk() {
+            // when
+            int deleted = notificationPortAdapter.deleteCreatedBefore(LocalDateTime.now().plusMinutes(1), 2);
+
+            // then
+            assertThat(deleted).isEqualTo(2);
+            assertThat(notificationJpaRepository.existsById(unread1.getId())).isFalse();
+            assertThat(notificationJpaRepository.existsById(unread2.getId())).isFalse();
+            assertThat(notificationJpaRepository.count()).isEqualTo(2);
+            assertThat(notificationPortAdapter.deleteCreatedBefore(LocalDateTime.now().minusDays(1), 2)).isZero();
+        }
+
+        @Test
+        @DisplayName("회원별 읽지 않은 알림 수를 한 번에 조회한다")
+        void shouldCountUnreadByMembers() {
+            // when
+            Map<Long, Long> counts = notificationPortAdapter.countUnreadByMemberIds(List.of(1L, 2L, 3L));
+
+            // then
+            assertThat(counts).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 2L, 2L, 1L));
+        }
+    }
+
+    private NotificationEntity entity(Long memberId, ReadStatus status) {
+        return NotificationEntity.builder()
+                .memberId(memberId)
+                .sourceDomain("Waiting")
+                .sourceId(10L)
+                .eventType("ENTER_NOW")
+                .content("알림")
+                .status(status)
+                .readAt(status == ReadStatus.READ ? LocalDateTime.now() : null)
+                .build();
+    }
+}
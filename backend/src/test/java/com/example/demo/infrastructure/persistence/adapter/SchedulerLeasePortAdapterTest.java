@@ -0,0 +1,52 @@
+package com.example.demo.infrastructure.persistence.adapter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(SchedulerLeasePortAdapter.class)
+class SchedulerLeasePortAdapterTest {
+
+    private static final String JOB = "test-job";
+
+    @Autowired
+    private SchedulerLeasePortAdapter schedulerLeasePortAdapter;
+
+    private final LocalDateTime now = LocalDateTime.of(2025, 1, 1, 14, 0);
+
+    @Test
+    @DisplayName("임대가 유효한 동안에는 보유 노드만 획득/연장할 수 있다")
+    void shouldGrantLeaseToSingleOwner() {
+        // when
+        boolean first = schedulerLeasePortAdapter.tryAcquire(JOB, "node-a", now, now.plusSeconds(90));
+        boolean other = schedulerLeasePortAdapter.tryAcquire(JOB, "node-b", now.plusSeconds(10), now.plusSeconds(100));
+        boolean renewed = schedulerLeasePortAdapter.tryAcquire(JOB, "node-a", now.plusSeconds(60), now.plusSeconds(150));
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(other).isFalse();
+        assertThat(renewed).isTrue();
+    }
+
+    @Test
+    @DisplayName("임대가 만료되면 다른 노드가 이어받는다")
+    void shouldHandOverExpiredLease() {
+        // given
+        schedulerLeasePortAdapter.tryAcquire(JOB, "node-a", now, now.plusSeconds(90));
+
+        // when
+        boolean takenOver = schedulerLeasePortAdapter.tryAcquire(JOB, "node-b", now.plusSeconds(91), now.plusSeconds(181));
+        boolean previousOwner = schedulerLeasePortAdapter.tryAcquire(JOB, "node-a", now.plusSeconds(120), now.plusSeconds(210));
+
+        // then
+        assertThat(takenOver).isTrue();
+        assertThat(previousOwner).isFalse();
+    }
+}
@@ -5,6 +5,8 @@ import com.example.demo.domain.model.popup.Popup;
 import com.example.demo.domain.model.waiting.Waiting;
 import com.example.demo.domain.model.waiting.WaitingQuery;
 import com.example.demo.domain.model.waiting.WaitingStatus;
+import com.example.demo.domain.model.waiting.WaitingListItem;
+import com.example.demo.domain.model.waiting.WaitingSummary;
 import com.example.demo.infrastructure.persistence.entity.WaitingEntity;
 import com.example.demo.infrastructure.persistence.mapper.WaitingEntityMapper;
 import com.example.demo.infrastructure.persistence.repository.WaitingJpaRepository;
@@ -12,6 +14,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import jakarta.persistence.EntityManager;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
@@ -19,12 +22,19 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static com.example.demo.domain.model.waiting.WaitingStatus.CANCELED;
 import static com.example.demo.domain.model.waiting.WaitingStatus.WAITING;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @DataJpaTest
 @Import({WaitingPortAdapter.class, WaitingEntityMapper.class, com.example.demo.infrastructure.persistence.config.QueryDslConfig.class})
@@ -36,6 +46,9 @@ class WaitingPortAdapterTest {
     @Autowired
     private WaitingJpaRepository waitingJpaRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @MockitoBean
     private PopupPortAdapter popupPortAdapter;
 
@@ -85,6 +98,63 @@ class WaitingPortAdapterTest {
         }
     }
 
+    @Nested
+    @DisplayName("saveAll 메서드 테스트")
+    class SaveAllTest {
+        @Test
+        @DisplayName("기존 대기들의 변경 사항을 배치로 반영하고 반영된 행 수를 반환한다")
+        void shouldBatchUpdateAndReturnAffectedRows() {
+            // given
+            Waiting first = waitingPortAdapter.save(new Waiting(null, popup, "방문객", member, "visitor@email.com", 2, 0, WAITING, LocalDateTime.now()));
+            Waiting second = waitingPortAdapter.save(new Waiting(null, popup, "방문객", member, "visitor@email.com", 2, 1, WAITING, LocalDateTime.now()));
+
+            // when
+            int affected = waitingPortAdapter.saveAll(List.of(first.markAsCanEnter(), second.markAsNoShow()));
+
+            // then
+            assertThat(affected).isEqualTo(2);
+            assertThat(waitingJpaRepository.findById(first.id())).get()
+                    .satisfies(entity -> assertThat(entity.getCanEnterAt()).isNotNull());
+            assertThat(waitingJpaRepository.findById(second.id())).get()
+                    .satisfies(entity -> assertThat(entity.getStatus()).isEqualTo(WaitingStatus.NO_SHOW));
+        }
+
+        @Test
+        @DisplayName("입장 처리된 대기의 입장 시각도 배치로 반영한다")
+        void shouldBatchUpdateEnteredAt() {
+            // given
+            Waiting waiting = waitingPortAdapter.save(new Waiting(null, popup, "방문객", member, "visitor@email.com", 2, 0, WAITING, LocalDateTime.now()));
+
+            // when
+            waitingPortAdapter.saveAll(List.of(waiting.enterWithin(1)));
+
+            // then
+            assertThat(waitingJpaRepository.findById(waiting.id())).get()
+                    .satisfies(entity -> {
+                        assertThat(entity.getStatus()).isEqualTo(WaitingStatus.VISITED);
+                        assertThat(entity.getEnteredAt()).isNotNull();
+                    });
+        }
+
+        @Test
+        @DisplayName("배치 갱신한 대기 엔티티만 영속성 컨텍스트에서 분리하고 다른 관리 엔티티는 유지한다")
+        void shouldDetachOnlyUpdatedEntities() {
+            // given
+            Waiting updated = waitingPortAdapter.save(new Waiting(null, popup, "방문객", member, "visitor@email.com", 2, 0, WAITING, LocalDateTime.now()));
+            Waiting untouched = waitingPortAdapter.save(new Waiting(null, popup, "방문객", member, "visitor@email.com", 2, 1, WAITING, LocalDateTime.now()));
+            WaitingEntity updatedEntity = waitingJpaRepository.findById(updated.id()).orElseThrow();
+            WaitingEntity untouchedEntity = waitingJpaRepository.findById(untouched.id()).orElseThrow();
+
+            // when
+            waitingPortAdapter.saveAll(List.of(updated.markAsCanEnter()));
+
+            // then
+            assertThat(entityManager.contains(updatedEntity)).isFalse();
+            assertThat(entityManager.contains(untouchedEntity)).isTrue();
+            assertThat(waitingJpaRepository.findById(updated.id()).orElseThrow().getCanEnterAt()).isNotNull();
+        }
+    }
+
     @Nested
     @DisplayName("getNextWaitingNumber 메서드 테스트")
     class GetNextWaitingNumberTest {
@@ -129,7 +199,42 @@ class WaitingPortAdapterTest {
             createAndSaveWaitingEntity(WAITING, 3);
 
 
-            given(popupPortAdapter.findById(popup.getId())).willReturn(Optional.of(popup));
+            given(popupPortAdapter.findAllByIds(Set.of(popup.getId()))).willReturn(Map.of(popup.getId(), popup));
+            given(memberPortAdapter.findAllByIds(Set.of(member.id()))).willReturn(Map.of(member.id(), member));
+        }
+
+        @Test
+        @DisplayName("lastWaitingId 이후부터 다음 페이지가 중복 없이 조회된다")
+        void shouldSeekNextPageAfterLastWaitingId() {
+            // given
+            List<Waiting> firstPage = waitingPortAdapter.findByQuery(new WaitingQuery.ForVisitHistory(member.id(), 2, null, null));
+
+            // when
+            List<Waiting> secondPage = waitingPortAdapter.findByQuery(
+                    new WaitingQuery.ForVisitHistory(member.id(), 2, firstPage.getLast().id(), null));
+
+            // then
+            assertThat(firstPage).extracting(Waiting::status).containsExactly(WAITING, WAITING);
+            assertThat(firstPage).extracting(Waiting::waitingNumber).containsExactly(3, 1);
+            assertThat(secondPage).extracting(Waiting::status).containsExactly(CANCELED);
+        }
+
+        @Test
+        @DisplayName("여러 행을 조회해도 팝업/회원은 한 번씩만 일괄 로딩되고 같은 인스턴스를 공유한다")
+        void shouldBatchLoadPopupAndMemberOnce() {
+            // given
+            WaitingQuery query = WaitingQuery.forPopup(popup.getId(), WAITING);
+
+            // when
+            List<Waiting> result = waitingPortAdapter.findByQuery(query);
+
+            // then
+            assertThat(result).hasSize(2);
+            assertThat(result).allMatch(waiting -> waiting.popup() == popup && waiting.member() == member);
+            verify(popupPortAdapter, times(1)).findAllByIds(Set.of(popup.getId()));
+            verify(memberPortAdapter, times(1)).findAllByIds(Set.of(member.id()));
+            verify(popupPortAdapter, never()).findById(any());
+            verify(memberPortAdapter, never()).findById(any());
         }
 
         @Test
@@ -149,6 +254,53 @@ class WaitingPortAdapterTest {
         }
     }
 
+    @Nested
+    @DisplayName("findSummaries 메서드 테스트")
+    class FindSummariesTest {
+
+        @Test
+        @DisplayName("팝업/회원을 로딩하지 않고 요약 정보만 조회한다")
+        void shouldFindSummariesWithoutHydration() {
+            // given
+            createAndSaveWaitingEntity(WAITING, 2);
+            createAndSaveWaitingEntity(CANCELED, 1);
+            createAndSaveWaitingEntity(WAITING, 0);
+
+            // when
+            List<WaitingSummary> result = waitingPortAdapter.findSummaries(WaitingQuery.forPopup(popup.getId(), WAITING));
+
+            // then
+            assertThat(result).extracting(WaitingSummary::waitingNumber).containsExactly(0, 2);
+            assertThat(result).allMatch(summary -> summary.memberId().equals(member.id()));
+            verifyNoInteractions(popupPortAdapter, memberPortAdapter);
+        }
+    }
+
+    @Nested
+    @DisplayName("findListItems/countByQuery 메서드 테스트")
+    class FindListItemsTest {
+
+        @Test
+        @DisplayName("대기 번호 순으로 요청한 페이지만 조회하고 전체 수는 COUNT로 조회한다")
+        void shouldFindPageAndCount() {
+            // given
+            for (int number = 4; number >= 0; number--) {
+                createAndSaveWaitingEntity(WAITING, number);
+            }
+            createAndSaveWaitingEntity(CANCELED, 5);
+            WaitingQuery query = WaitingQuery.forPopup(popup.getId(), WAITING);
+
+            // when
+            List<WaitingListItem> secondPage = waitingPortAdapter.findListItems(query, 2, 2);
+            long count = waitingPortAdapter.countByQuery(query);
+
+            // then
+            assertThat(secondPage).extracting(WaitingListItem::waitingNumber).containsExactly(2, 3);
+            assertThat(count).isEqualTo(5);
+            verifyNoInteractions(popupPortAdapter, memberPortAdapter);
+        }
+    }
+
     private void createAndSaveWaitingEntity(WaitingStatus status, int waitingNumber) {
         WaitingEntity entity = WaitingEntity.builder()
                 .memberId(member.id())
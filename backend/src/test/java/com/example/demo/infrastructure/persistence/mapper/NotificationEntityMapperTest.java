@@ -0,0 +1,139 @@
+package com.example.demo.infrastructure.persistence.mapper;
+
+import com.example.demo.common.exception.BusinessException;
+import com.example.demo.domain.model.Member;
+import com.example.demo.domain.model.notification.Notification;
+import com.example.demo.domain.model.notification.ReadStatus;
+import com.example.demo.domain.model.notification.RelatedResource;
+import com.example.demo.domain.model.waiting.Waiting;
+import com.example.demo.domain.model.waiting.WaitingDomainEvent;
+import com.example.demo.domain.model.waiting.WaitingEventType;
+import com.example.demo.infrastructure.persistence.entity.NotificationEntity;
+import com.example.demo.infrastructure.persistence.mapper.NotificationEntityMapper.DomainSpecificMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class NotificationEntityMapperTest {
+
+    @Nested
+    @DisplayName("DomainSpecificMapper.toDomainAll 테스트")
+    class Test01 {
+
+        private final Member member = new Member(1L, "테스트 사용자", "test@example.com");
+        private final Waiting waiting = mock(Waiting.class);
+
+        @Test
+        @DisplayName("한 페이지의 회원/소스를 ID 집합으로 한 번씩 로드하고 같은 인스턴스를 공유한다")
+        public void test01() {
+            // given
+            when(waiting.id()).thenReturn(10L);
+            when(waiting.waitingNumber()).thenReturn(3);
+            List<Set<Long>> memberRequests = new ArrayList<>();
+            List<Set<Long>> sourceRequests = new ArrayList<>();
+            DomainSpecificMapper<Waiting> mapper = NotificationEntityMapper.forDomain(Waiting.class)
+                    .memberLoader(ids -> {
+                        memberRequests.add(ids);
+                        return Map.of(1L, member);
+                    })
+                    .sourceEntityLoader(ids -> {
+                        sourceRequests.add(ids);
+                        return Map.of(10L, waiting);
+                    })
+                    .domainEventFactory(context -> new WaitingDomainEvent(context.source(), WaitingEventType.valueOf(context.eventType())))
+                    .snapshotReader(snapshot -> List.of())
+                    .build();
+
+            List<NotificationEntity> entities = List.of(
+                    entity(3L, 10L, WaitingEventType.ENTER_NOW),
+                    entity(2L, 10L, WaitingEventType.ENTER_3TEAMS_BEFORE),
+                    entity(1L, 11L, WaitingEventType.WAITING_CONFIRMED)
+            );
+
+            // when
+            List<Notification> result = mapper.toDomainAll(entities);
+
+            // then
+            assertEquals(List.of(Set.of(1L)), memberRequests);
+            assertEquals(List.of(Set.of(10L, 11L)), sourceRequests);
+            assertEquals(List.of(3L, 2L, 1L), result.stream().map(Notification::getId).toList());
+            assertSame(result.get(0).getEvent().getSource(), result.get(1).getEvent().getSource());
+            assertSame(member, result.get(2).getMember());
+            assertNull(result.get(2).getEvent().getSource()); // 삭제된 대기는 소스 없이 변환
+            assertTrue(result.get(2).getRelatedResources().isEmpty());
+        }
+
+        @Test
+        @DisplayName("회원이 존재하지 않으면 예외가 발생한다")
+        public void test02() {
+            // given
+            DomainSpecificMapper<Waiting> mapper = NotificationEntityMapper.forDomain(Waiting.class)
+                    .memberLoader(ids -> Map.of())
+                    .sourceEntityLoader(ids -> Map.of(10L, waiting))
+                    .domainEventFactory(context -> new WaitingDomainEvent(context.source(), WaitingEventType.valueOf(context.eventType())))
+                    .snapshotReader(snapshot -> List.of())
+                    .build();
+
+            // when & then
+            assertThrows(BusinessException.class,
+                    () -> mapper.toDomainAll(List.of(entity(1L, 10L, WaitingEventType.ENTER_NOW))));
+        }
+
+        @Test
+        @DisplayName("스냅샷이 저장된 알림은 소스를 로드하지 않고 스냅샷으로 연관 리소스를 복원한다")
+        public void test03() {
+            // given
+            List<Set<Long>> sourceRequests = new ArrayList<>();
+            RelatedResource popupResource = new RelatedResource("POPUP", Map.of("id", 5, "storeName", "팝업"));
+            DomainSpecificMapper<Waiting> mapper = NotificationEntityMapper.forDomain(Waiting.class)
+                    .memberLoader(ids -> Map.of(1L, member))
+                    .sourceEntityLoader(ids -> {
+                        sourceRequests.add(ids);
+                        return Map.of();
+                    })
+                    .domainEventFactory(context -> new WaitingDomainEvent(context.source(), WaitingEventType.valueOf(context.eventType())))
+                    .snapshotReader(snapshot -> List.of(popupResource))
+                    .build();
+
+            NotificationEntity entity = NotificationEntity.builder()
+                    .id(1L)
+                    .memberId(1L)
+                    .sourceDomain("Waiting")
+                    .sourceId(10L)
+                    .eventType(WaitingEventType.ENTER_NOW.name())
+                    .content("알림")
+                    .status(ReadStatus.UNREAD)
+                    .snapshot("[]")
+                    .build();
+
+            // when
+            List<Notification> result = mapper.toDomainAll(List.of(entity));
+
+            // then
+            assertTrue(sourceRequests.isEmpty());
+            assertEquals(List.of(popupResource), result.getFirst().getRelatedResources());
+            assertEquals(WaitingEventType.ENTER_NOW.name(), result.getFirst().getEvent().getEventType());
+        }
+
+        private NotificationEntity entity(Long id, Long waitingId, WaitingEventType eventType) {
+            return NotificationEntity.builder()
+                    .id(id)
+                    .memberId(1L)
+                    .sourceDomain("Waiting")
+                    .sourceId(waitingId)
+                    .eventType(eventType.name())
+                    .content("알림")
+                    .status(ReadStatus.UNREAD)
+                    .build();
+        }
+    }
+}